@@ -0,0 +1,49 @@
+package elevators;
+
+import java.util.Random;
+
+final class BenchmarkFixtures {
+    private BenchmarkFixtures() {
+    }
+
+    static void populate(Elevator elevator, int maxFloors, int targetsPerCar, Random random) {
+        fillTargets(elevator, maxFloors, targetsPerCar, random);
+
+        int steps = random.nextInt(maxFloors);
+        for (int i = 0; i < steps; i++) {
+            elevator.step();
+        }
+
+        fillTargets(elevator, maxFloors, targetsPerCar, random);
+    }
+
+    static PassengerRequest[] randomRequests(int count, int maxFloors, Random random) {
+        PassengerRequest[] requests = new PassengerRequest[count];
+        for (int i = 0; i < count; i++) {
+            int floor = random.nextInt(maxFloors) + 1;
+            int targetFloor;
+            do {
+                targetFloor = random.nextInt(maxFloors) + 1;
+            } while (targetFloor == floor);
+
+            Direction direction = targetFloor > floor ? Direction.UP : Direction.DOWN;
+            requests[i] = new PassengerRequest(floor, direction, targetFloor, 0);
+        }
+        return requests;
+    }
+
+    private static void fillTargets(Elevator elevator, int maxFloors, int targetsPerCar, Random random) {
+        int limit = Math.min(targetsPerCar, maxFloors);
+        int attempts = 0;
+
+        while (elevator.getRequestCount() < limit && attempts < targetsPerCar * 16) {
+            int floor = random.nextInt(maxFloors) + 1;
+            int targetFloor = random.nextInt(maxFloors) + 1;
+            if (floor != targetFloor) {
+                Direction direction = targetFloor > floor ? Direction.UP : Direction.DOWN;
+                elevator.addPassengerRequest(floor, direction, targetFloor);
+            }
+            attempts++;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package elevators;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatcherBenchmark {
+    private static final int REQUEST_POOL_SIZE = 1024;
+
+    @Param({"4", "64", "512", "4096"})
+    public int elevators;
+
+    @Param({"10", "100", "500"})
+    public int floors;
+
+    @Param({"1", "8", "32"})
+    public int targetsPerCar;
+
+    @Param({"SCORE", "ETA"})
+    public String costModel;
+
+    private Dispatcher dispatcher;
+    private List<Elevator> fleet;
+    private PassengerRequest[] requests;
+    private int nextRequest;
+    private int nextElevator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LoggerUtil.setLevel(LogLevel.OFF);
+        Random random = new Random(42);
+
+        dispatcher = new Dispatcher(elevators, floors);
+        if (costModel.equals("ETA")) {
+            dispatcher.setCostModel(new EtaCostModel());
+        }
+        fleet = dispatcher.getElevators();
+        for (Elevator elevator : fleet) {
+            BenchmarkFixtures.populate(elevator, floors, targetsPerCar, random);
+        }
+
+        requests = BenchmarkFixtures.randomRequests(REQUEST_POOL_SIZE, floors, random);
+    }
+
+    @Benchmark
+    public Elevator selectBestElevator() {
+        PassengerRequest request = requests[nextRequest];
+        nextRequest = (nextRequest + 1) & (REQUEST_POOL_SIZE - 1);
+        return dispatcher.selectBestElevator(request);
+    }
+
+    /**
+     * Prices one car for one request under the selected cost model: SCORE goes through
+     * {@code calculateElevatorScore}, ETA through {@link EtaCostModel}.
+     */
+    @Benchmark
+    public void calculateAssignmentCost(Blackhole blackhole) {
+        PassengerRequest request = requests[nextRequest];
+        nextRequest = (nextRequest + 1) & (REQUEST_POOL_SIZE - 1);
+
+        Elevator elevator = fleet.get(nextElevator);
+        nextElevator = nextElevator + 1 == fleet.size() ? 0 : nextElevator + 1;
+
+        blackhole.consume(dispatcher.calculateAssignmentCost(elevator.getSnapshot(), request));
+    }
+}
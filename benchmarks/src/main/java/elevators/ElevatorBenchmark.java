@@ -0,0 +1,41 @@
+package elevators;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ElevatorBenchmark {
+    @Param({"10", "100", "500"})
+    public int floors;
+
+    @Param({"1", "8", "32", "128"})
+    public int targetsPerCar;
+
+    private Elevator elevator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LoggerUtil.setLevel(LogLevel.OFF);
+        Random random = new Random(42);
+
+        elevator = new Elevator(1, floors, random.nextInt(floors) + 1);
+        BenchmarkFixtures.populate(elevator, floors, targetsPerCar, random);
+    }
+
+    /**
+     * Measured single-threaded and without the elevator lock that {@code step()} holds around this call in
+     * production. The car is never started, so nothing else touches its targets; the uncontended lock is
+     * left out to keep the target search itself in focus.
+     */
+    @Benchmark
+    public int getOptimizedNextTarget() {
+        return elevator.getOptimizedNextTarget();
+    }
+}
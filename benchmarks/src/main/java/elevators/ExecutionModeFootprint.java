@@ -0,0 +1,144 @@
+package elevators;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * Idle footprint of each execution mode, then the cost of running it: every car gets a trip and the
+ * process-wide context switches and CPU time spent while they travel are divided by car-seconds.
+ */
+public class ExecutionModeFootprint {
+    private static final int FLOORS = 10;
+    private static final long LOAD_MILLIS = 5_000;
+    private static final long SEED = 42;
+
+    public static void main(String[] args) throws InterruptedException {
+        int cars = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        LoggerUtil.setLevel(LogLevel.OFF);
+
+        System.out.printf("%-18s %-8s %-12s %-12s %-12s %-14s %-14s %-16s%n",
+                "Mode", "Cars", "Heap B/car", "RSS B/car", "OS threads", "Ctx sw/car-s", "CPU us/car-s",
+                "Wake+stop us/car");
+        System.out.println("-".repeat(112));
+
+        for (ExecutionMode mode : ExecutionMode.values()) {
+            measure(mode, cars);
+        }
+    }
+
+    private static void measure(ExecutionMode mode, int cars) throws InterruptedException {
+        settle();
+        long heapBefore = usedHeap();
+        long rssBefore = residentSetSize();
+        int threadsBefore = ManagementFactory.getThreadMXBean().getThreadCount();
+
+        ElevatorRuntime runtime = new ElevatorRuntime(mode, 0);
+        List<Elevator> fleet = new ArrayList<>(cars);
+        for (int i = 1; i <= cars; i++) {
+            Elevator elevator = new Elevator(i, FLOORS, 1);
+            fleet.add(elevator);
+            runtime.start(elevator);
+        }
+
+        settle();
+        long heapPerCar = (usedHeap() - heapBefore) / cars;
+        long rssPerCar = rssBefore < 0 ? -1 : (residentSetSize() - rssBefore) / cars;
+        int threads = ManagementFactory.getThreadMXBean().getThreadCount() - threadsBefore;
+
+        Random random = new Random(SEED);
+        long switchesBefore = contextSwitches();
+        long cpuBefore = processCpuNanos();
+        long loadStart = System.nanoTime();
+        for (Elevator elevator : fleet) {
+            int target = 2 + random.nextInt(FLOORS - 1);
+            elevator.addPassengerRequest(new PassengerRequest(1, Direction.UP, target, System.currentTimeMillis()));
+        }
+        Thread.sleep(LOAD_MILLIS);
+        double carSeconds = cars * (System.nanoTime() - loadStart) / 1e9;
+        double switchesPerCarSecond = switchesBefore < 0 ? -1 : (contextSwitches() - switchesBefore) / carSeconds;
+        double cpuMicrosPerCarSecond = (processCpuNanos() - cpuBefore) / 1000.0 / carSeconds;
+        awaitIdle(fleet);
+
+        long start = System.nanoTime();
+        for (Elevator elevator : fleet) {
+            elevator.stopElevator();
+        }
+        for (Elevator elevator : fleet) {
+            elevator.awaitTermination(10_000);
+        }
+        double wakeMicros = (System.nanoTime() - start) / 1000.0 / cars;
+        runtime.shutdown();
+
+        System.out.printf("%-18s %-8d %-12d %-12d %-12d %-14.1f %-14.1f %-16.2f%n",
+                mode, cars, heapPerCar, rssPerCar, threads, switchesPerCarSecond, cpuMicrosPerCarSecond, wakeMicros);
+    }
+
+    private static void awaitIdle(List<Elevator> fleet) throws InterruptedException {
+        for (Elevator elevator : fleet) {
+            while (!elevator.getSnapshot().isIdle()) {
+                Thread.sleep(50);
+            }
+        }
+    }
+
+    private static void settle() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(200);
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long processCpuNanos() {
+        return ((com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean())
+                .getProcessCpuTime();
+    }
+
+    /**
+     * Voluntary plus involuntary switches summed over the live threads of this process. Carrier and pool
+     * threads outlive the load window, so their counts cover every car they ran.
+     */
+    private static long contextSwitches() {
+        long total = 0;
+        try (Stream<Path> tasks = Files.list(Path.of("/proc/self/task"))) {
+            for (Path task : (Iterable<Path>) tasks::iterator) {
+                try {
+                    for (String line : Files.readAllLines(task.resolve("status"))) {
+                        if (line.startsWith("voluntary_ctxt_switches:") ||
+                                line.startsWith("nonvoluntary_ctxt_switches:")) {
+                            total += Long.parseLong(line.replaceAll("[^0-9]", ""));
+                        }
+                    }
+                } catch (IOException e) {
+                    // The thread exited while being read; its switches are lost either way.
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            return -1;
+        }
+        return total;
+    }
+
+    private static long residentSetSize() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc/self/status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", "")) * 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            return -1;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,95 @@
+package elevators;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JournalBenchmark {
+    private static final int REQUEST_POOL_SIZE = 1024;
+    private static final int FLOORS = 100;
+
+    @Param({"NONE", "JOURNAL"})
+    public String journalMode;
+
+    @Param({"1", "10"})
+    public long groupCommitMillis;
+
+    private Path directory;
+    private RequestJournal journal;
+    private PassengerRequest[] templates;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+        private long time;
+
+        PassengerRequest next(PassengerRequest[] templates) {
+            PassengerRequest template = templates[next];
+            next = (next + 1) & (REQUEST_POOL_SIZE - 1);
+            return new PassengerRequest(template.getFloor(), template.getDirection(),
+                    template.getTargetFloor(), ++time);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        LoggerUtil.setLevel(LogLevel.OFF);
+        templates = BenchmarkFixtures.randomRequests(REQUEST_POOL_SIZE, FLOORS, new Random(42));
+        if (journalMode.equals("JOURNAL")) {
+            directory = Files.createTempDirectory("journal-bench");
+            journal = RequestJournal.open(directory, RequestJournal.DEFAULT_SEGMENT_SIZE, groupCommitMillis);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (journal == null) {
+            return;
+        }
+        journal.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public PassengerRequest requestLifecycle(Cursor cursor) {
+        PassengerRequest request = cursor.next(templates);
+        long time = request.getTimestamp();
+        int elevatorId = request.getFloor() & 7;
+
+        if (journal != null) {
+            journal.recordArrival(request);
+        }
+        request.markAssigned(time, elevatorId);
+        if (journal != null) {
+            journal.recordAssignment(request, elevatorId);
+        }
+        request.markBoarded(time + 1);
+        if (journal != null) {
+            journal.recordStop(elevatorId, request.getFloor(), time + 1);
+            journal.recordBoarding(request, elevatorId);
+        }
+        request.markDelivered(time + 2);
+        if (journal != null) {
+            journal.recordStop(elevatorId, request.getTargetFloor(), time + 2);
+            journal.recordDelivery(request, elevatorId);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,72 @@
+package elevators;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestQueueBenchmark {
+    private static final int CAPACITY = 1 << 16;
+    private static final int FLOORS = 100;
+
+    private LinkedBlockingQueue<PassengerRequest> objectQueue;
+    private PackedRequestBuffer packedBuffer;
+    private final PackedRequestBuffer.Sink sink = (header, timestampNanos) -> { };
+
+    @State(Scope.Thread)
+    public static class Producer {
+        private final RequestIdAllocator allocator = new RequestIdAllocator();
+        private int floor;
+
+        int nextFloor() {
+            floor = floor % (FLOORS - 1) + 1;
+            return floor;
+        }
+
+        int nextId() {
+            return allocator.next();
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        LoggerUtil.setLevel(LogLevel.OFF);
+        objectQueue = new LinkedBlockingQueue<>(CAPACITY);
+        packedBuffer = new PackedRequestBuffer(CAPACITY);
+    }
+
+    @Benchmark
+    @Group("objects")
+    @GroupThreads(3)
+    public boolean offerObject(Producer producer) {
+        int floor = producer.nextFloor();
+        return objectQueue.offer(new PassengerRequest(floor, Direction.UP, floor + 1));
+    }
+
+    @Benchmark
+    @Group("objects")
+    public PassengerRequest pollObject() {
+        return objectQueue.poll();
+    }
+
+    @Benchmark
+    @Group("packed")
+    @GroupThreads(3)
+    public boolean offerPacked(Producer producer) {
+        int floor = producer.nextFloor();
+        long header = PackedRequest.encode(producer.nextId(), floor, Direction.UP, floor + 1);
+        return packedBuffer.offer(header, System.nanoTime());
+    }
+
+    @Benchmark
+    @Group("packed")
+    public boolean pollPacked() {
+        return packedBuffer.poll(sink);
+    }
+}
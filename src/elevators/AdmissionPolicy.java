@@ -0,0 +1,18 @@
+package elevators;
+
+public enum AdmissionPolicy {
+    BLOCK("BLOCK"),
+    REJECT("REJECT"),
+    SHED_OLDEST("SHED_OLDEST");
+
+    private final String symbol;
+
+    AdmissionPolicy(String symbol) {
+        this.symbol = symbol;
+    }
+
+    @Override
+    public String toString() {
+        return symbol;
+    }
+}
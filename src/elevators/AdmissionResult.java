@@ -0,0 +1,26 @@
+package elevators;
+
+public enum AdmissionResult {
+    ACCEPTED("ACCEPTED", true),
+    ACCEPTED_SHED_OLDEST("ACCEPTED_SHED_OLDEST", true),
+    REJECTED_FULL("REJECTED_FULL", false),
+    REJECTED_STOPPED("REJECTED_STOPPED", false),
+    REJECTED_UNROUTABLE("REJECTED_UNROUTABLE", false);
+
+    private final String symbol;
+    private final boolean accepted;
+
+    AdmissionResult(String symbol, boolean accepted) {
+        this.symbol = symbol;
+        this.accepted = accepted;
+    }
+
+    public boolean isAccepted() {
+        return accepted;
+    }
+
+    @Override
+    public String toString() {
+        return symbol;
+    }
+}
@@ -0,0 +1,83 @@
+package elevators;
+
+import java.util.Arrays;
+
+public final class AssignmentSolver {
+    public static final int UNASSIGNED = -1;
+
+    private AssignmentSolver() {
+    }
+
+    public static int[] solve(double[][] cost) {
+        int rows = cost.length;
+        if (rows == 0) {
+            return new int[0];
+        }
+
+        int columns = cost[0].length;
+        if (rows > columns) {
+            throw new IllegalArgumentException("Rows (" + rows + ") must not exceed columns (" + columns + ")");
+        }
+
+        double[] rowPotential = new double[rows + 1];
+        double[] columnPotential = new double[columns + 1];
+        int[] rowForColumn = new int[columns + 1];
+        int[] way = new int[columns + 1];
+        double[] minSlack = new double[columns + 1];
+        boolean[] used = new boolean[columns + 1];
+
+        for (int row = 1; row <= rows; row++) {
+            rowForColumn[0] = row;
+            int column = 0;
+            Arrays.fill(minSlack, Double.POSITIVE_INFINITY);
+            Arrays.fill(used, false);
+
+            do {
+                used[column] = true;
+                int currentRow = rowForColumn[column];
+                double delta = Double.POSITIVE_INFINITY;
+                int nextColumn = 0;
+
+                for (int j = 1; j <= columns; j++) {
+                    if (used[j]) {
+                        continue;
+                    }
+                    double slack = cost[currentRow - 1][j - 1] - rowPotential[currentRow] - columnPotential[j];
+                    if (slack < minSlack[j]) {
+                        minSlack[j] = slack;
+                        way[j] = column;
+                    }
+                    if (minSlack[j] < delta) {
+                        delta = minSlack[j];
+                        nextColumn = j;
+                    }
+                }
+
+                for (int j = 0; j <= columns; j++) {
+                    if (used[j]) {
+                        rowPotential[rowForColumn[j]] += delta;
+                        columnPotential[j] -= delta;
+                    } else {
+                        minSlack[j] -= delta;
+                    }
+                }
+                column = nextColumn;
+            } while (rowForColumn[column] != 0);
+
+            do {
+                int previousColumn = way[column];
+                rowForColumn[column] = rowForColumn[previousColumn];
+                column = previousColumn;
+            } while (column != 0);
+        }
+
+        int[] assignment = new int[rows];
+        Arrays.fill(assignment, UNASSIGNED);
+        for (int j = 1; j <= columns; j++) {
+            if (rowForColumn[j] != 0) {
+                assignment[rowForColumn[j] - 1] = j - 1;
+            }
+        }
+        return assignment;
+    }
+}
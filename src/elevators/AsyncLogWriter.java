@@ -0,0 +1,215 @@
+package elevators;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class AsyncLogWriter {
+    private final LogEvent[] ring;
+    private LogEvent[] batch;
+    private final LogOverflowPolicy overflowPolicy;
+    private final PrintStream out;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Condition drained = lock.newCondition();
+    private final Thread writerThread;
+    private final StringBuilder buffer = new StringBuilder(8192);
+
+    private int head;
+    private int count;
+    private long publishedCount;
+    private long writtenCount;
+    private long droppedCount;
+    private volatile boolean isRunning;
+
+    private long cachedSecond = Long.MIN_VALUE;
+    private String cachedTime = "";
+
+    public AsyncLogWriter(int capacity, LogOverflowPolicy overflowPolicy, PrintStream out) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+
+        this.ring = new LogEvent[capacity];
+        this.batch = new LogEvent[capacity];
+        for (int i = 0; i < capacity; i++) {
+            ring[i] = new LogEvent();
+            batch[i] = new LogEvent();
+        }
+
+        this.overflowPolicy = overflowPolicy;
+        this.out = out;
+        this.isRunning = true;
+        this.writerThread = new Thread(this::writeLoop, "Log-Writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    public boolean publishRow(long time, int elevatorId, String source, String action, String details) {
+        lock.lock();
+        try {
+            LogEvent slot = claimSlot();
+            if (slot == null) {
+                return false;
+            }
+            slot.setRow(time, elevatorId, source, action, details);
+            commitSlot();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean publishMovement(long time, int elevatorId, int fromFloor, int toFloor, Direction direction) {
+        lock.lock();
+        try {
+            LogEvent slot = claimSlot();
+            if (slot == null) {
+                return false;
+            }
+            slot.setMovement(time, elevatorId, fromFloor, toFloor, direction);
+            commitSlot();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean publishRawLine(String line) {
+        lock.lock();
+        try {
+            LogEvent slot = claimSlot();
+            if (slot == null) {
+                return false;
+            }
+            slot.setRawLine(line);
+            commitSlot();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private LogEvent claimSlot() {
+        while (count == ring.length) {
+            if (overflowPolicy == LogOverflowPolicy.DROP || !isRunning) {
+                droppedCount++;
+                return null;
+            }
+            notFull.awaitUninterruptibly();
+        }
+        return ring[(head + count) % ring.length];
+    }
+
+    private void commitSlot() {
+        count++;
+        publishedCount++;
+        if (count == 1) {
+            notEmpty.signal();
+        }
+    }
+
+    private void writeLoop() {
+        while (true) {
+            int batchSize;
+
+            lock.lock();
+            try {
+                while (count == 0 && isRunning) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                if (count == 0) {
+                    break;
+                }
+
+                batchSize = count;
+                for (int i = 0; i < batchSize; i++) {
+                    int index = (head + i) % ring.length;
+                    LogEvent filled = ring[index];
+                    ring[index] = batch[i];
+                    batch[i] = filled;
+                }
+                head = (head + batchSize) % ring.length;
+                count = 0;
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+
+            writeBatch(batchSize);
+
+            lock.lock();
+            try {
+                writtenCount += batchSize;
+                drained.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void writeBatch(int batchSize) {
+        buffer.setLength(0);
+        for (int i = 0; i < batchSize; i++) {
+            LogEvent event = batch[i];
+            if (event.rawLine != null) {
+                buffer.append(event.rawLine);
+            } else {
+                LoggerUtil.appendRow(buffer, formatTime(event.time), event);
+            }
+            buffer.append(System.lineSeparator());
+        }
+        out.print(buffer);
+        out.flush();
+    }
+
+    private String formatTime(long time) {
+        long second = Math.floorDiv(time, 1000);
+        if (second != cachedSecond) {
+            cachedSecond = second;
+            cachedTime = LoggerUtil.formatTime(time);
+        }
+        return cachedTime;
+    }
+
+    public void flush() {
+        lock.lock();
+        try {
+            long target = publishedCount;
+            while (writtenCount < target && writerThread.isAlive()) {
+                drained.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void shutdown() {
+        lock.lock();
+        try {
+            isRunning = false;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public long getDroppedCount() {
+        lock.lock();
+        try { return droppedCount; }
+        finally { lock.unlock(); }
+    }
+
+    public int getCapacity() {
+        return ring.length;
+    }
+}
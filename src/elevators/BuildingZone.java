@@ -0,0 +1,50 @@
+package elevators;
+
+public class BuildingZone {
+    private final String name;
+    private final int lowestFloor;
+    private final int highestFloor;
+    private final int lobbyFloor;
+    private final int elevatorCount;
+
+    public BuildingZone(String name, int lowestFloor, int highestFloor, int lobbyFloor, int elevatorCount) {
+        if (lowestFloor < 1 || highestFloor < lowestFloor) {
+            throw new IllegalArgumentException("Invalid floor range for zone " + name +
+                    ": " + lowestFloor + "-" + highestFloor);
+        }
+        if (elevatorCount < 1) {
+            throw new IllegalArgumentException("Zone " + name + " needs at least one elevator");
+        }
+
+        this.name = name;
+        this.lowestFloor = lowestFloor;
+        this.highestFloor = highestFloor;
+        this.lobbyFloor = lobbyFloor;
+        this.elevatorCount = elevatorCount;
+    }
+
+    public boolean serves(int floor) {
+        return floor == lobbyFloor || (floor >= lowestFloor && floor <= highestFloor);
+    }
+
+    public boolean serves(PassengerRequest request) {
+        return serves(request.getFloor()) && serves(request.getTargetFloor());
+    }
+
+    public boolean overlaps(BuildingZone other) {
+        return lobbyFloor == other.lobbyFloor ||
+                (lowestFloor <= other.highestFloor && other.lowestFloor <= highestFloor);
+    }
+
+    public String getName() { return name; }
+    public int getLowestFloor() { return lowestFloor; }
+    public int getHighestFloor() { return highestFloor; }
+    public int getLobbyFloor() { return lobbyFloor; }
+    public int getElevatorCount() { return elevatorCount; }
+
+    @Override
+    public String toString() {
+        return String.format("%s [%d-%d, lobby %d, %d cars]",
+                name, lowestFloor, highestFloor, lobbyFloor, elevatorCount);
+    }
+}
@@ -0,0 +1,55 @@
+package elevators;
+
+public enum CallPriority {
+    NORMAL(0, "NORMAL", 0, false),
+    FREIGHT(1, "FREIGHT", 30_000, false),
+    VIP(2, "VIP", 60_000, false),
+    MEDICAL(3, "MEDICAL", 300_000, true),
+    FIRE_SERVICE(4, "FIRE_SERVICE", 600_000, true);
+
+    private static final CallPriority[] BY_CODE = new CallPriority[8];
+
+    static {
+        for (CallPriority priority : values()) {
+            BY_CODE[priority.code] = priority;
+        }
+    }
+
+    private final int code;
+    private final String symbol;
+    private final long headStartMillis;
+    private final boolean preemptive;
+
+    CallPriority(int code, String symbol, long headStartMillis, boolean preemptive) {
+        this.code = code;
+        this.symbol = symbol;
+        this.headStartMillis = headStartMillis;
+        this.preemptive = preemptive;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public static CallPriority fromCode(int code) {
+        CallPriority priority = code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+        return priority != null ? priority : NORMAL;
+    }
+
+    public long getHeadStartMillis() {
+        return headStartMillis;
+    }
+
+    public boolean isPriority() {
+        return this != NORMAL;
+    }
+
+    public boolean isPreemptive() {
+        return preemptive;
+    }
+
+    @Override
+    public String toString() {
+        return symbol;
+    }
+}
@@ -1,3 +1,5 @@
+package elevators;
+
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
@@ -10,9 +12,17 @@ public class ClientGenerator implements Runnable {
     private int generatedCount;
 
     public ClientGenerator(Dispatcher dispatcher, int maxFloors, int maxRequests) {
+        this(dispatcher, maxFloors, maxRequests, new Random());
+    }
+
+    public ClientGenerator(Dispatcher dispatcher, int maxFloors, int maxRequests, long seed) {
+        this(dispatcher, maxFloors, maxRequests, new Random(seed));
+    }
+
+    private ClientGenerator(Dispatcher dispatcher, int maxFloors, int maxRequests, Random random) {
         this.dispatcher = dispatcher;
         this.maxFloors = maxFloors;
-        this.random = new Random();
+        this.random = random;
         this.isRunning = true;
         this.maxRequests = maxRequests;
         this.generatedCount = 0;
@@ -34,29 +44,50 @@ public class ClientGenerator implements Runnable {
                 Direction direction = targetFloor > floor ? Direction.UP : Direction.DOWN;
 
                 PassengerRequest request = new PassengerRequest(floor, direction, targetFloor);
-                dispatcher.addRequest(request);
+                AdmissionResult result = dispatcher.addRequest(request);
 
                 generatedCount++;
 
-                System.out.println("[GENERATOR] Created request #" + generatedCount +
-                        ": " + floor + "->" + targetFloor + " " + direction);
+                LoggerUtil.printLine("[GENERATOR] Created request #" + generatedCount +
+                        ": " + floor + "->" + targetFloor + " " + direction +
+                        (result.isAccepted() ? "" : " (" + result + ")"));
 
                 int delay = 1500 + random.nextInt(2500);
                 TimeUnit.MILLISECONDS.sleep(delay);
 
             } catch (InterruptedException e) {
-                System.out.println("[GENERATOR] Stop command received...");
+                LoggerUtil.printLine("[GENERATOR] Stop command received...");
                 break;
             }
         }
 
         LoggerUtil.logSystemInfo("Generator stopped. Created " + generatedCount + " requests.");
-        System.out.println("[GENERATOR] Work completed. Total requests: " + generatedCount);
+        LoggerUtil.printLine("[GENERATOR] Work completed. Total requests: " + generatedCount);
+    }
+
+    public void scheduleRequests(SimulationEngine engine) {
+        long arrivalTime = 0;
+
+        for (int i = 0; i < maxRequests; i++) {
+            int floor = random.nextInt(maxFloors) + 1;
+            int targetFloor;
+
+            do {
+                targetFloor = random.nextInt(maxFloors) + 1;
+            } while (targetFloor == floor);
+
+            engine.scheduleRequest(arrivalTime, floor, targetFloor);
+            generatedCount++;
+
+            arrivalTime += 1500 + random.nextInt(2500);
+        }
+
+        LoggerUtil.logSystemInfo("Generator scheduled " + generatedCount + " requests in virtual time.");
     }
 
     public void stopGenerator() {
         isRunning = false;
-        System.out.println("[GENERATOR] Stop command sent");
+        LoggerUtil.printLine("[GENERATOR] Stop command sent");
     }
 
     public int getGeneratedCount() {
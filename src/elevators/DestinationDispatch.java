@@ -0,0 +1,114 @@
+package elevators;
+
+import java.util.*;
+
+public class DestinationDispatch {
+    public static final int DEFAULT_TOLERANCE = 1;
+
+    private final int tolerance;
+    private long groupedRequests;
+    private long sharedStops;
+
+    public DestinationDispatch() {
+        this(DEFAULT_TOLERANCE);
+    }
+
+    public DestinationDispatch(int tolerance) {
+        if (tolerance < 0) {
+            throw new IllegalArgumentException("Tolerance must not be negative: " + tolerance);
+        }
+        this.tolerance = tolerance;
+    }
+
+    public long groupingCost(ElevatorState state, PassengerRequest request, long stopPenalty) {
+        int[] stops = state.getStops();
+        long cost = 0;
+
+        if (Arrays.binarySearch(stops, request.getFloor()) < 0 && state.getCurrentFloor() != request.getFloor()) {
+            cost += stopPenalty;
+        }
+
+        int distance = distanceToNearestStop(stops, request.getTargetFloor());
+        if (distance > tolerance) {
+            cost += stopPenalty;
+        } else if (distance > 0) {
+            cost += stopPenalty * distance / (tolerance + 1);
+        }
+        return cost;
+    }
+
+    /**
+     * Groups requests that share a call floor and direction and whose targets lie within the tolerance
+     * of the group's lowest target. Targets are clustered by sorted distance rather than fixed buckets,
+     * so neighbouring floors such as 3 and 4 group even when they straddle a bucket boundary.
+     */
+    public List<List<PassengerRequest>> group(List<PassengerRequest> batch) {
+        Map<Long, List<PassengerRequest>> calls = new LinkedHashMap<>();
+        for (PassengerRequest request : batch) {
+            long key = ((long) request.getFloor() << 32) | request.getDirection().ordinal();
+            calls.computeIfAbsent(key, k -> new ArrayList<>()).add(request);
+        }
+
+        List<List<PassengerRequest>> groups = new ArrayList<>();
+        for (List<PassengerRequest> call : calls.values()) {
+            call.sort(Comparator.comparingInt(PassengerRequest::getTargetFloor));
+            List<PassengerRequest> group = null;
+            int groupStart = 0;
+            for (PassengerRequest request : call) {
+                if (group == null || request.getTargetFloor() - groupStart > tolerance) {
+                    group = new ArrayList<>();
+                    groupStart = request.getTargetFloor();
+                    groups.add(group);
+                }
+                group.add(request);
+            }
+        }
+        return groups;
+    }
+
+    void recordAssignment(ElevatorState state, PassengerRequest request) {
+        int[] stops = state.getStops();
+        boolean callShared = Arrays.binarySearch(stops, request.getFloor()) >= 0;
+        boolean targetShared = distanceToNearestStop(stops, request.getTargetFloor()) <= tolerance;
+
+        synchronized (this) {
+            if (callShared || targetShared) {
+                groupedRequests++;
+            }
+            sharedStops += (callShared ? 1 : 0) + (targetShared ? 1 : 0);
+        }
+    }
+
+    private static int distanceToNearestStop(int[] stops, int floor) {
+        if (stops.length == 0) {
+            return Integer.MAX_VALUE;
+        }
+
+        int index = Arrays.binarySearch(stops, floor);
+        if (index >= 0) {
+            return 0;
+        }
+
+        int insertion = -index - 1;
+        int distance = Integer.MAX_VALUE;
+        if (insertion < stops.length) {
+            distance = stops[insertion] - floor;
+        }
+        if (insertion > 0) {
+            distance = Math.min(distance, floor - stops[insertion - 1]);
+        }
+        return distance;
+    }
+
+    public int getTolerance() {
+        return tolerance;
+    }
+
+    public synchronized long getGroupedRequests() {
+        return groupedRequests;
+    }
+
+    public synchronized long getSharedStops() {
+        return sharedStops;
+    }
+}
@@ -1,3 +1,5 @@
+package elevators;
+
 public enum Direction {
     UP("UP"),
     DOWN("DOWN"),
@@ -0,0 +1,1451 @@
+package elevators;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class Dispatcher implements Runnable {
+    private static final double UNASSIGNABLE_COST = 1e12;
+    private static final long STEAL_POLL_INTERVAL = 50;
+    private static final long SCORE_STOP_PENALTY = 100;
+    private static final long PARKING_INTERVAL = 5000;
+    private static final double PARKING_MIN_RATE = 0.05;
+    private static final long STAGE_POLL_INTERVAL = 100;
+    private static final int COALESCE_LIMIT = 64;
+    private static final int ASSIGNMENT_QUEUE_CAPACITY = 64;
+    private static final int HANDOFF_QUEUE_CAPACITY = 256;
+    private static final int PRIORITY_BURST = 8;
+    static final int PRIORITY_QUEUE_CAPACITY = 64;
+    public static final long DEFAULT_REASSIGNMENT_GAIN = 3000;
+    public static final long DEFAULT_REASSIGNMENT_INTERVAL = 1000;
+    public static final long DEFAULT_DRAIN_TIMEOUT = 30_000;
+    private static final long DRAIN_POLL_INTERVAL = 500;
+    private static final long DRAIN_REPORT_INTERVAL = 6000;
+
+    private final List<Elevator> elevators;
+    private volatile BlockingDeque<PassengerRequest> requestQueue;
+    private volatile AdmissionPolicy admissionPolicy = AdmissionPolicy.BLOCK;
+    private final AtomicLong admittedRequests = new AtomicLong();
+    private final AtomicLong rejectedRequests = new AtomicLong();
+    private final AtomicLong shedRequests = new AtomicLong();
+    private final int maxFloors;
+    private volatile boolean isRunning;
+    private final LongAdder totalRequestsAssigned = new LongAdder();
+    private final AtomicLongArray requestCountPerElevator;
+    private volatile boolean batchAssignment;
+    private volatile int maxBatchSize;
+    private volatile long batchLatencyBudgetNanos;
+    private final LongAdder totalBatches = new LongAdder();
+    private final LongAdder batchesOverBudget = new LongAdder();
+    private volatile EtaCostModel costModel;
+    private volatile ScoringWeights scoringWeights = ScoringWeights.DEFAULTS;
+    private volatile DestinationDispatch destinationDispatch;
+    private volatile TrafficForecast forecast;
+    private long lastParkingTime;
+    private final LongAdder parkingMoves = new LongAdder();
+    private final ElevatorRuntime runtime;
+    private volatile Thread worker;
+    private final String name;
+    private final int firstElevatorId;
+    private volatile BuildingZone zone;
+    private final List<StealTarget> stealTargets = new CopyOnWriteArrayList<>();
+    private volatile boolean shutdownRuntimeOnStop = true;
+    private volatile boolean printEventLogFrame = true;
+    private volatile long drainTimeoutMillis = DEFAULT_DRAIN_TIMEOUT;
+    private volatile boolean elevatorsStopped;
+    private final LongAdder requestsStolen = new LongAdder();
+    private final RequestMetrics metrics;
+    private volatile SimulationClock clock = SimulationClock.SYSTEM;
+    private volatile RequestJournal journal;
+    private final BlockingQueue<PassengerRequest> priorityQueue = new PriorityBlockingQueue<>(16,
+            Comparator.comparingLong((PassengerRequest request) ->
+                            request.getTimestamp() - request.getPriority().getHeadStartMillis())
+                    .thenComparingInt(PassengerRequest::getRequestId));
+    private final BlockingQueue<List<PassengerRequest>> assignmentQueue =
+            new ArrayBlockingQueue<>(ASSIGNMENT_QUEUE_CAPACITY);
+    private final ReentrantLock assignmentLock = new ReentrantLock();
+    private final Condition assignmentWork = assignmentLock.newCondition();
+    private final Condition priorityNotFull = assignmentLock.newCondition();
+    private final BlockingQueue<PassengerRequest> handoffQueue = new ArrayBlockingQueue<>(HANDOFF_QUEUE_CAPACITY);
+    private final PipelineStage intakeStage = new PipelineStage("Intake", Integer.MAX_VALUE);
+    private final PipelineStage assignmentStage = new PipelineStage("Assignment", ASSIGNMENT_QUEUE_CAPACITY);
+    private final PipelineStage handoffStage = new PipelineStage("Handoff", HANDOFF_QUEUE_CAPACITY);
+    private final Queue<PassengerRequest> leftBehind = new ConcurrentLinkedQueue<>();
+    private final AtomicLong requestsRedispatched = new AtomicLong();
+    private volatile boolean pipelined;
+    private volatile boolean intakeDone;
+    private volatile boolean assignmentDone;
+    private volatile boolean reassignment;
+    private volatile long reassignmentGainMillis;
+    private volatile long reassignmentIntervalMillis;
+    private EtaCostModel reassignmentModel;
+    private long lastReassignmentTime;
+    private final LongAdder reassignmentPasses = new LongAdder();
+    private final LongAdder hallCallsReassigned = new LongAdder();
+    private final LongAdder requestsReassigned = new LongAdder();
+
+    public Dispatcher() {
+        this(4, 10);
+    }
+
+    public Dispatcher(int numberOfElevators, int maxFloors) {
+        this(numberOfElevators, maxFloors, new ElevatorRuntime());
+    }
+
+    public Dispatcher(int numberOfElevators, int maxFloors, ElevatorRuntime runtime) {
+        this("Dispatcher", 1, numberOfElevators, maxFloors, runtime);
+    }
+
+    public Dispatcher(String name, int firstElevatorId, int numberOfElevators, int maxFloors,
+                      ElevatorRuntime runtime) {
+        this.name = name;
+        this.firstElevatorId = firstElevatorId;
+        this.maxFloors = maxFloors;
+        this.runtime = runtime;
+        this.elevators = new CopyOnWriteArrayList<>();
+        this.requestQueue = new LinkedBlockingDeque<>();
+        this.isRunning = true;
+        this.requestCountPerElevator = new AtomicLongArray(firstElevatorId + numberOfElevators);
+        this.metrics = new RequestMetrics(firstElevatorId, numberOfElevators, maxFloors);
+
+        for (int i = firstElevatorId; i < firstElevatorId + numberOfElevators; i++) {
+            Elevator elevator = new Elevator(i, maxFloors, 1);
+            elevator.setMetrics(metrics);
+            elevator.setLeftBehindHandler(leftBehind::offer);
+            elevators.add(elevator);
+        }
+    }
+
+    @Override
+    public void run() {
+        if (LoggerUtil.isEnabled(LogLevel.INFO)) {
+            LoggerUtil.logDispatcherAction(name, LogLevel.INFO, "Started", "Elevators: " + elevators.size());
+        }
+        if (printEventLogFrame) {
+            LoggerUtil.printHeader("EVENT LOG");
+        }
+
+        for (Elevator elevator : elevators) {
+            runtime.start(elevator);
+        }
+
+        pipelined = true;
+        Thread intake = runtime.newStageThread(name + "-Intake", this::runIntakeStage);
+        Thread handoff = runtime.newStageThread(name + "-Handoff", this::runHandoffStage);
+        intake.start();
+        handoff.start();
+
+        runAssignmentStage();
+
+        assignmentDone = true;
+        try {
+            intake.join();
+            handoff.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        pipelined = false;
+
+        waitForElevatorsToComplete();
+        stopAllElevators();
+    }
+
+    private void runIntakeStage() {
+        while (isRunning || !requestQueue.isEmpty()) {
+            try {
+                PassengerRequest request = requestQueue.poll(
+                        stealTargets.isEmpty() ? STAGE_POLL_INTERVAL : STEAL_POLL_INTERVAL, TimeUnit.MILLISECONDS);
+                if (request == null && isRunning) {
+                    request = stealRequest();
+                }
+                if (request == null) {
+                    continue;
+                }
+
+                long startNanos = System.nanoTime();
+                List<PassengerRequest> batch = new ArrayList<>();
+                batch.add(request);
+                requestQueue.drainTo(batch, (batchAssignment ? maxBatchSize : COALESCE_LIMIT) - 1);
+
+                List<PassengerRequest> valid = new ArrayList<>(batch.size());
+                for (PassengerRequest candidate : batch) {
+                    if (isValid(candidate)) {
+                        valid.add(candidate);
+                    } else {
+                        intakeStage.recordRejected();
+                        if (LoggerUtil.isEnabled(LogLevel.WARN)) {
+                            LoggerUtil.logDispatcherAction(name, LogLevel.WARN, "Rejected", candidate.getShortInfo());
+                        }
+                    }
+                }
+                intakeStage.recordWork(startNanos, batch.size());
+
+                if (!valid.isEmpty()) {
+                    assignmentQueue.put(valid);
+                    assignmentStage.observeQueueDepth(assignmentQueue.size());
+                    signalAssignmentWork();
+                }
+            } catch (InterruptedException e) {
+                break;
+            }
+        }
+        intakeDone = true;
+    }
+
+    private boolean isValid(PassengerRequest request) {
+        int floor = request.getFloor();
+        int targetFloor = request.getTargetFloor();
+        return floor >= 1 && floor <= maxFloors && targetFloor >= 1 && targetFloor <= maxFloors &&
+                floor != targetFloor &&
+                request.getDirection() == (targetFloor > floor ? Direction.UP : Direction.DOWN);
+    }
+
+    private void runAssignmentStage() {
+        while (!intakeDone || !assignmentQueue.isEmpty() || !priorityQueue.isEmpty()) {
+            try {
+                assignPriorityCalls();
+                redispatchLeftBehind();
+
+                List<PassengerRequest> batch = assignmentQueue.poll();
+                if (batch == null) {
+                    awaitAssignmentWork();
+                    batch = assignmentQueue.poll();
+                }
+                if (reassignment && clock.currentTimeMillis() - lastReassignmentTime >= reassignmentIntervalMillis) {
+                    lastReassignmentTime = clock.currentTimeMillis();
+                    reassignPendingCalls();
+                }
+                if (batch == null) {
+                    if (isRunning && forecast != null &&
+                            clock.currentTimeMillis() - lastParkingTime >= PARKING_INTERVAL) {
+                        lastParkingTime = clock.currentTimeMillis();
+                        parkIdleCars();
+                    }
+                    continue;
+                }
+
+                long startNanos = System.nanoTime();
+                if (batchAssignment) {
+                    if (LoggerUtil.isEnabled(LogLevel.INFO)) {
+                        LoggerUtil.logDispatcherAction(name, LogLevel.INFO, "Batch received",
+                                batch.size() + " requests");
+                    }
+                    assignBatch(batch);
+                } else {
+                    for (PassengerRequest request : batch) {
+                        if (LoggerUtil.isEnabled(LogLevel.INFO)) {
+                            LoggerUtil.logDispatcherAction(name, LogLevel.INFO, "Request received",
+                                    request.getShortInfo());
+                        }
+                        assignRequest(request);
+                    }
+                }
+                assignmentStage.recordWork(startNanos, batch.size());
+            } catch (InterruptedException e) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Waits up to one stage poll interval for a batch from intake or a priority call. Both producers
+     * signal under {@link #assignmentLock}, so a wake-up cannot slip in between the check and the wait.
+     */
+    private void awaitAssignmentWork() throws InterruptedException {
+        assignmentLock.lock();
+        try {
+            if (assignmentQueue.isEmpty() && priorityQueue.isEmpty()) {
+                assignmentWork.await(STAGE_POLL_INTERVAL, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            assignmentLock.unlock();
+        }
+    }
+
+    private void signalAssignmentWork() {
+        assignmentLock.lock();
+        try {
+            assignmentWork.signal();
+        } finally {
+            assignmentLock.unlock();
+        }
+    }
+
+    private void assignPriorityCalls() {
+        int assigned = 0;
+        while (assigned < PRIORITY_BURST || assignmentQueue.isEmpty()) {
+            PassengerRequest request = pollPriorityCall();
+            if (request == null) {
+                return;
+            }
+
+            long startNanos = System.nanoTime();
+            if (LoggerUtil.isEnabled(LogLevel.INFO)) {
+                LoggerUtil.logDispatcherAction(name, LogLevel.INFO, "Priority call", request.getShortInfo());
+            }
+            assignRequest(request);
+            assignmentStage.recordWork(startNanos, 1);
+            assigned++;
+        }
+    }
+
+    private void redispatchLeftBehind() {
+        List<PassengerRequest> unassigned = new ArrayList<>();
+        for (PassengerRequest request : drainLeftBehind()) {
+            if (redispatch(request) == null) {
+                unassigned.add(request);
+            }
+        }
+        leftBehind.addAll(unassigned);
+    }
+
+    public Elevator redispatch(PassengerRequest request) {
+        Elevator elevator = processRequest(request);
+        if (elevator != null) {
+            requestsRedispatched.incrementAndGet();
+        }
+        return elevator;
+    }
+
+    public List<PassengerRequest> drainLeftBehind() {
+        if (leftBehind.isEmpty()) {
+            return List.of();
+        }
+        List<PassengerRequest> drained = new ArrayList<>();
+        PassengerRequest request;
+        while ((request = leftBehind.poll()) != null) {
+            drained.add(request);
+        }
+        return drained;
+    }
+
+    private void runHandoffStage() {
+        while (!assignmentDone || !handoffQueue.isEmpty()) {
+            try {
+                PassengerRequest handedOff = handoffQueue.poll(STAGE_POLL_INTERVAL, TimeUnit.MILLISECONDS);
+                if (handedOff == null) {
+                    continue;
+                }
+
+                long startNanos = System.nanoTime();
+                // One load-distribution line reflects every hand-off made so far, so pending
+                // notifications are coalesced into it.
+                int notified = 1 + handoffQueue.drainTo(new ArrayList<>());
+                printLoadDistribution();
+                handoffStage.recordWork(startNanos, notified);
+            } catch (InterruptedException e) {
+                break;
+            }
+        }
+    }
+
+    public Elevator assignRequest(PassengerRequest request) {
+        Elevator selectedElevator = processRequest(request);
+        totalRequestsAssigned.increment();
+        return selectedElevator;
+    }
+
+    public void enableBatchAssignment(int maxBatchSize, long latencyBudgetMillis) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive: " + maxBatchSize);
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.batchLatencyBudgetNanos = TimeUnit.MILLISECONDS.toNanos(latencyBudgetMillis);
+        this.batchAssignment = true;
+    }
+
+    public void disableBatchAssignment() {
+        this.batchAssignment = false;
+    }
+
+    public void enableReassignment(long gainThresholdMillis, long intervalMillis) {
+        if (gainThresholdMillis < 0) {
+            throw new IllegalArgumentException("Reassignment gain threshold must not be negative: " +
+                    gainThresholdMillis);
+        }
+        if (intervalMillis < 1) {
+            throw new IllegalArgumentException("Reassignment interval must be positive: " + intervalMillis);
+        }
+        this.reassignmentGainMillis = gainThresholdMillis;
+        this.reassignmentIntervalMillis = intervalMillis;
+        this.reassignment = true;
+    }
+
+    public void disableReassignment() {
+        this.reassignment = false;
+    }
+
+    public boolean isReassignmentEnabled() {
+        return reassignment;
+    }
+
+    public long getReassignmentInterval() {
+        return reassignmentIntervalMillis;
+    }
+
+    public List<Elevator> reassignPendingCalls() {
+        if (!reassignment) {
+            return List.of();
+        }
+
+        EtaCostModel model = costModel;
+        if (model == null) {
+            if (reassignmentModel == null) {
+                reassignmentModel = new EtaCostModel();
+            }
+            model = reassignmentModel;
+        }
+
+        ElevatorState[] states = new ElevatorState[elevators.size()];
+        for (int j = 0; j < states.length; j++) {
+            states[j] = elevators.get(j).getSnapshot();
+        }
+
+        List<Elevator> gained = new ArrayList<>();
+        reassignmentPasses.increment();
+        for (int owner = 0; owner < states.length; owner++) {
+            Elevator source = elevators.get(owner);
+            for (PassengerRequest call : source.getPendingHallCalls()) {
+                int floor = call.getFloor();
+                long currentEta = model.estimateWaitTime(states[owner], floor, call.getDirection());
+                long bestEta = currentEta - reassignmentGainMillis;
+                int best = -1;
+
+                for (int j = 0; j < states.length; j++) {
+                    if (j == owner || states[j].isFull()) {
+                        continue;
+                    }
+                    long eta = model.estimateWaitTime(states[j], floor, call.getDirection());
+                    if (eta < bestEta) {
+                        bestEta = eta;
+                        best = j;
+                    }
+                }
+                if (best < 0) {
+                    continue;
+                }
+
+                Elevator target = elevators.get(best);
+                List<PassengerRequest> moved = source.withdrawHallCall(floor, call.getDirection());
+                if (moved.isEmpty()) {
+                    continue;
+                }
+                for (PassengerRequest request : moved) {
+                    transfer(request, source, target);
+                }
+                hallCallsReassigned.increment();
+                requestsReassigned.add(moved.size());
+                if (LoggerUtil.isEnabled(LogLevel.INFO)) {
+                    LoggerUtil.logDispatcherAction(name, LogLevel.INFO, "Reassigned",
+                            String.format("Floor %d (%s), %d passengers: Elevator %d -> %d, ETA %.1fs -> %.1fs",
+                                    floor, call.getDirection(), moved.size(), source.getElevatorId(),
+                                    target.getElevatorId(), currentEta / 1000.0, bestEta / 1000.0));
+                }
+
+                states[owner] = source.getSnapshot();
+                states[best] = target.getSnapshot();
+                if (!gained.contains(target)) {
+                    gained.add(target);
+                }
+            }
+        }
+        return gained;
+    }
+
+    private void transfer(PassengerRequest request, Elevator source, Elevator target) {
+        int targetId = target.getElevatorId();
+        requestCountPerElevator.decrementAndGet(source.getElevatorId());
+        requestCountPerElevator.incrementAndGet(targetId);
+        request.markAssigned(request.getAssignedTime(), targetId);
+        RequestJournal requestJournal = journal;
+        if (requestJournal != null) {
+            requestJournal.recordAssignment(request, targetId);
+        }
+        target.addPassengerRequest(request);
+    }
+
+    public void setCarCapacity(int capacity) {
+        for (Elevator elevator : elevators) {
+            elevator.setMaxCapacity(capacity);
+        }
+    }
+
+    public void setZone(BuildingZone zone) {
+        this.zone = zone;
+    }
+
+    public BuildingZone getZone() {
+        return zone;
+    }
+
+    public boolean canServe(PassengerRequest request) {
+        BuildingZone servedZone = zone;
+        return servedZone == null || servedZone.serves(request);
+    }
+
+    public void addStealTarget(Dispatcher neighbour, int backlogThreshold) {
+        stealTargets.add(new StealTarget(neighbour, backlogThreshold));
+    }
+
+    /**
+     * Dispatchers that share one {@link ElevatorRuntime} must not shut it down individually; the owner
+     * of the runtime clears this and shuts it down once every dispatcher has stopped.
+     */
+    public void setShutdownRuntimeOnStop(boolean shutdownRuntimeOnStop) {
+        this.shutdownRuntimeOnStop = shutdownRuntimeOnStop;
+    }
+
+    /**
+     * How long a stopping dispatcher waits for its cars to finish the trips they already have before
+     * stopping them anyway. Zero waits until every car is idle.
+     */
+    public void setDrainTimeout(long drainTimeoutMillis) {
+        if (drainTimeoutMillis < 0) {
+            throw new IllegalArgumentException("Drain timeout must not be negative: " + drainTimeoutMillis);
+        }
+        this.drainTimeoutMillis = drainTimeoutMillis;
+    }
+
+    public void setPrintEventLogFrame(boolean printEventLogFrame) {
+        this.printEventLogFrame = printEventLogFrame;
+    }
+
+    private PassengerRequest stealRequest() {
+        for (StealTarget target : stealTargets) {
+            Dispatcher neighbour = target.neighbour;
+            PassengerRequest stolen = neighbour.offerOverflow(this, target.backlogThreshold);
+            if (stolen != null) {
+                requestsStolen.increment();
+                if (LoggerUtil.isEnabled(LogLevel.INFO)) {
+                    LoggerUtil.logDispatcherAction(name, LogLevel.INFO, "Stolen",
+                            stolen.getShortInfo() + " from " + neighbour.getName());
+                }
+                return stolen;
+            }
+        }
+        return null;
+    }
+
+    PassengerRequest offerOverflow(Dispatcher thief, int backlogThreshold) {
+        if (requestQueue.size() <= backlogThreshold) {
+            return null;
+        }
+
+        Iterator<PassengerRequest> newestFirst = requestQueue.descendingIterator();
+        while (newestFirst.hasNext()) {
+            PassengerRequest request = newestFirst.next();
+            if (thief.canServe(request) && requestQueue.removeLastOccurrence(request)) {
+                return request;
+            }
+        }
+        return null;
+    }
+
+    public void setClock(SimulationClock clock) {
+        this.clock = clock;
+        for (Elevator elevator : elevators) {
+            elevator.setClock(clock);
+        }
+    }
+
+    public void setJournal(RequestJournal journal) {
+        this.journal = journal;
+        for (Elevator elevator : elevators) {
+            elevator.setJournal(journal);
+        }
+    }
+
+    public int restore(JournalRecovery recovery) {
+        for (Map.Entry<Integer, Integer> stop : recovery.getLastStops().entrySet()) {
+            Elevator elevator = findElevator(stop.getKey());
+            if (elevator != null) {
+                elevator.restoreFloor(stop.getValue());
+            }
+        }
+
+        int restored = 0;
+        for (PassengerRequest request : recovery.getOutstanding()) {
+            Elevator elevator = request.getAssignedTime() == PassengerRequest.NOT_REACHED ?
+                    null : findElevator(request.getAssignedElevatorId());
+
+            if (elevator != null && request.getBoardedTime() != PassengerRequest.NOT_REACHED) {
+                elevator.restoreRider(request);
+            } else if (elevator != null) {
+                requestCountPerElevator.incrementAndGet(elevator.getElevatorId());
+                totalRequestsAssigned.increment();
+                elevator.addPassengerRequest(request);
+            } else if (!requestQueue.offer(request)) {
+                assignRequest(request);
+            }
+            restored++;
+        }
+
+        if (LoggerUtil.isEnabled(LogLevel.INFO)) {
+            LoggerUtil.logDispatcherAction(name, LogLevel.INFO, "Recovered",
+                    String.format("%d outstanding requests from %d journal records",
+                            restored, recovery.getRecordsReplayed()));
+        }
+        return restored;
+    }
+
+    private Elevator findElevator(int elevatorId) {
+        int index = elevatorId - firstElevatorId;
+        return index >= 0 && index < elevators.size() ? elevators.get(index) : null;
+    }
+
+    public void enablePredictiveParking(TrafficForecast forecast) {
+        this.forecast = forecast;
+    }
+
+    public void disablePredictiveParking() {
+        this.forecast = null;
+    }
+
+    public TrafficForecast getTrafficForecast() {
+        return forecast;
+    }
+
+    public List<Elevator> parkIdleCars() {
+        TrafficForecast model = forecast;
+        if (model == null) {
+            return List.of();
+        }
+
+        List<Elevator> idle = new ArrayList<>();
+        for (Elevator elevator : elevators) {
+            if (elevator.getSnapshot().isIdle()) {
+                idle.add(elevator);
+            }
+        }
+        if (idle.isEmpty()) {
+            return List.of();
+        }
+
+        int[] floors = model.busiestFloors(clock.currentTimeMillis(), idle.size(), PARKING_MIN_RATE);
+        if (floors.length == 0) {
+            return List.of();
+        }
+
+        double[][] distance = new double[floors.length][idle.size()];
+        for (int i = 0; i < floors.length; i++) {
+            for (int j = 0; j < idle.size(); j++) {
+                Elevator elevator = idle.get(j);
+                int parkingFloor = elevator.getParkingFloor();
+                int position = parkingFloor != FloorTargetIndex.NO_FLOOR ? parkingFloor : elevator.getCurrentFloor();
+                distance[i][j] = Math.abs(floors[i] - position);
+            }
+        }
+
+        List<Elevator> moved = new ArrayList<>();
+        int[] assignment = AssignmentSolver.solve(distance);
+        for (int i = 0; i < floors.length; i++) {
+            if (assignment[i] == AssignmentSolver.UNASSIGNED || distance[i][assignment[i]] == 0) {
+                continue;
+            }
+            Elevator elevator = idle.get(assignment[i]);
+            if (elevator.park(floors[i])) {
+                moved.add(elevator);
+            }
+        }
+
+        if (!moved.isEmpty()) {
+            parkingMoves.add(moved.size());
+            if (LoggerUtil.isEnabled(LogLevel.INFO)) {
+                LoggerUtil.logDispatcherAction(name, LogLevel.INFO, "Parking",
+                        String.format("%d idle cars repositioned towards floors %s", moved.size(),
+                                Arrays.toString(floors)));
+            }
+        }
+        return moved;
+    }
+
+    public RequestMetrics getMetrics() {
+        return metrics;
+    }
+
+    public void setCostModel(EtaCostModel costModel) {
+        this.costModel = costModel;
+    }
+
+    public EtaCostModel getCostModel() {
+        return costModel;
+    }
+
+    public void setScoringWeights(ScoringWeights scoringWeights) {
+        this.scoringWeights = scoringWeights;
+    }
+
+    public ScoringWeights getScoringWeights() {
+        return scoringWeights;
+    }
+
+    public void enableDestinationDispatch(int tolerance) {
+        this.destinationDispatch = new DestinationDispatch(tolerance);
+    }
+
+    public void disableDestinationDispatch() {
+        this.destinationDispatch = null;
+    }
+
+    public DestinationDispatch getDestinationDispatch() {
+        return destinationDispatch;
+    }
+
+    public List<Elevator> assignBatch(List<PassengerRequest> batch) {
+        DestinationDispatch grouping = destinationDispatch;
+        List<List<PassengerRequest>> groups = grouping != null ? grouping.group(batch) : null;
+        List<PassengerRequest> leaders = batch;
+        if (groups != null) {
+            leaders = new ArrayList<>(groups.size());
+            for (List<PassengerRequest> group : groups) {
+                leaders.add(group.get(0));
+            }
+        }
+
+        List<Elevator> assigned = new ArrayList<>(batch.size());
+        long deadline = System.nanoTime() + batchLatencyBudgetNanos;
+        int carCount = elevators.size();
+        int next = 0;
+        totalBatches.increment();
+
+        while (next < leaders.size()) {
+            if (System.nanoTime() > deadline) {
+                batchesOverBudget.increment();
+                if (LoggerUtil.isEnabled(LogLevel.WARN)) {
+                    LoggerUtil.logDispatcherAction(name, LogLevel.WARN, "Batch budget",
+                            (leaders.size() - next) + " requests assigned greedily");
+                }
+                for (int i = next; i < leaders.size(); i++) {
+                    Elevator elevator = assignRequest(leaders.get(i));
+                    assigned.add(elevator);
+                    assignFollowers(groups, i, elevator, assigned);
+                }
+                break;
+            }
+
+            int rows = Math.min(leaders.size() - next, carCount);
+            double[][] cost = buildCostMatrix(leaders, next, rows);
+            int[] assignment = AssignmentSolver.solve(cost);
+
+            for (int i = 0; i < rows; i++) {
+                PassengerRequest request = leaders.get(next + i);
+                int column = assignment[i];
+                Elevator elevator;
+
+                if (column == AssignmentSolver.UNASSIGNED || cost[i][column] >= UNASSIGNABLE_COST) {
+                    elevator = assignRequest(request);
+                } else {
+                    elevator = elevators.get(column);
+                    assignToElevator(request, elevator);
+                    totalRequestsAssigned.increment();
+                }
+                assigned.add(elevator);
+                assignFollowers(groups, next + i, elevator, assigned);
+            }
+            next += rows;
+        }
+
+        return assigned;
+    }
+
+    private void assignFollowers(List<List<PassengerRequest>> groups, int groupIndex,
+                                 Elevator leaderElevator, List<Elevator> assigned) {
+        if (groups == null) {
+            return;
+        }
+
+        List<PassengerRequest> group = groups.get(groupIndex);
+        for (int i = 1; i < group.size(); i++) {
+            PassengerRequest follower = group.get(i);
+            if (leaderElevator != null && !leaderElevator.getSnapshot().isFull()) {
+                assignToElevator(follower, leaderElevator);
+                totalRequestsAssigned.increment();
+                assigned.add(leaderElevator);
+            } else {
+                assigned.add(assignRequest(follower));
+            }
+        }
+    }
+
+    private double[][] buildCostMatrix(List<PassengerRequest> batch, int offset, int rows) {
+        ElevatorState[] states = new ElevatorState[elevators.size()];
+        for (int j = 0; j < states.length; j++) {
+            states[j] = elevators.get(j).getSnapshot();
+        }
+
+        double[][] cost = new double[rows][states.length];
+        for (int i = 0; i < rows; i++) {
+            PassengerRequest request = batch.get(offset + i);
+            for (int j = 0; j < states.length; j++) {
+                long assignmentCost = calculateAssignmentCost(states[j], request);
+                cost[i][j] = assignmentCost == EtaCostModel.UNREACHABLE ? UNASSIGNABLE_COST : assignmentCost;
+            }
+        }
+        return cost;
+    }
+
+    private Elevator processRequest(PassengerRequest request) {
+        Elevator selectedElevator = selectBestElevator(request);
+
+        if (selectedElevator != null) {
+            assignToElevator(request, selectedElevator);
+        } else {
+            LoggerUtil.logDispatcherAction(name, LogLevel.WARN, "Error", "No suitable elevator");
+        }
+
+        return selectedElevator;
+    }
+
+    private void assignToElevator(PassengerRequest request, Elevator selectedElevator) {
+        int elevatorId = selectedElevator.getElevatorId();
+        requestCountPerElevator.incrementAndGet(elevatorId);
+        DestinationDispatch grouping = destinationDispatch;
+        if (grouping != null) {
+            grouping.recordAssignment(selectedElevator.getSnapshot(), request);
+        }
+        boolean firstAssignment = request.getAssignedTime() == PassengerRequest.NOT_REACHED;
+        request.markAssigned(clock.currentTimeMillis(), elevatorId);
+        if (firstAssignment) {
+            metrics.recordAssignment(request);
+        }
+        RequestJournal requestJournal = journal;
+        if (requestJournal != null) {
+            requestJournal.recordAssignment(request, elevatorId);
+        }
+
+        if (LoggerUtil.isEnabled(LogLevel.INFO)) {
+            LoggerUtil.logDispatcherAction(name, LogLevel.INFO, "Assignment",
+                    String.format("Request #%d: %d->%d %s -> Elevator %d",
+                            request.getRequestId(),
+                            request.getFloor(),
+                            request.getTargetFloor(),
+                            request.getDirection(),
+                            elevatorId));
+        }
+
+        // The car sees the call before the next request is scored, so snapshots never miss an
+        // assignment still in flight. Only the console notification is left to the hand-off stage.
+        selectedElevator.addPassengerRequest(request);
+        if (!pipelined) {
+            printLoadDistribution();
+        } else if (handoffQueue.offer(request)) {
+            handoffStage.observeQueueDepth(handoffQueue.size());
+        } else {
+            handoffStage.recordRejected();
+        }
+    }
+
+    Elevator selectBestElevator(PassengerRequest request) {
+        Elevator bestElevator = null;
+        long bestCost = EtaCostModel.UNREACHABLE;
+
+        for (Elevator elevator : elevators) {
+            long cost = calculateAssignmentCost(elevator.getSnapshot(), request);
+            if (cost < bestCost) {
+                bestCost = cost;
+                bestElevator = elevator;
+            }
+        }
+
+        return bestElevator;
+    }
+
+    long calculateAssignmentCost(ElevatorState state, PassengerRequest request) {
+        EtaCostModel model = costModel;
+        long cost;
+        if (model != null) {
+            cost = model.estimateCost(state, request);
+        } else {
+            int score = calculateElevatorScore(state, request);
+            cost = score == Integer.MIN_VALUE ? EtaCostModel.UNREACHABLE : -score;
+        }
+
+        DestinationDispatch grouping = destinationDispatch;
+        if (grouping == null || cost == EtaCostModel.UNREACHABLE) {
+            return cost;
+        }
+        long stopPenalty = model != null ? model.getStopTime() : SCORE_STOP_PENALTY;
+        return cost + grouping.groupingCost(state, request, stopPenalty);
+    }
+
+    int calculateElevatorScore(ElevatorState state, PassengerRequest request) {
+        ScoringWeights weights = scoringWeights;
+        int score = 0;
+        int currentFloor = state.getCurrentFloor();
+        Direction elevatorDirection = state.getDirection();
+        Direction requestDirection = request.getDirection();
+        int requestFloor = request.getFloor();
+
+        if (state.isFull()) {
+            return Integer.MIN_VALUE;
+        }
+
+        if (currentFloor == requestFloor && state.isIdle()) {
+            return weights.getSameFloorIdle();
+        }
+
+        if (state.isIdle()) {
+            score += weights.getIdleBase();
+
+            int distance = Math.abs(currentFloor - requestFloor);
+            score -= distance * weights.getIdleDistance();
+            return score;
+        }
+
+        if (elevatorDirection == requestDirection) {
+            score += weights.getSameDirection();
+
+            if (elevatorDirection == Direction.UP && currentFloor <= requestFloor) {
+                score += weights.getOnTheWay();
+            } else if (elevatorDirection == Direction.DOWN && currentFloor >= requestFloor) {
+                score += weights.getOnTheWay();
+            }
+        } else {
+            score -= weights.getOppositeDirection();
+        }
+
+        score -= state.getPassengerCount() * weights.getPassenger();
+
+        int load = (int) requestCountPerElevator.get(state.getElevatorId());
+        score -= load * weights.getLoad();
+
+        return score;
+    }
+
+    private void waitForElevatorsToComplete() {
+        LoggerUtil.printLine("\n[DISPATCHER] Finishing processing...");
+
+        long timeout = drainTimeoutMillis;
+        long startMillis = System.currentTimeMillis();
+        long nextReport = startMillis;
+        boolean allIdle = false;
+
+        while (!allIdle && (timeout == 0 || System.currentTimeMillis() - startMillis < timeout)) {
+            allIdle = true;
+
+            for (Elevator elevator : elevators) {
+                if (!elevator.isIdle()) {
+                    allIdle = false;
+                    break;
+                }
+            }
+
+            if (!allIdle) {
+                try {
+                    if (System.currentTimeMillis() >= nextReport) {
+                        nextReport += DRAIN_REPORT_INTERVAL;
+                        LoggerUtil.printLine("\n[DISPATCHER] Waiting for elevators to finish...");
+                        for (Elevator elevator : elevators) {
+                            ElevatorState state = elevator.getSnapshot();
+                            if (!state.isIdle()) {
+                                LoggerUtil.printLine(String.format(
+                                        "   Elevator %d: floor %d, passengers=%d, targets=%d",
+                                        state.getElevatorId(),
+                                        state.getCurrentFloor(),
+                                        state.getPassengerCount(),
+                                        state.getPendingTargets()));
+                            }
+                        }
+                    }
+                    TimeUnit.MILLISECONDS.sleep(DRAIN_POLL_INTERVAL);
+                } catch (InterruptedException e) {
+                    break;
+                }
+            }
+        }
+
+        if (allIdle) {
+            LoggerUtil.printLine("\n[DISPATCHER] All elevators finished work");
+        } else {
+            LoggerUtil.printLine("\n[DISPATCHER] WARNING: Not all elevators finished in time");
+        }
+    }
+
+    private void stopAllElevators() {
+        for (Elevator elevator : elevators) {
+            elevator.stopElevator();
+        }
+
+        boolean stopped = true;
+        for (Elevator elevator : elevators) {
+            try {
+                if (!elevator.awaitTermination(3000)) {
+                    LoggerUtil.printLine("[DISPATCHER] WARNING: Elevator " + elevator.getElevatorId() +
+                            " did not finish in time");
+                    stopped = false;
+                }
+            } catch (InterruptedException e) {
+                LoggerUtil.printLine("[DISPATCHER] WARNING: Could not wait for elevator " + elevator.getElevatorId());
+                stopped = false;
+            }
+        }
+        elevatorsStopped = stopped;
+        if (shutdownRuntimeOnStop) {
+            runtime.shutdown();
+        }
+
+        if (LoggerUtil.isEnabled(LogLevel.INFO)) {
+            LoggerUtil.logDispatcherAction(name, LogLevel.INFO, "Stopped",
+                    "Requests assigned: " + totalRequestsAssigned.sum());
+        }
+        if (printEventLogFrame) {
+            LoggerUtil.printFooter();
+        }
+    }
+
+    public void setAdmissionControl(int capacity, AdmissionPolicy policy) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be positive: " + capacity);
+        }
+        if (worker != null) {
+            throw new IllegalStateException("Admission control must be configured before start");
+        }
+        BlockingDeque<PassengerRequest> current = requestQueue;
+        while (current.size() > capacity) {
+            // Requests queued before the bound was set were already admitted, so the excess is shed
+            // (counted and journalled as cancelled) rather than silently left behind.
+            PassengerRequest excess = policy == AdmissionPolicy.SHED_OLDEST ? current.pollFirst() : current.pollLast();
+            if (excess == null) {
+                break;
+            }
+            shed(excess);
+        }
+        BlockingDeque<PassengerRequest> bounded = new LinkedBlockingDeque<>(capacity);
+        current.drainTo(bounded);
+        this.requestQueue = bounded;
+        this.admissionPolicy = policy;
+        intakeStage.setQueueCapacity(capacity);
+    }
+
+    public AdmissionResult addRequest(PassengerRequest request) {
+        return admit(request, admissionPolicy == AdmissionPolicy.BLOCK);
+    }
+
+    public AdmissionResult tryAddRequest(PassengerRequest request) {
+        return admit(request, false);
+    }
+
+    /**
+     * Feeds a newly admitted request to the traffic forecast. Called once per request on admission,
+     * never on redispatch, reassignment or journal restore, so each arrival is counted exactly once.
+     */
+    private void observeArrival(PassengerRequest request) {
+        TrafficForecast model = forecast;
+        if (model != null) {
+            model.observe(request.getFloor(), request.getTimestamp());
+        }
+    }
+
+    /**
+     * Admission for arrivals that a simulation engine assigns directly instead of queueing. The request
+     * is validated, journalled and counted like a queued request, so admitted/rejected totals mean the
+     * same thing in virtual and real time.
+     */
+    public AdmissionResult acceptArrival(PassengerRequest request) {
+        RequestJournal requestJournal = journal;
+        if (requestJournal != null) {
+            requestJournal.recordArrival(request);
+        }
+        if (!isValid(request)) {
+            rejectedRequests.incrementAndGet();
+            if (requestJournal != null) {
+                requestJournal.recordCancellation(request, clock.currentTimeMillis());
+            }
+            if (LoggerUtil.isEnabled(LogLevel.WARN)) {
+                LoggerUtil.logDispatcherAction(name, LogLevel.WARN, "Rejected",
+                        request.getShortInfo() + " (" + AdmissionResult.REJECTED_UNROUTABLE + ")");
+            }
+            return AdmissionResult.REJECTED_UNROUTABLE;
+        }
+        admittedRequests.incrementAndGet();
+        observeArrival(request);
+        return AdmissionResult.ACCEPTED;
+    }
+
+    private AdmissionResult admit(PassengerRequest request, boolean mayBlock) {
+        if (!isRunning) {
+            rejectedRequests.incrementAndGet();
+            return AdmissionResult.REJECTED_STOPPED;
+        }
+
+        RequestJournal requestJournal = journal;
+        if (requestJournal != null) {
+            requestJournal.recordArrival(request);
+        }
+
+        AdmissionResult result;
+        if (!request.getPriority().isPriority()) {
+            result = enqueue(request, mayBlock);
+        } else if (!isValid(request)) {
+            result = AdmissionResult.REJECTED_UNROUTABLE;
+        } else {
+            result = enqueuePriority(request, mayBlock);
+        }
+        if (result.isAccepted()) {
+            admittedRequests.incrementAndGet();
+            observeArrival(request);
+        } else {
+            rejectedRequests.incrementAndGet();
+            if (requestJournal != null) {
+                requestJournal.recordCancellation(request, clock.currentTimeMillis());
+            }
+            if (LoggerUtil.isEnabled(LogLevel.WARN)) {
+                LoggerUtil.logDispatcherAction(name, LogLevel.WARN, "Rejected",
+                        request.getShortInfo() + " (" + result + ")");
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Priority calls skip intake, so they are validated on admission and held in a lane bounded by
+     * {@link #PRIORITY_QUEUE_CAPACITY}. When the lane is full a blocking producer waits for space;
+     * otherwise the call is rejected. Priority calls are never shed.
+     */
+    private AdmissionResult enqueuePriority(PassengerRequest request, boolean mayBlock) {
+        assignmentLock.lock();
+        try {
+            while (priorityQueue.size() >= PRIORITY_QUEUE_CAPACITY) {
+                if (!mayBlock) {
+                    return AdmissionResult.REJECTED_FULL;
+                }
+                try {
+                    priorityNotFull.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return AdmissionResult.REJECTED_FULL;
+                }
+            }
+            priorityQueue.offer(request);
+            assignmentWork.signal();
+            return AdmissionResult.ACCEPTED;
+        } finally {
+            assignmentLock.unlock();
+        }
+    }
+
+    private PassengerRequest pollPriorityCall() {
+        if (priorityQueue.isEmpty()) {
+            return null;
+        }
+        assignmentLock.lock();
+        try {
+            PassengerRequest request = priorityQueue.poll();
+            if (request != null) {
+                priorityNotFull.signal();
+            }
+            return request;
+        } finally {
+            assignmentLock.unlock();
+        }
+    }
+
+    private AdmissionResult enqueue(PassengerRequest request, boolean mayBlock) {
+        BlockingDeque<PassengerRequest> queue = requestQueue;
+        AdmissionResult result = insert(queue, request, mayBlock);
+        if (result.isAccepted()) {
+            // Sampled by the producer right after its insert, so the depth never exceeds capacity.
+            intakeStage.observeQueueDepth(queue.size());
+        }
+        return result;
+    }
+
+    private AdmissionResult insert(BlockingDeque<PassengerRequest> queue, PassengerRequest request, boolean mayBlock) {
+        if (queue.offer(request)) {
+            return AdmissionResult.ACCEPTED;
+        }
+
+        switch (admissionPolicy) {
+            case BLOCK:
+                if (!mayBlock) {
+                    return AdmissionResult.REJECTED_FULL;
+                }
+                try {
+                    queue.put(request);
+                    return AdmissionResult.ACCEPTED;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return AdmissionResult.REJECTED_FULL;
+                }
+            case SHED_OLDEST:
+                do {
+                    PassengerRequest oldest = queue.pollFirst();
+                    if (oldest != null) {
+                        shed(oldest);
+                    }
+                } while (!queue.offer(request));
+                return AdmissionResult.ACCEPTED_SHED_OLDEST;
+            default:
+                return AdmissionResult.REJECTED_FULL;
+        }
+    }
+
+    private void shed(PassengerRequest request) {
+        shedRequests.incrementAndGet();
+        RequestJournal requestJournal = journal;
+        if (requestJournal != null) {
+            requestJournal.recordCancellation(request, clock.currentTimeMillis());
+        }
+        if (LoggerUtil.isEnabled(LogLevel.WARN)) {
+            LoggerUtil.logDispatcherAction(name, LogLevel.WARN, "Shed", request.getShortInfo());
+        }
+    }
+
+    private void printLoadDistribution() {
+        if (!LoggerUtil.isEnabled(LogLevel.INFO)) {
+            return;
+        }
+        StringBuilder line = new StringBuilder("[DISPATCHER] Load distribution: ");
+        for (int i = firstElevatorId; i < requestCountPerElevator.length(); i++) {
+            line.append('E').append(i).append(':').append(requestCountPerElevator.get(i)).append(' ');
+        }
+        LoggerUtil.printLine(line.toString());
+    }
+
+    public void stopDispatcher() {
+        if (!isRunning) {
+            return;
+        }
+
+        LoggerUtil.printLine("\n[DISPATCHER] Stop command received...");
+        isRunning = false;
+    }
+
+    public void start() {
+        worker = runtime.newDispatcherThread(this);
+        worker.start();
+    }
+
+    public void join(long timeoutMillis) throws InterruptedException {
+        Thread thread = worker;
+        if (thread != null) {
+            thread.join(timeoutMillis);
+        }
+    }
+
+    public boolean isAlive() {
+        Thread thread = worker;
+        return thread != null && thread.isAlive();
+    }
+
+    /**
+     * True once the dispatcher has stopped and every car thread has terminated.
+     */
+    public boolean areElevatorsStopped() {
+        return elevatorsStopped;
+    }
+
+    public List<Elevator> getElevators() {
+        return elevators;
+    }
+
+    public long getTotalRequestsAssigned() {
+        return totalRequestsAssigned.sum();
+    }
+
+    public int getMaxFloors() {
+        return maxFloors;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getQueueDepth() {
+        return requestQueue.size();
+    }
+
+    public int getPriorityQueueDepth() {
+        return priorityQueue.size();
+    }
+
+    public int getQueueCapacity() {
+        return requestQueue.size() + requestQueue.remainingCapacity();
+    }
+
+    public AdmissionPolicy getAdmissionPolicy() {
+        return admissionPolicy;
+    }
+
+    public long getAdmittedRequests() {
+        return admittedRequests.get();
+    }
+
+    public long getRejectedRequests() {
+        return rejectedRequests.get();
+    }
+
+    public long getShedRequests() {
+        return shedRequests.get();
+    }
+
+    public long getRequestsRedispatched() {
+        return requestsRedispatched.get();
+    }
+
+    public long getHallCallsReassigned() {
+        return hallCallsReassigned.sum();
+    }
+
+    public long getRequestsReassigned() {
+        return requestsReassigned.sum();
+    }
+
+    public long getRequestsStolen() {
+        return requestsStolen.sum();
+    }
+
+    public long getTotalBatches() {
+        return totalBatches.sum();
+    }
+
+    public long getBatchesOverBudget() {
+        return batchesOverBudget.sum();
+    }
+
+    public List<PipelineStage> getPipelineStages() {
+        return List.of(intakeStage, assignmentStage, handoffStage);
+    }
+
+    public void printStatus() {
+        LoggerUtil.flush();
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("                       CURRENT ELEVATOR STATUS");
+        System.out.println("=".repeat(80));
+
+        System.out.printf("%-10s %-10s %-12s %-15s %-15s %-15s%n",
+                "Elevator", "Floor", "Direction", "Status", "Passengers", "Targets in queue");
+        System.out.println("-".repeat(80));
+
+        for (Elevator elevator : elevators) {
+            ElevatorState state = elevator.getSnapshot();
+            System.out.printf("%-10d %-10d %-12s %-15s %-15d %-15d%n",
+                    state.getElevatorId(),
+                    state.getCurrentFloor(),
+                    state.getDirection().toString(),
+                    state.getStatus().toString(),
+                    state.getPassengerCount(),
+                    state.getPendingTargets());
+        }
+
+        System.out.println("=".repeat(80));
+        System.out.printf("Dispatcher: processed %d requests, in queue: %d%n",
+                totalRequestsAssigned.sum(), requestQueue.size());
+        printLoadDistribution();
+    }
+
+    public void printFinalStatistics() {
+        LoggerUtil.flush();
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("                         FINAL STATISTICS");
+        System.out.println("=".repeat(80));
+
+        System.out.printf("%n%-10s %-10s %-10s %-8s %-15s %-12s %-12s%n",
+                "Elevator", "Requests", "Delivered", "Stops", "Movement time", "Door time", "Total time");
+        System.out.println("-".repeat(80));
+
+        int totalStops = 0;
+        for (Elevator elevator : elevators) {
+            int elevatorId = elevator.getElevatorId();
+            long totalTime = elevator.getTotalMovementTime() + elevator.getTotalDoorTime();
+            totalStops += elevator.getTotalStops();
+
+            System.out.printf("%-10d %-10d %-10d %-8d %-15.1f %-12.1f %-12.1f%n",
+                    elevatorId,
+                    requestCountPerElevator.get(elevatorId),
+                    elevator.getTotalRequests(),
+                    elevator.getTotalStops(),
+                    elevator.getTotalMovementTime() / 1000.0,
+                    elevator.getTotalDoorTime() / 1000.0,
+                    totalTime / 1000.0);
+        }
+
+        DestinationDispatch grouping = destinationDispatch;
+        if (grouping != null) {
+            System.out.printf("%nDestination dispatch (tolerance %d): %d of %d requests grouped, %d shared stops%n",
+                    grouping.getTolerance(), grouping.getGroupedRequests(), totalRequestsAssigned.sum(),
+                    grouping.getSharedStops());
+        }
+        System.out.printf("Total stops: %d, requests per stop: %.2f%n", totalStops,
+                totalStops > 0 ? (double) totalRequestsAssigned.sum() / totalStops : 0);
+        if (forecast != null) {
+            System.out.printf("Predictive parking: %d repositioning moves%n", parkingMoves.sum());
+        }
+        if (requestsRedispatched.get() > 0) {
+            System.out.printf("Passengers re-dispatched after a full car left them behind: %d%n",
+                    requestsRedispatched.get());
+        }
+        if (reassignment) {
+            System.out.printf("Reassignment (gain >= %.1fs): %d hall calls, %d passengers moved in %d passes%n",
+                    reassignmentGainMillis / 1000.0, hallCallsReassigned.sum(), requestsReassigned.sum(),
+                    reassignmentPasses.sum());
+        }
+
+        if (admittedRequests.get() > 0 || rejectedRequests.get() > 0) {
+            System.out.printf("Admission (%s, capacity %s): %d admitted, %d rejected, %d shed%n",
+                    admissionPolicy,
+                    getQueueCapacity() == Integer.MAX_VALUE ? "unbounded" : Integer.toString(getQueueCapacity()),
+                    admittedRequests.get(), rejectedRequests.get(), shedRequests.get());
+        }
+        if (intakeStage.getProcessed() > 0) {
+            System.out.println();
+            PipelineStage.printHeaderRow();
+            for (PipelineStage stage : getPipelineStages()) {
+                stage.printRow();
+            }
+        }
+
+        metrics.printReport();
+
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("                     LOAD BALANCING ANALYSIS");
+        System.out.println("=".repeat(80));
+
+        long totalRequests = 0;
+        long maxRequests = 0;
+        long minRequests = Long.MAX_VALUE;
+
+        for (int i = firstElevatorId; i < requestCountPerElevator.length(); i++) {
+            long requests = requestCountPerElevator.get(i);
+            totalRequests += requests;
+            maxRequests = Math.max(maxRequests, requests);
+            minRequests = Math.min(minRequests, requests);
+        }
+
+        double avgRequests = (double) totalRequests / elevators.size();
+        double imbalance = maxRequests - minRequests;
+        double imbalancePercent = avgRequests > 0 ? (imbalance / avgRequests) * 100 : 0;
+
+        System.out.printf("Total requests: %d%n", totalRequests);
+        System.out.printf("Average per elevator: %.1f%n", avgRequests);
+        System.out.printf("Maximum: %d requests%n", maxRequests);
+        System.out.printf("Minimum: %d requests%n", minRequests);
+        System.out.printf("Imbalance: %.1f requests (%.1f%%)%n", imbalance, imbalancePercent);
+
+        if (minRequests == 0) {
+            System.out.println("PROBLEM: There is an elevator that did not receive any requests!");
+        } else if (imbalancePercent > 50) {
+            System.out.println("WARNING: Strong load imbalance between elevators!");
+        } else if (imbalancePercent > 20) {
+            System.out.println("WARNING: Moderate load imbalance");
+        } else {
+            System.out.println("Good load balancing");
+        }
+
+        System.out.println("=".repeat(80));
+    }
+
+    private static final class StealTarget {
+        private final Dispatcher neighbour;
+        private final int backlogThreshold;
+
+        private StealTarget(Dispatcher neighbour, int backlogThreshold) {
+            this.neighbour = neighbour;
+            this.backlogThreshold = backlogThreshold;
+        }
+    }
+}
\ No newline at end of file
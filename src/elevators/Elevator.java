@@ -0,0 +1,779 @@
+package elevators;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+public class Elevator implements Runnable {
+    public static final int MOVEMENT_TIME_PER_FLOOR = 800;
+    public static final int DOOR_OPERATION_TIME = 2000;
+    public static final int BOARDING_TIME = 1000;
+    public static final int DEFAULT_CAPACITY = 10;
+
+    private final int id;
+    private final int maxFloors;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition workAvailable = lock.newCondition();
+
+    private final FloorTargetIndex targetFloors;
+    private final Map<Integer, List<PassengerRequest>> floorDestinations = new HashMap<>();
+    private final WaitingQueues waitingPassengers;
+    private volatile SimulationClock clock = SimulationClock.SYSTEM;
+    private volatile RequestMetrics metrics;
+    private volatile RequestJournal journal;
+    private volatile Consumer<PassengerRequest> leftBehindHandler;
+    private int deferredHallCallFloor = FloorTargetIndex.NO_FLOOR;
+    private volatile int parkingFloor = FloorTargetIndex.NO_FLOOR;
+
+    private int currentFloor;
+    private Direction direction;
+    private ElevatorStatus status;
+    private volatile boolean isRunning;
+    private int passengerCount;
+    private int maxCapacity = DEFAULT_CAPACITY;
+    private int totalRequestsProcessed;
+    private int totalStops;
+    private long totalMovementTime;
+    private long totalDoorTime;
+    private volatile ElevatorState snapshot;
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private volatile Thread worker;
+    private ScheduledExecutorService parkedExecutor;
+
+    public Elevator() {
+        this(0, 10, 1);
+    }
+
+    public Elevator(int id, int maxFloors, int startFloor) {
+        this.id = id;
+        this.maxFloors = maxFloors;
+        this.targetFloors = new FloorTargetIndex(maxFloors);
+        this.waitingPassengers = new WaitingQueues(maxFloors);
+        this.currentFloor = startFloor;
+        this.direction = Direction.IDLE;
+        this.status = ElevatorStatus.STOPPED;
+        this.isRunning = true;
+        this.passengerCount = 0;
+        this.totalRequestsProcessed = 0;
+        this.totalMovementTime = 0;
+        this.totalDoorTime = 0;
+        publishState();
+    }
+
+    @Override
+    public void run() {
+        worker = Thread.currentThread();
+        if (LoggerUtil.isEnabled(LogLevel.INFO)) {
+            LoggerUtil.logElevatorAction(id, "Started", "Floor " + currentFloor);
+        }
+
+        while (isRunning || hasPendingWork()) {
+            long delay = step();
+
+            try {
+                if (delay < 0) {
+                    awaitWork();
+                } else if (delay > 0) {
+                    TimeUnit.MILLISECONDS.sleep(delay);
+                }
+            } catch (InterruptedException e) {
+                if (!isRunning && !hasPendingWork()) {
+                    break;
+                }
+            }
+        }
+
+        finalizeWork();
+        terminated.countDown();
+    }
+
+    public void startOn(ScheduledExecutorService executor) {
+        if (LoggerUtil.isEnabled(LogLevel.INFO)) {
+            LoggerUtil.logElevatorAction(id, "Started", "Floor " + currentFloor);
+        }
+        executor.execute(() -> runScheduledStep(executor));
+    }
+
+    private void runScheduledStep(ScheduledExecutorService executor) {
+        if (!isRunning && !hasPendingWork()) {
+            finalizeWork();
+            terminated.countDown();
+            return;
+        }
+
+        long delay = step();
+        if (delay >= 0) {
+            executor.schedule(() -> runScheduledStep(executor), delay, TimeUnit.MILLISECONDS);
+            return;
+        }
+
+        lock.lock();
+        try {
+            if (isRunning && targetFloors.isEmpty() && parkingFloor == FloorTargetIndex.NO_FLOOR) {
+                parkedExecutor = executor;
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        executor.execute(() -> runScheduledStep(executor));
+    }
+
+    private void wakeParkedTask() {
+        ScheduledExecutorService executor = parkedExecutor;
+        if (executor != null) {
+            parkedExecutor = null;
+            executor.execute(() -> runScheduledStep(executor));
+        }
+    }
+
+    private void awaitWork() throws InterruptedException {
+        lock.lock();
+        try {
+            while (isRunning && targetFloors.isEmpty() && parkingFloor == FloorTargetIndex.NO_FLOOR) {
+                workAvailable.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long step() {
+        lock.lock();
+        try {
+            return advance();
+        } finally {
+            publishState();
+            lock.unlock();
+        }
+    }
+
+    private long advance() {
+        switch (status) {
+            case DOORS_OPENING:
+                return openDoors();
+            case DOORS_OPEN:
+                return closeDoors();
+            case DOORS_CLOSING:
+                status = ElevatorStatus.MOVING;
+                LoggerUtil.logElevatorAction(id, "Doors", "Closed");
+                break;
+            default:
+                break;
+        }
+
+        if (shouldStopAtCurrentFloor()) {
+            return arrive();
+        }
+
+        int nextTarget = getOptimizedNextTarget();
+        if (nextTarget == FloorTargetIndex.NO_FLOOR) {
+            if (parkingFloor != FloorTargetIndex.NO_FLOOR && parkingFloor != currentFloor) {
+                return moveOneFloor(parkingFloor);
+            }
+            if (parkingFloor == currentFloor) {
+                if (LoggerUtil.isEnabled(LogLevel.INFO)) {
+                    LoggerUtil.logElevatorAction(id, "Parked", "Floor " + currentFloor);
+                }
+                parkingFloor = FloorTargetIndex.NO_FLOOR;
+            }
+            direction = Direction.IDLE;
+            status = ElevatorStatus.STOPPED;
+            return -1;
+        }
+
+        return moveOneFloor(nextTarget);
+    }
+
+    private long moveOneFloor(int targetFloor) {
+        status = ElevatorStatus.MOVING;
+        int fromFloor = currentFloor;
+
+        if (targetFloor > currentFloor) {
+            direction = Direction.UP;
+            currentFloor++;
+        } else {
+            direction = Direction.DOWN;
+            currentFloor--;
+        }
+
+        LoggerUtil.logElevatorMovement(id, fromFloor, currentFloor, direction);
+        restoreDeferredHallCalls();
+
+        totalMovementTime += MOVEMENT_TIME_PER_FLOOR;
+        return MOVEMENT_TIME_PER_FLOOR;
+    }
+
+    int getOptimizedNextTarget() {
+        if (targetFloors.isEmpty()) {
+            return FloorTargetIndex.NO_FLOOR;
+        }
+        if (targetFloors.hasPriorityStops()) {
+            int priorityStop = targetFloors.nearestPriorityStop(currentFloor);
+            if (priorityStop != currentFloor) {
+                direction = priorityStop > currentFloor ? Direction.UP : Direction.DOWN;
+            }
+            return priorityStop;
+        }
+        if (direction == Direction.UP) {
+            int closestAbove = targetFloors.nextAtOrAbove(currentFloor + 1);
+
+            if (closestAbove != FloorTargetIndex.NO_FLOOR) {
+                return closestAbove;
+            }
+            return targetFloors.lowest();
+
+        } else if (direction == Direction.DOWN) {
+            int closestBelow = targetFloors.nextAtOrBelow(currentFloor - 1);
+
+            if (closestBelow != FloorTargetIndex.NO_FLOOR) {
+                return closestBelow;
+            }
+            return targetFloors.highest();
+
+        } else {
+            int closestAbove = targetFloors.nextAtOrAbove(currentFloor);
+            int closestBelow = targetFloors.nextAtOrBelow(currentFloor);
+            int closest;
+
+            if (closestAbove == FloorTargetIndex.NO_FLOOR) {
+                closest = closestBelow;
+            } else if (closestBelow == FloorTargetIndex.NO_FLOOR) {
+                closest = closestAbove;
+            } else {
+                closest = closestAbove - currentFloor < currentFloor - closestBelow ? closestAbove : closestBelow;
+            }
+
+            direction = (closest > currentFloor) ? Direction.UP : Direction.DOWN;
+            return closest;
+        }
+    }
+
+    private boolean shouldStopAtCurrentFloor() {
+        if (targetFloors.hasPriorityStops()) {
+            return targetFloors.hasPriorityStop(currentFloor);
+        }
+        if (!targetFloors.hasStop(currentFloor)) {
+            return false;
+        }
+        if (targetFloors.hasCarCall(currentFloor) || committedDirection() == Direction.IDLE) {
+            return true;
+        }
+        // A car committed to a direction only boards that direction, so an opposite hall call here
+        // is served on the way back rather than by opening the doors now.
+        return targetFloors.hasHallCall(currentFloor, direction);
+    }
+
+    private Direction committedDirection() {
+        if (direction == Direction.UP &&
+                targetFloors.nextAtOrAbove(currentFloor + 1) != FloorTargetIndex.NO_FLOOR) {
+            return Direction.UP;
+        }
+        if (direction == Direction.DOWN &&
+                targetFloors.nextAtOrBelow(currentFloor - 1) != FloorTargetIndex.NO_FLOOR) {
+            return Direction.DOWN;
+        }
+        return Direction.IDLE;
+    }
+
+    private long arrive() {
+        if (LoggerUtil.isEnabled(LogLevel.INFO)) {
+            LoggerUtil.logElevatorAction(id, "Arrived", "Floor " + currentFloor);
+        }
+        status = ElevatorStatus.DOORS_OPENING;
+        totalStops++;
+        LoggerUtil.logElevatorAction(id, "Doors", "Opening");
+
+        totalDoorTime += DOOR_OPERATION_TIME / 2;
+        return DOOR_OPERATION_TIME / 2;
+    }
+
+    private long openDoors() {
+        status = ElevatorStatus.DOORS_OPEN;
+        LoggerUtil.logElevatorAction(id, "Doors", "Open");
+        long now = clock.currentTimeMillis();
+        RequestJournal requestJournal = journal;
+        if (requestJournal != null) {
+            requestJournal.recordStop(id, currentFloor, now);
+        }
+        List<PassengerRequest> exiting = floorDestinations.remove(currentFloor);
+        if (exiting != null && !exiting.isEmpty()) {
+            RequestMetrics requestMetrics = metrics;
+            for (PassengerRequest passenger : exiting) {
+                passenger.markDelivered(now);
+                if (requestMetrics != null) {
+                    requestMetrics.recordDelivery(passenger, id);
+                }
+                if (requestJournal != null) {
+                    requestJournal.recordDelivery(passenger, id);
+                }
+            }
+
+            passengerCount -= exiting.size();
+            totalRequestsProcessed += exiting.size();
+            if (LoggerUtil.isEnabled(LogLevel.INFO)) {
+                LoggerUtil.logElevatorAction(id, "Exit", exiting.size() + " passengers exited");
+            }
+        }
+        if (targetFloors.hasPriorityStop(currentFloor)) {
+            Direction priorityDirection = waitingPassengers.preemptiveDirection(currentFloor);
+            if (priorityDirection != null) {
+                direction = priorityDirection;
+            }
+        }
+        Direction committed = Direction.IDLE;
+        if (targetFloors.hasHallCall(currentFloor, Direction.IDLE)) {
+            committed = committedDirection();
+            int boardingCount;
+            if (committed != Direction.IDLE) {
+                boardingCount = boardPassengers(committed, now);
+            } else {
+                Direction first = idleBoardingDirection();
+                boardingCount = boardPassengers(first, now);
+                boardingCount += boardPassengers(opposite(first), now);
+            }
+            if (boardingCount > 0) {
+                if (LoggerUtil.isEnabled(LogLevel.INFO)) {
+                    LoggerUtil.logElevatorAction(id, "Enter", boardingCount + " passengers entered");
+                }
+            }
+        }
+        targetFloors.clearFloor(currentFloor);
+        if (committed != Direction.IDLE) {
+            // Riders going the other way were not offered the car; they keep their hall call and are
+            // picked up on the way back.
+            if (waitingPassengers.size(currentFloor, opposite(committed)) > 0) {
+                targetFloors.addHallCall(currentFloor, opposite(committed));
+            }
+            leaveRemainingPassengers(committed);
+        } else {
+            leaveRemainingPassengers(Direction.UP);
+            leaveRemainingPassengers(Direction.DOWN);
+        }
+        if (passengerCount > 0) {
+            if (LoggerUtil.isEnabled(LogLevel.INFO)) {
+                LoggerUtil.logElevatorAction(id, "Passengers", "Total: " + passengerCount);
+            }
+            totalDoorTime += BOARDING_TIME;
+            return BOARDING_TIME;
+        }
+        return 0;
+    }
+
+    private Direction idleBoardingDirection() {
+        if (direction != Direction.IDLE && waitingPassengers.size(currentFloor, direction) > 0) {
+            return direction;
+        }
+        return waitingPassengers.size(currentFloor, Direction.DOWN) > waitingPassengers.size(currentFloor, Direction.UP) ?
+                Direction.DOWN : Direction.UP;
+    }
+
+    private int boardPassengers(Direction boardingDirection, long now) {
+        RequestJournal requestJournal = journal;
+        int boarded = 0;
+        while (passengerCount + boarded < maxCapacity) {
+            PassengerRequest passenger = waitingPassengers.poll(currentFloor, boardingDirection);
+            if (passenger == null) {
+                break;
+            }
+
+            passenger.markBoarded(now);
+            if (requestJournal != null) {
+                requestJournal.recordBoarding(passenger, id);
+            }
+            targetFloors.addCarCall(passenger.getTargetFloor());
+            if (passenger.getPriority().isPreemptive()) {
+                targetFloors.addPriorityStop(passenger.getTargetFloor());
+            }
+            floorDestinations.computeIfAbsent(passenger.getTargetFloor(), k -> new ArrayList<>())
+                    .add(passenger);
+            boarded++;
+        }
+
+        passengerCount += boarded;
+        return boarded;
+    }
+
+    private static Direction opposite(Direction boardingDirection) {
+        return boardingDirection == Direction.UP ? Direction.DOWN : Direction.UP;
+    }
+
+    /**
+     * Riders who were offered the car in {@code boardingDirection} but did not fit are handed back for
+     * re-dispatch, or wait for this car's next visit when no handler is set. Only a full car leaves
+     * anyone behind.
+     */
+    private void leaveRemainingPassengers(Direction boardingDirection) {
+        if (passengerCount < maxCapacity || waitingPassengers.size(currentFloor, boardingDirection) == 0) {
+            return;
+        }
+
+        Consumer<PassengerRequest> handler = leftBehindHandler;
+        if (handler == null) {
+            deferredHallCallFloor = currentFloor;
+            if (LoggerUtil.isEnabled(LogLevel.INFO)) {
+                LoggerUtil.logElevatorAction(id, "Full", "Passengers left waiting at floor " + currentFloor);
+            }
+            return;
+        }
+
+        List<PassengerRequest> leftBehind = waitingPassengers.drain(currentFloor, boardingDirection);
+        if (LoggerUtil.isEnabled(LogLevel.INFO)) {
+            LoggerUtil.logElevatorAction(id, "Full", leftBehind.size() + " " + boardingDirection +
+                    " passengers left for re-dispatch");
+        }
+        for (PassengerRequest passenger : leftBehind) {
+            handler.accept(passenger);
+        }
+    }
+
+    private void restoreDeferredHallCalls() {
+        int floor = deferredHallCallFloor;
+        if (floor == FloorTargetIndex.NO_FLOOR || floor == currentFloor) {
+            return;
+        }
+
+        deferredHallCallFloor = FloorTargetIndex.NO_FLOOR;
+        for (Direction waitingDirection : new Direction[] {Direction.UP, Direction.DOWN}) {
+            if (waitingPassengers.size(floor, waitingDirection) > 0) {
+                targetFloors.addHallCall(floor, waitingDirection);
+            }
+        }
+    }
+
+    private long closeDoors() {
+        status = ElevatorStatus.DOORS_CLOSING;
+        LoggerUtil.logElevatorAction(id, "Doors", "Closing");
+
+        totalDoorTime += DOOR_OPERATION_TIME / 2;
+        return DOOR_OPERATION_TIME / 2;
+    }
+
+    public boolean hasPendingWork() {
+        ElevatorState state = snapshot;
+        return state.getPendingTargets() > 0 || state.getPassengerCount() > 0 ||
+                (state.getStatus() != ElevatorStatus.STOPPED && state.getStatus() != ElevatorStatus.MOVING);
+    }
+
+    public void finalizeWork() {
+        lock.lock();
+        try {
+            releaseRemainingWork();
+        } finally {
+            publishState();
+            lock.unlock();
+        }
+        logStatistics();
+    }
+
+    private void releaseRemainingWork() {
+        if (passengerCount > 0) {
+            if (LoggerUtil.isEnabled(LogLevel.INFO)) {
+                LoggerUtil.logElevatorAction(id, "Final exit",
+                        passengerCount + " passengers exited");
+            }
+            totalRequestsProcessed += passengerCount;
+            passengerCount = 0;
+            floorDestinations.clear();
+        }
+        parkingFloor = FloorTargetIndex.NO_FLOOR;
+        status = ElevatorStatus.STOPPED;
+        direction = Direction.IDLE;
+
+        if (LoggerUtil.isEnabled(LogLevel.INFO)) {
+            LoggerUtil.logElevatorAction(id, "Stopped", "Floor " + currentFloor);
+        }
+    }
+
+    private void publishState() {
+        ElevatorState previous = snapshot;
+        long targetsVersion = targetFloors.getVersion();
+        int[] stops = previous != null && previous.getTargetsVersion() == targetsVersion ?
+                previous.getStops() : targetFloors.toSortedArray();
+
+        snapshot = new ElevatorState(id, currentFloor, direction, status, passengerCount, maxCapacity,
+                targetFloors.size(), (direction == Direction.IDLE || parkingFloor != FloorTargetIndex.NO_FLOOR) &&
+                targetFloors.isEmpty() &&
+                passengerCount == 0 &&
+                floorDestinations.isEmpty() &&
+                waitingPassengers.isEmpty(),
+                targetsVersion, stops);
+    }
+
+    private void logStatistics() {
+        long totalTime = totalMovementTime + totalDoorTime;
+        if (LoggerUtil.isEnabled(LogLevel.INFO)) {
+            LoggerUtil.logElevatorAction(id, "Statistics",
+                    String.format("Requests: %d", totalRequestsProcessed));
+            LoggerUtil.logElevatorAction(id, "Statistics",
+                    String.format("Time: %.1fs", totalTime / 1000.0));
+        }
+    }
+
+    public void addPassengerRequest(int callFloor, Direction callDir, int targetFloor) {
+        addPassengerRequest(new PassengerRequest(callFloor, callDir, targetFloor, clock.currentTimeMillis()));
+    }
+
+    public void addPassengerRequest(PassengerRequest request) {
+        int callFloor = request.getFloor();
+        Direction callDir = request.getDirection();
+        int targetFloor = request.getTargetFloor();
+
+        lock.lock();
+        try {
+            if (callFloor < 1 || callFloor > maxFloors ||
+                    targetFloor < 1 || targetFloor > maxFloors) {
+                return;
+            }
+            parkingFloor = FloorTargetIndex.NO_FLOOR;
+            targetFloors.addHallCall(callFloor, callDir);
+            waitingPassengers.add(request);
+            if (request.getPriority().isPreemptive()) {
+                targetFloors.addPriorityStop(callFloor);
+                if (LoggerUtil.isEnabled(LogLevel.INFO)) {
+                    LoggerUtil.logElevatorAction(id, "Preempted",
+                            request.getPriority() + " call at floor " + callFloor);
+                }
+            }
+
+            if (LoggerUtil.isEnabled(LogLevel.INFO)) {
+                LoggerUtil.logElevatorAction(id, "Request",
+                        String.format("Pickup from %d (%s) -> deliver to %d",
+                                callFloor, callDir, targetFloor));
+            }
+            publishState();
+            workAvailable.signal();
+            wakeParkedTask();
+
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<PassengerRequest> getPendingHallCalls() {
+        lock.lock();
+        try {
+            List<PassengerRequest> calls = new ArrayList<>();
+            for (PassengerRequest head : waitingPassengers.heads()) {
+                if (canWithdraw(head.getFloor(), head.getDirection())) {
+                    calls.add(head);
+                }
+            }
+            return calls;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<PassengerRequest> withdrawHallCall(int floor, Direction direction) {
+        lock.lock();
+        try {
+            if (!canWithdraw(floor, direction)) {
+                return List.of();
+            }
+
+            List<PassengerRequest> withdrawn = waitingPassengers.drain(floor, direction);
+            targetFloors.removeHallCall(floor, direction);
+            if (LoggerUtil.isEnabled(LogLevel.INFO)) {
+                LoggerUtil.logElevatorAction(id, "Released",
+                        String.format("Hall call %d (%s), %d passengers", floor, direction, withdrawn.size()));
+            }
+            publishState();
+            return withdrawn;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean canWithdraw(int floor, Direction direction) {
+        if (!targetFloors.hasHallCall(floor, direction)) {
+            return false;
+        }
+        if (floor == currentFloor &&
+                (status == ElevatorStatus.DOORS_OPENING || status == ElevatorStatus.DOORS_OPEN)) {
+            return false;
+        }
+        return waitingPassengers.size(floor, direction) > 0 && !waitingPassengers.hasPreemptive(floor, direction);
+    }
+
+    public void restoreRider(PassengerRequest request) {
+        int targetFloor = request.getTargetFloor();
+
+        lock.lock();
+        try {
+            if (targetFloor < 1 || targetFloor > maxFloors) {
+                return;
+            }
+            parkingFloor = FloorTargetIndex.NO_FLOOR;
+            targetFloors.addCarCall(targetFloor);
+            if (request.getPriority().isPreemptive()) {
+                targetFloors.addPriorityStop(targetFloor);
+            }
+            floorDestinations.computeIfAbsent(targetFloor, k -> new ArrayList<>()).add(request);
+            passengerCount++;
+
+            if (LoggerUtil.isEnabled(LogLevel.INFO)) {
+                LoggerUtil.logElevatorAction(id, "Restored",
+                        String.format("Rider %s -> deliver to %d", request.getShortInfo(), targetFloor));
+            }
+            publishState();
+            workAvailable.signal();
+            wakeParkedTask();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean park(int floor) {
+        lock.lock();
+        try {
+            if (floor < 1 || floor > maxFloors || floor == currentFloor && parkingFloor == FloorTargetIndex.NO_FLOOR ||
+                    !targetFloors.isEmpty() || passengerCount > 0) {
+                return false;
+            }
+
+            parkingFloor = floor;
+            if (LoggerUtil.isEnabled(LogLevel.INFO)) {
+                LoggerUtil.logElevatorAction(id, "Parking", "Floor " + currentFloor + " -> " + floor);
+            }
+            publishState();
+            workAvailable.signal();
+            wakeParkedTask();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getParkingFloor() {
+        return parkingFloor;
+    }
+
+    public void restoreFloor(int floor) {
+        lock.lock();
+        try {
+            if (floor >= 1 && floor <= maxFloors) {
+                currentFloor = floor;
+                publishState();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getElevatorId() { return id; }
+
+    public void setClock(SimulationClock clock) {
+        this.clock = clock;
+    }
+
+    public void setMetrics(RequestMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public void setJournal(RequestJournal journal) {
+        this.journal = journal;
+    }
+
+    public void setLeftBehindHandler(Consumer<PassengerRequest> leftBehindHandler) {
+        this.leftBehindHandler = leftBehindHandler;
+    }
+
+    public int getWaitingCount() {
+        lock.lock();
+        try {
+            return waitingPassengers.getWaitingCount();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public ElevatorState getSnapshot() {
+        return snapshot;
+    }
+
+    public int getCurrentFloor() {
+        return snapshot.getCurrentFloor();
+    }
+
+    public Direction getDirection() {
+        return snapshot.getDirection();
+    }
+
+    public ElevatorStatus getStatus() {
+        return snapshot.getStatus();
+    }
+
+    public int getPassengerCount() {
+        return snapshot.getPassengerCount();
+    }
+
+    public int getMaxCapacity() {
+        return snapshot.getMaxCapacity();
+    }
+
+    public void setMaxCapacity(int maxCapacity) {
+        if (maxCapacity < 1) {
+            throw new IllegalArgumentException("Car capacity must be positive: " + maxCapacity);
+        }
+
+        lock.lock();
+        try {
+            this.maxCapacity = maxCapacity;
+            publishState();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isIdle() {
+        return snapshot.isIdle();
+    }
+
+    public int getTotalRequests() { return totalRequestsProcessed; }
+    public int getTotalStops() { return totalStops; }
+
+    public long getTotalMovementTime() { return totalMovementTime; }
+
+    public long getTotalDoorTime() { return totalDoorTime; }
+
+    public int getRequestCount() {
+        return snapshot.getPendingTargets();
+    }
+
+    public Set<Integer> getTargetFloorsCopy() {
+        lock.lock();
+        try {
+            return targetFloors.toSet();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void stopElevator() {
+        isRunning = false;
+
+        lock.lock();
+        try {
+            workAvailable.signal();
+            wakeParkedTask();
+        } finally {
+            lock.unlock();
+        }
+
+        Thread thread = worker;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    public boolean awaitTermination(long timeoutMillis) throws InterruptedException {
+        return terminated.await(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isTerminated() {
+        return terminated.getCount() == 0;
+    }
+}
\ No newline at end of file
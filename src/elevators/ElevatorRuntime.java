@@ -0,0 +1,75 @@
+package elevators;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class ElevatorRuntime {
+    private final ExecutionMode mode;
+    private final ScheduledExecutorService pool;
+
+    public ElevatorRuntime() {
+        this(ExecutionMode.PLATFORM_THREADS, 0);
+    }
+
+    public ElevatorRuntime(ExecutionMode mode, int poolSize) {
+        if (poolSize < 0) {
+            throw new IllegalArgumentException("Pool size must not be negative: " + poolSize);
+        }
+
+        this.mode = mode;
+        if (mode == ExecutionMode.FIXED_POOL) {
+            int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+            this.pool = Executors.newScheduledThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable);
+                thread.setName("Elevator-Pool-" + thread.threadId());
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.pool = null;
+        }
+    }
+
+    public void start(Elevator elevator) {
+        switch (mode) {
+            case VIRTUAL_THREADS:
+                Thread.ofVirtual().name("Elevator-" + elevator.getElevatorId()).start(elevator);
+                break;
+            case FIXED_POOL:
+                elevator.startOn(pool);
+                break;
+            default:
+                Thread.ofPlatform().name("Elevator-" + elevator.getElevatorId()).start(elevator);
+                break;
+        }
+    }
+
+    public Thread newDispatcherThread(Runnable dispatcher) {
+        return newStageThread("Dispatcher", dispatcher);
+    }
+
+    public Thread newStageThread(String name, Runnable stage) {
+        if (mode == ExecutionMode.VIRTUAL_THREADS) {
+            return Thread.ofVirtual().name(name).unstarted(stage);
+        }
+        return Thread.ofPlatform().name(name).unstarted(stage);
+    }
+
+    public void shutdown() {
+        if (pool == null) {
+            return;
+        }
+
+        pool.shutdown();
+        try {
+            pool.awaitTermination(3, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public ExecutionMode getMode() {
+        return mode;
+    }
+}
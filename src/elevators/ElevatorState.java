@@ -0,0 +1,53 @@
+package elevators;
+
+public final class ElevatorState {
+    private final int elevatorId;
+    private final int currentFloor;
+    private final Direction direction;
+    private final ElevatorStatus status;
+    private final int passengerCount;
+    private final int maxCapacity;
+    private final int pendingTargets;
+    private final boolean idle;
+    private final long targetsVersion;
+    private final int[] stops;
+
+    public ElevatorState(int elevatorId, int currentFloor, Direction direction, ElevatorStatus status,
+                         int passengerCount, int maxCapacity, int pendingTargets, boolean idle,
+                         long targetsVersion, int[] stops) {
+        this.elevatorId = elevatorId;
+        this.currentFloor = currentFloor;
+        this.direction = direction;
+        this.status = status;
+        this.passengerCount = passengerCount;
+        this.maxCapacity = maxCapacity;
+        this.pendingTargets = pendingTargets;
+        this.idle = idle;
+        this.targetsVersion = targetsVersion;
+        this.stops = stops;
+    }
+
+    public int getElevatorId() { return elevatorId; }
+    public int getCurrentFloor() { return currentFloor; }
+    public Direction getDirection() { return direction; }
+    public ElevatorStatus getStatus() { return status; }
+    public int getPassengerCount() { return passengerCount; }
+    public int getMaxCapacity() { return maxCapacity; }
+    public int getPendingTargets() { return pendingTargets; }
+    public boolean isIdle() { return idle; }
+    public long getTargetsVersion() { return targetsVersion; }
+
+    int[] getStops() {
+        return stops;
+    }
+
+    public boolean isFull() {
+        return passengerCount >= maxCapacity;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Elevator %d: floor %d, %s, %s, passengers=%d/%d, targets=%d",
+                elevatorId, currentFloor, direction, status, passengerCount, maxCapacity, pendingTargets);
+    }
+}
@@ -1,3 +1,5 @@
+package elevators;
+
 public enum ElevatorStatus {
     MOVING("MOVING"),
     STOPPED("STOPPED"),
@@ -0,0 +1,386 @@
+package elevators;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+
+public class ElevatorSystem {
+
+    private static final int LOG_BUFFER_CAPACITY = 4096;
+    private static final String JOURNAL_PROPERTY = "elevators.journal";
+    private static final String DESTINATION_TOLERANCE_PROPERTY = "elevators.destinationTolerance";
+    private static final String PREDICTIVE_PARKING_PROPERTY = "elevators.predictiveParking";
+    private static final String SCORING_WEIGHTS_PROPERTY = "elevators.scoringWeights";
+    private static final String QUEUE_CAPACITY_PROPERTY = "elevators.queueCapacity";
+    private static final String ADMISSION_POLICY_PROPERTY = "elevators.admissionPolicy";
+    private static final String REASSIGNMENT_GAIN_PROPERTY = "elevators.reassignmentGain";
+    private static final String EXECUTION_MODE_PROPERTY = "elevators.executionMode";
+    private static final String POOL_SIZE_PROPERTY = "elevators.poolSize";
+    private static final String DRAIN_TIMEOUT_PROPERTY = "elevators.drainTimeout";
+
+    public static void main(String[] args) {
+        if (args.length > 0) {
+            HeadlessRunner.main(args);
+            return;
+        }
+
+        Scanner scanner = new Scanner(System.in);
+        LoggerUtil.enableAsync(LOG_BUFFER_CAPACITY, LogOverflowPolicy.BLOCK);
+
+        System.out.println("========================================================");
+        System.out.println("          ELEVATOR CONTROL SYSTEM   ");
+        System.out.println("========================================================");
+
+        System.out.print("\nEnter number of floors in the building: ");
+        int maxFloors = scanner.nextInt();
+
+        System.out.print("Enter number of elevators: ");
+        int numberOfElevators = scanner.nextInt();
+
+        scanner.nextLine();
+
+        System.out.print("\nNumber of requests to generate (0 - manual input only): ");
+        int maxRequests = scanner.nextInt();
+        scanner.nextLine();
+
+        if (maxRequests > 0) {
+            System.out.print("Clock mode (1 - real time, 2 - virtual time simulation): ");
+            String clockMode = scanner.nextLine().trim();
+
+            if (clockMode.equals("2")) {
+                runVirtualSimulation(numberOfElevators, maxFloors, maxRequests);
+                scanner.close();
+                LoggerUtil.shutdownAsync();
+                return;
+            }
+        }
+
+        ElevatorRuntime runtime = createRuntime();
+        Dispatcher dispatcher = new Dispatcher(numberOfElevators, maxFloors, runtime);
+        configureDispatchModes(dispatcher);
+        RequestJournal journal = openJournal(dispatcher);
+        ClientGenerator clientGenerator = null;
+        Thread generatorThread = null;
+
+        if (maxRequests > 0) {
+            clientGenerator = new ClientGenerator(dispatcher, maxFloors, maxRequests);
+            generatorThread = new Thread(clientGenerator);
+        }
+
+        System.out.println("\n" + "-".repeat(70));
+        System.out.println("LAUNCHING SYSTEM (" + runtime.getMode() + ")...");
+        dispatcher.start();
+
+        try {
+            TimeUnit.SECONDS.sleep(2);
+        } catch (InterruptedException e) {
+            e.printStackTrace();
+        }
+
+        if (generatorThread != null) {
+            generatorThread.start();
+        }
+
+        boolean menuActive = true;
+        while (menuActive) {
+            // Event rows are queued on the async writer; drain them so the menu is not split by them.
+            LoggerUtil.flush();
+            System.out.println("\n" + "-".repeat(50));
+            System.out.println("              CONTROL MENU");
+            System.out.println("-".repeat(50));
+            System.out.println("1. Add manual request");
+            System.out.println("2. Show current elevator status");
+            System.out.println("3. Show work statistics");
+            System.out.println("4. Stop and exit");
+            System.out.print("Select action: ");
+
+            String choice = scanner.nextLine();
+
+            switch (choice) {
+                case "1":
+                    addManualRequest(scanner, dispatcher, maxFloors);
+                    break;
+
+                case "2":
+                    System.out.println("\n" + "=".repeat(70));
+                    System.out.println("              CURRENT SYSTEM STATUS");
+                    System.out.println("=".repeat(70));
+                    dispatcher.printStatus();
+                    break;
+
+                case "3":
+                    dispatcher.printFinalStatistics();
+                    break;
+
+                case "4":
+                    handleSystemStop(scanner, dispatcher, clientGenerator, generatorThread);
+                    closeJournal(journal);
+                    menuActive = false;
+                    break;
+
+                default:
+                    System.out.println("ERROR: Invalid choice");
+            }
+        }
+
+        scanner.close();
+        LoggerUtil.shutdownAsync();
+
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("          PROGRAM COMPLETED. THANK YOU FOR USING!");
+        System.out.println("=".repeat(70));
+
+        try {
+            TimeUnit.SECONDS.sleep(2);
+        } catch (InterruptedException e) {
+            e.printStackTrace();
+        }
+
+        System.exit(0);
+    }
+
+    static ElevatorRuntime createRuntime() {
+        ExecutionMode mode = ExecutionMode.valueOf(System.getProperty(EXECUTION_MODE_PROPERTY,
+                ExecutionMode.PLATFORM_THREADS.name()).trim().toUpperCase());
+        return new ElevatorRuntime(mode, Integer.getInteger(POOL_SIZE_PROPERTY, 0));
+    }
+
+    static void configureDispatchModes(Dispatcher dispatcher) {
+        String weightsFile = System.getProperty(SCORING_WEIGHTS_PROPERTY);
+        if (weightsFile != null && !weightsFile.isBlank()) {
+            try {
+                dispatcher.setScoringWeights(ScoringWeights.load(Path.of(weightsFile)));
+                System.out.println("Scoring weights loaded: " + dispatcher.getScoringWeights());
+            } catch (IOException e) {
+                System.out.println("WARNING: Scoring weights unavailable, using defaults: " + e.getMessage());
+            }
+        }
+        Integer capacity = Integer.getInteger(QUEUE_CAPACITY_PROPERTY);
+        if (capacity != null) {
+            AdmissionPolicy policy = AdmissionPolicy.valueOf(
+                    System.getProperty(ADMISSION_POLICY_PROPERTY, AdmissionPolicy.BLOCK.name()).trim().toUpperCase());
+            dispatcher.setAdmissionControl(capacity, policy);
+            System.out.println("Admission control enabled, queue capacity: " + capacity + ", policy: " + policy);
+        }
+        Integer tolerance = Integer.getInteger(DESTINATION_TOLERANCE_PROPERTY);
+        if (tolerance != null) {
+            dispatcher.enableDestinationDispatch(tolerance);
+            System.out.println("Destination dispatch enabled, destination tolerance: " + tolerance + " floors");
+        }
+        if (Boolean.getBoolean(PREDICTIVE_PARKING_PROPERTY)) {
+            dispatcher.enablePredictiveParking(new TrafficForecast(dispatcher.getMaxFloors()));
+            System.out.println("Predictive parking enabled");
+        }
+        Long reassignmentGain = Long.getLong(REASSIGNMENT_GAIN_PROPERTY);
+        if (reassignmentGain != null) {
+            dispatcher.enableReassignment(reassignmentGain, Dispatcher.DEFAULT_REASSIGNMENT_INTERVAL);
+            System.out.printf("Hall call reassignment enabled, minimum ETA gain: %.1fs%n", reassignmentGain / 1000.0);
+        }
+        Long drainTimeout = Long.getLong(DRAIN_TIMEOUT_PROPERTY);
+        if (drainTimeout != null) {
+            dispatcher.setDrainTimeout(drainTimeout);
+        }
+    }
+
+    private static RequestJournal openJournal(Dispatcher dispatcher) {
+        String directory = System.getProperty(JOURNAL_PROPERTY);
+        if (directory == null || directory.isBlank()) {
+            return null;
+        }
+
+        try {
+            RequestJournal journal = RequestJournal.open(Path.of(directory));
+            JournalRecovery recovery = journal.getRecovery();
+            if (!recovery.isEmpty()) {
+                int restored = dispatcher.restore(recovery);
+                System.out.printf("Journal recovery: %d outstanding requests restored (%d records, %d torn)%n",
+                        restored, recovery.getRecordsReplayed(), recovery.getTornRecords());
+            }
+            dispatcher.setJournal(journal);
+            System.out.println("Journaling requests to " + journal.getDirectory().toAbsolutePath());
+            return journal;
+        } catch (IOException e) {
+            System.out.println("WARNING: Journal unavailable, continuing without it: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static void closeJournal(RequestJournal journal) {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            System.out.println("WARNING: Failed to close journal: " + e.getMessage());
+        }
+    }
+
+    private static void runVirtualSimulation(int numberOfElevators, int maxFloors, int maxRequests) {
+        SimulationEngine engine = new SimulationEngine(numberOfElevators, maxFloors);
+        configureDispatchModes(engine.getDispatcher());
+        ClientGenerator clientGenerator = new ClientGenerator(engine.getDispatcher(), maxFloors, maxRequests);
+        clientGenerator.scheduleRequests(engine);
+
+        System.out.println("\n" + "-".repeat(70));
+        System.out.println("LAUNCHING VIRTUAL TIME SIMULATION...");
+
+        long startTime = System.currentTimeMillis();
+        engine.run();
+        long wallTime = System.currentTimeMillis() - startTime;
+
+        engine.getDispatcher().printFinalStatistics();
+
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("               SIMULATION COMPLETED");
+        System.out.println("=".repeat(70));
+        System.out.println("\nSummary:");
+        System.out.println("Requests generated: " + clientGenerator.getGeneratedCount());
+        System.out.println("Requests assigned: " + engine.getDispatcher().getTotalRequestsAssigned());
+        System.out.printf("Simulated time: %.1fs, wall time: %.3fs, events: %d%n",
+                engine.getSimulatedTime() / 1000.0, wallTime / 1000.0, engine.getProcessedEventCount());
+        System.out.println("=".repeat(70));
+    }
+
+    private static void handleSystemStop(Scanner scanner, Dispatcher dispatcher,
+                                         ClientGenerator clientGenerator, Thread generatorThread) {
+        LoggerUtil.printLine("\n" + "=".repeat(70));
+        LoggerUtil.printLine("                 SYSTEM STOPPING");
+        LoggerUtil.printLine("=".repeat(70));
+
+        if (clientGenerator != null && generatorThread != null) {
+            LoggerUtil.printLine("Stopping request generator...");
+            clientGenerator.stopGenerator();
+
+            try {
+                generatorThread.join(3000);
+                if (generatorThread.isAlive()) {
+                    LoggerUtil.printLine("WARNING: Generator did not stop in time, interrupting...");
+                    generatorThread.interrupt();
+                } else {
+                    LoggerUtil.printLine("Generator stopped. Requests generated: " +
+                            (clientGenerator != null ? clientGenerator.getGeneratedCount() : 0));
+                }
+            } catch (InterruptedException e) {
+                LoggerUtil.printLine("Interrupted while waiting for generator");
+            }
+        }
+
+        LoggerUtil.printLine("Stopping dispatcher and elevators...");
+        dispatcher.stopDispatcher();
+
+        try {
+            dispatcher.join(5000);
+            if (dispatcher.isAlive()) {
+                LoggerUtil.printLine("WARNING: Dispatcher did not stop in time, continuing...");
+            } else {
+                LoggerUtil.printLine("Dispatcher stopped");
+            }
+        } catch (InterruptedException e) {
+            LoggerUtil.printLine("Interrupted while waiting");
+        }
+
+        LoggerUtil.printLine("\nProcessing remaining requests...");
+        LoggerUtil.printLine("Waiting for elevators to finish...");
+
+        boolean allIdle = false;
+        for (int i = 0; i < 5 && !allIdle; i++) {
+            allIdle = true;
+            for (Elevator elevator : dispatcher.getElevators()) {
+                if (!elevator.isIdle()) {
+                    allIdle = false;
+                    break;
+                }
+            }
+
+            if (!allIdle) {
+                try {
+                    LoggerUtil.printLine("   Waiting cycle " + (i+1) + "/5...");
+                    TimeUnit.SECONDS.sleep(2);
+                } catch (InterruptedException e) {
+                    break;
+                }
+            }
+        }
+
+        if (!allIdle) {
+            LoggerUtil.printLine("WARNING: Some elevators are still working...");
+        }
+
+        LoggerUtil.printLine("\n" + "=".repeat(70));
+        LoggerUtil.printLine("                    FINAL STATISTICS");
+        LoggerUtil.printLine("=".repeat(70));
+
+        dispatcher.printFinalStatistics();
+
+        LoggerUtil.printLine("\n" + "=".repeat(70));
+        LoggerUtil.printLine("               SIMULATION COMPLETED");
+        LoggerUtil.printLine("=".repeat(70));
+        LoggerUtil.printLine("\nSummary:");
+        LoggerUtil.printLine("Requests generated: " +
+                (clientGenerator != null ? clientGenerator.getGeneratedCount() : 0));
+        LoggerUtil.printLine("Requests assigned: " + dispatcher.getTotalRequestsAssigned());
+        LoggerUtil.printLine("\nTo start new simulation, restart the program.");
+        LoggerUtil.printLine("=".repeat(70));
+    }
+
+    private static void addManualRequest(Scanner scanner, Dispatcher dispatcher, int maxFloors) {
+        try {
+            System.out.println("\n" + "-".repeat(50));
+            System.out.println("      ADD MANUAL REQUEST");
+            System.out.println("-".repeat(50));
+
+            System.out.print("Call floor (1-" + maxFloors + "): ");
+            int floor = scanner.nextInt();
+
+            System.out.print("Target floor (1-" + maxFloors + "): ");
+            int targetFloor = scanner.nextInt();
+
+            scanner.nextLine();
+
+            System.out.print("Call class (Enter - normal, 1 - fire service, 2 - medical, 3 - VIP, 4 - freight): ");
+            CallPriority priority = parseCallPriority(scanner.nextLine().trim());
+
+            if (floor < 1 || floor > maxFloors || targetFloor < 1 || targetFloor > maxFloors) {
+                System.out.println("ERROR: Floors must be from 1 to " + maxFloors);
+                return;
+            }
+
+            if (floor == targetFloor) {
+                System.out.println("ERROR: Floors cannot be the same");
+                return;
+            }
+
+            Direction direction = targetFloor > floor ? Direction.UP : Direction.DOWN;
+            PassengerRequest request = new PassengerRequest(floor, direction, targetFloor,
+                    System.currentTimeMillis(), priority);
+            AdmissionResult result = dispatcher.tryAddRequest(request);
+
+            if (result.isAccepted()) {
+                System.out.println("Request successfully added to system!");
+            } else {
+                System.out.println("ERROR: Request not accepted (" + result + "), please try again later");
+            }
+
+        } catch (Exception e) {
+            System.out.println("ERROR: Input data error");
+            scanner.nextLine();
+        }
+    }
+
+    private static CallPriority parseCallPriority(String choice) {
+        switch (choice) {
+            case "1":
+                return CallPriority.FIRE_SERVICE;
+            case "2":
+                return CallPriority.MEDICAL;
+            case "3":
+                return CallPriority.VIP;
+            case "4":
+                return CallPriority.FREIGHT;
+            default:
+                return CallPriority.NORMAL;
+        }
+    }
+}
\ No newline at end of file
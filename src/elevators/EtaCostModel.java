@@ -0,0 +1,77 @@
+package elevators;
+
+public class EtaCostModel {
+    public static final long UNREACHABLE = Long.MAX_VALUE;
+
+    private final long floorTime;
+    private final long stopTime;
+    private RouteEvaluation[] routes = new RouteEvaluation[0];
+    private long cacheHits;
+    private long cacheMisses;
+
+    public EtaCostModel() {
+        this(Elevator.MOVEMENT_TIME_PER_FLOOR, Elevator.DOOR_OPERATION_TIME + Elevator.BOARDING_TIME);
+    }
+
+    public EtaCostModel(long floorTime, long stopTime) {
+        this.floorTime = floorTime;
+        this.stopTime = stopTime;
+    }
+
+    public long estimateCost(ElevatorState state, PassengerRequest request) {
+        if (state.isFull()) {
+            return UNREACHABLE;
+        }
+
+        RouteEvaluation route = routeFor(state);
+        int currentFloor = state.getCurrentFloor();
+        int callFloor = request.getFloor();
+        int targetFloor = request.getTargetFloor();
+        Direction sweep = route.sweepDirection(currentFloor, state.getDirection());
+
+        long waitTime = route.arrivalTime(callFloor, request.getDirection(), currentFloor, sweep);
+        long rideTime = route.rideTime(callFloor, targetFloor);
+        long delayToOthers = route.insertionDelay(callFloor, currentFloor, sweep) +
+                route.insertionDelay(targetFloor, currentFloor, sweep);
+
+        return waitTime + rideTime + delayToOthers;
+    }
+
+    public long getStopTime() {
+        return stopTime;
+    }
+
+    public long estimateWaitTime(ElevatorState state, int floor, Direction callDirection) {
+        RouteEvaluation route = routeFor(state);
+        Direction sweep = route.sweepDirection(state.getCurrentFloor(), state.getDirection());
+        return route.arrivalTime(floor, callDirection, state.getCurrentFloor(), sweep);
+    }
+
+    private RouteEvaluation routeFor(ElevatorState state) {
+        int elevatorId = state.getElevatorId();
+        if (elevatorId >= routes.length) {
+            RouteEvaluation[] grown = new RouteEvaluation[Math.max(elevatorId + 1, routes.length * 2)];
+            System.arraycopy(routes, 0, grown, 0, routes.length);
+            routes = grown;
+        }
+
+        RouteEvaluation route = routes[elevatorId];
+        if (route != null && route.getTargetsVersion() == state.getTargetsVersion()) {
+            cacheHits++;
+            return route;
+        }
+
+        cacheMisses++;
+        route = new RouteEvaluation(state.getStops(), state.getTargetsVersion(), floorTime, stopTime);
+        routes[elevatorId] = route;
+        return route;
+    }
+
+    public long getCacheHits() {
+        return cacheHits;
+    }
+
+    public long getCacheMisses() {
+        return cacheMisses;
+    }
+}
@@ -0,0 +1,81 @@
+package elevators;
+
+import java.util.PriorityQueue;
+
+public class EventScheduler implements SimulationClock {
+    private final PriorityQueue<ScheduledEvent> events = new PriorityQueue<>();
+    private long currentTime;
+    private long sequence;
+    private long processedEvents;
+
+    public EventScheduler() {
+        this(0);
+    }
+
+    public EventScheduler(long startTime) {
+        this.currentTime = startTime;
+    }
+
+    public void schedule(long delayMillis, Runnable action) {
+        scheduleAt(currentTime + Math.max(0, delayMillis), action);
+    }
+
+    public void scheduleAt(long timeMillis, Runnable action) {
+        events.add(new ScheduledEvent(Math.max(currentTime, timeMillis), sequence++, action));
+    }
+
+    public boolean runNext() {
+        ScheduledEvent event = events.poll();
+        if (event == null) {
+            return false;
+        }
+
+        currentTime = event.time;
+        processedEvents++;
+        event.action.run();
+        return true;
+    }
+
+    public void runUntilEmpty() {
+        while (runNext()) {
+        }
+    }
+
+    public void runUntil(long timeMillis) {
+        while (!events.isEmpty() && events.peek().time <= timeMillis) {
+            runNext();
+        }
+        currentTime = Math.max(currentTime, timeMillis);
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return currentTime;
+    }
+
+    public int getPendingEventCount() {
+        return events.size();
+    }
+
+    public long getProcessedEventCount() {
+        return processedEvents;
+    }
+
+    private static final class ScheduledEvent implements Comparable<ScheduledEvent> {
+        private final long time;
+        private final long sequence;
+        private final Runnable action;
+
+        private ScheduledEvent(long time, long sequence, Runnable action) {
+            this.time = time;
+            this.sequence = sequence;
+            this.action = action;
+        }
+
+        @Override
+        public int compareTo(ScheduledEvent other) {
+            int byTime = Long.compare(time, other.time);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+}
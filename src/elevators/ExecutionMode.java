@@ -0,0 +1,22 @@
+package elevators;
+
+/**
+ * How a real-clock run schedules its cars. Virtual-clock runs need no threads at all: SimulationEngine
+ * drives every car from a single event queue.
+ */
+public enum ExecutionMode {
+    PLATFORM_THREADS("PLATFORM_THREADS"),
+    VIRTUAL_THREADS("VIRTUAL_THREADS"),
+    FIXED_POOL("FIXED_POOL");
+
+    private final String symbol;
+
+    ExecutionMode(String symbol) {
+        this.symbol = symbol;
+    }
+
+    @Override
+    public String toString() {
+        return symbol;
+    }
+}
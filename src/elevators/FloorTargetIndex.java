@@ -0,0 +1,162 @@
+package elevators;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+
+public class FloorTargetIndex {
+    public static final int NO_FLOOR = -1;
+
+    private final BitSet upCalls;
+    private final BitSet downCalls;
+    private final BitSet carCalls;
+    private final BitSet stops;
+    private final BitSet priorityStops;
+    private int stopCount;
+    private long version;
+
+    public FloorTargetIndex(int maxFloors) {
+        this.upCalls = new BitSet(maxFloors + 1);
+        this.downCalls = new BitSet(maxFloors + 1);
+        this.carCalls = new BitSet(maxFloors + 1);
+        this.stops = new BitSet(maxFloors + 1);
+        this.priorityStops = new BitSet(maxFloors + 1);
+        this.stopCount = 0;
+    }
+
+    public void addHallCall(int floor, Direction direction) {
+        if (direction == Direction.DOWN) {
+            downCalls.set(floor);
+        } else {
+            upCalls.set(floor);
+        }
+        markStop(floor);
+    }
+
+    public void addCarCall(int floor) {
+        carCalls.set(floor);
+        markStop(floor);
+    }
+
+    public void addPriorityStop(int floor) {
+        markStop(floor);
+        priorityStops.set(floor);
+    }
+
+    private void markStop(int floor) {
+        if (!stops.get(floor)) {
+            stops.set(floor);
+            stopCount++;
+            version++;
+        }
+    }
+
+    public boolean hasStop(int floor) {
+        return stops.get(floor);
+    }
+
+    public boolean hasHallCall(int floor, Direction direction) {
+        if (direction == Direction.UP) {
+            return upCalls.get(floor);
+        }
+        if (direction == Direction.DOWN) {
+            return downCalls.get(floor);
+        }
+        return upCalls.get(floor) || downCalls.get(floor);
+    }
+
+    public boolean hasCarCall(int floor) {
+        return carCalls.get(floor);
+    }
+
+    public boolean hasPriorityStop(int floor) {
+        return priorityStops.get(floor);
+    }
+
+    public boolean hasPriorityStops() {
+        return !priorityStops.isEmpty();
+    }
+
+    public int nearestPriorityStop(int floor) {
+        int above = priorityStops.nextSetBit(floor);
+        int below = priorityStops.previousSetBit(floor);
+        if (above < 0) {
+            return below;
+        }
+        if (below < 0) {
+            return above;
+        }
+        return above - floor <= floor - below ? above : below;
+    }
+
+    public void removeHallCall(int floor, Direction direction) {
+        if (direction == Direction.DOWN) {
+            downCalls.clear(floor);
+        } else {
+            upCalls.clear(floor);
+        }
+        if (stops.get(floor) && !upCalls.get(floor) && !downCalls.get(floor) &&
+                !carCalls.get(floor) && !priorityStops.get(floor)) {
+            stops.clear(floor);
+            stopCount--;
+            version++;
+        }
+    }
+
+    public void clearFloor(int floor) {
+        if (stops.get(floor)) {
+            stops.clear(floor);
+            stopCount--;
+            version++;
+        }
+        upCalls.clear(floor);
+        downCalls.clear(floor);
+        carCalls.clear(floor);
+        priorityStops.clear(floor);
+    }
+
+    public boolean isEmpty() {
+        return stopCount == 0;
+    }
+
+    public int size() {
+        return stopCount;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int nextAtOrAbove(int floor) {
+        return stops.nextSetBit(floor);
+    }
+
+    public int nextAtOrBelow(int floor) {
+        return stops.previousSetBit(floor);
+    }
+
+    public int lowest() {
+        return stops.nextSetBit(0);
+    }
+
+    public int highest() {
+        return stops.length() - 1;
+    }
+
+    public int[] toSortedArray() {
+        int[] floors = new int[stopCount];
+        int index = 0;
+        for (int floor = stops.nextSetBit(0); floor >= 0; floor = stops.nextSetBit(floor + 1)) {
+            floors[index++] = floor;
+        }
+        return floors;
+    }
+
+    public Set<Integer> toSet() {
+        Set<Integer> floors = new HashSet<>();
+        for (int floor = stops.nextSetBit(0); floor >= 0; floor = stops.nextSetBit(floor + 1)) {
+            floors.add(floor);
+        }
+        return floors;
+    }
+}
@@ -0,0 +1,380 @@
+package elevators;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+public class HeadlessRunner {
+    private static final String CONFIG_KEY = "config";
+    private static final List<String> KEYS = List.of(
+            "floors", "cars", "capacity", "profile", "rate", "duration", "seed", "clock", "producers", "zones",
+            "executionMode", "poolSize", "drainTimeout", "trace", "traceSpeed", "output", "format", "logLevel");
+    private static final long DRAIN_POLL_MILLIS = 100;
+    private static final long STOP_MARGIN_MILLIS = 10_000;
+
+    private final Properties settings;
+    private final int maxFloors;
+    private final int numberOfElevators;
+    private final int carCapacity;
+    private final TrafficProfile profile;
+    private final double rate;
+    private final long durationMillis;
+    private final long drainTimeoutMillis;
+    private final long seed;
+    private final boolean virtualClock;
+    private final int producers;
+    private final int zones;
+    private final ExecutionMode executionMode;
+    private final int poolSize;
+    private final Path trace;
+    private final double traceSpeed;
+    private final Path output;
+    private final boolean csv;
+    private final LogLevel logLevel;
+
+    public HeadlessRunner(Properties settings) {
+        for (String key : settings.stringPropertyNames()) {
+            if (!KEYS.contains(key)) {
+                throw new IllegalArgumentException("Unknown setting: " + key + " (expected one of " + KEYS + ")");
+            }
+        }
+
+        this.settings = settings;
+        this.maxFloors = intSetting("floors", 10);
+        this.numberOfElevators = intSetting("cars", 4);
+        this.carCapacity = intSetting("capacity", Elevator.DEFAULT_CAPACITY);
+        this.profile = TrafficProfile.valueOf(setting("profile", TrafficProfile.UNIFORM.name()).toUpperCase());
+        this.rate = Double.parseDouble(setting("rate", "0.5"));
+        this.durationMillis = (long) (Double.parseDouble(setting("duration", "600")) * 1000);
+        this.drainTimeoutMillis = (long) (Double.parseDouble(setting("drainTimeout", "60")) * 1000);
+        this.seed = Long.parseLong(setting("seed", Long.toString(ScenarioRunner.DEFAULT_SEED)));
+        this.producers = intSetting("producers", 1);
+        this.zones = intSetting("zones", 1);
+        this.executionMode = ExecutionMode.valueOf(
+                setting("executionMode", ExecutionMode.PLATFORM_THREADS.name()).toUpperCase());
+        this.poolSize = intSetting("poolSize", 0);
+        this.trace = settings.containsKey("trace") ? Path.of(setting("trace", "")) : null;
+        String speed = setting("traceSpeed", "1");
+        this.traceSpeed = speed.equalsIgnoreCase("max") ? TraceReplayer.MAX_SPEED : Double.parseDouble(speed);
+        this.output = Path.of(setting("output", "results.json"));
+        this.logLevel = LogLevel.valueOf(setting("logLevel", LogLevel.OFF.name()).toUpperCase());
+
+        String clock = setting("clock", "virtual").toLowerCase();
+        if (!clock.equals("virtual") && !clock.equals("real")) {
+            throw new IllegalArgumentException("Clock mode must be 'virtual' or 'real': " + clock);
+        }
+        this.virtualClock = clock.equals("virtual");
+
+        String format = setting("format", output.toString().toLowerCase().endsWith(".csv") ? "csv" : "json");
+        if (!format.equalsIgnoreCase("csv") && !format.equalsIgnoreCase("json")) {
+            throw new IllegalArgumentException("Output format must be 'json' or 'csv': " + format);
+        }
+        this.csv = format.equalsIgnoreCase("csv");
+
+        if (maxFloors < 2 || numberOfElevators < 1 || carCapacity < 1) {
+            throw new IllegalArgumentException(String.format(
+                    "Need at least 2 floors, 1 car and capacity 1: floors=%d, cars=%d, capacity=%d",
+                    maxFloors, numberOfElevators, carCapacity));
+        }
+        if (drainTimeoutMillis < 0) {
+            throw new IllegalArgumentException("Drain timeout must not be negative (0 runs to completion)");
+        }
+        if (virtualClock && (zones > 1 || settings.containsKey("executionMode"))) {
+            throw new IllegalArgumentException("Zones and execution modes require the real clock");
+        }
+        if (!(traceSpeed > 0)) {
+            throw new IllegalArgumentException("Trace speed must be positive or 'max': " + speed);
+        }
+        ShardedDispatcher.evenZones(maxFloors, numberOfElevators, zones);
+    }
+
+    public static Properties parseArguments(String[] args) throws IOException {
+        Properties arguments = new Properties();
+        for (String arg : args) {
+            String option = arg.startsWith("--") ? arg.substring(2) : arg;
+            int separator = option.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected --key=value, got: " + arg);
+            }
+            arguments.setProperty(option.substring(0, separator).trim(), option.substring(separator + 1).trim());
+        }
+
+        Properties settings = new Properties();
+        String configFile = (String) arguments.remove(CONFIG_KEY);
+        if (configFile != null) {
+            try (Reader reader = Files.newBufferedReader(Path.of(configFile), StandardCharsets.UTF_8)) {
+                settings.load(reader);
+            }
+        }
+        settings.putAll(arguments);
+        return settings;
+    }
+
+    private String setting(String key, String defaultValue) {
+        return settings.getProperty(key, defaultValue).trim();
+    }
+
+    private int intSetting(String key, int defaultValue) {
+        return Integer.parseInt(setting(key, Integer.toString(defaultValue)));
+    }
+
+    /**
+     * Runs the scenario at the configured log level. The previous level comes back only once every car
+     * has stopped; a car still running after a timed-out drain keeps logging at the run's level. With a
+     * trace set, its requests replace the generated traffic profile.
+     */
+    public Map<String, Object> run() throws IOException, InterruptedException {
+        LogLevel previousLevel = LoggerUtil.getLevel();
+        LoggerUtil.setLevel(logLevel);
+        if (virtualClock) {
+            try {
+                return runVirtual();
+            } finally {
+                LoggerUtil.setLevel(previousLevel);
+            }
+        }
+
+        Map<String, Object> results = runReal();
+        if (Boolean.TRUE.equals(results.get("stopped"))) {
+            LoggerUtil.setLevel(previousLevel);
+        }
+        return results;
+    }
+
+    private Map<String, Object> runVirtual() throws IOException {
+        SimulationEngine engine = new SimulationEngine(numberOfElevators, maxFloors);
+        Dispatcher dispatcher = engine.getDispatcher();
+        dispatcher.setCarCapacity(carCapacity);
+        ElevatorSystem.configureDispatchModes(dispatcher);
+
+        long startNanos = System.nanoTime();
+        if (trace != null) {
+            // The engine pulls one record ahead of simulated time, so the reader stays open for the whole run.
+            try (TraceReader reader = new TraceReader(trace)) {
+                engine.scheduleTrace(reader);
+                engine.run();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        } else {
+            LoadGenerator.forSimulation(maxFloors, profile, rate, durationMillis, seed).scheduleRequests(engine);
+            engine.run();
+        }
+        long wallNanos = System.nanoTime() - startNanos;
+
+        Map<String, Object> results = describeRun();
+        results.put("requests_generated", engine.getRequestsScheduled());
+        results.put("requests_admitted", dispatcher.getAdmittedRequests());
+        results.put("requests_rejected", dispatcher.getRejectedRequests());
+        addOutcome(results, dispatcher.getMetrics(), engine.getSimulatedTime(), wallNanos);
+        results.put("requests_redispatched", dispatcher.getRequestsRedispatched());
+        results.put("requests_reassigned", dispatcher.getRequestsReassigned());
+        results.put("events", engine.getProcessedEventCount());
+        results.put("events_per_wall_second", engine.getProcessedEventCount() / Math.max(1e-9, wallNanos / 1e9));
+        return results;
+    }
+
+    private Map<String, Object> runReal() throws IOException, InterruptedException {
+        ShardedDispatcher dispatcher = new ShardedDispatcher(maxFloors,
+                ShardedDispatcher.evenZones(maxFloors, numberOfElevators, zones),
+                new ElevatorRuntime(executionMode, poolSize));
+        for (Dispatcher shard : dispatcher.getShards()) {
+            shard.setCarCapacity(carCapacity);
+            ElevatorSystem.configureDispatchModes(shard);
+        }
+        dispatcher.setDrainTimeout(drainTimeoutMillis);
+
+        LoadGenerator generator = trace == null ? new LoadGenerator(dispatcher::addRequest, maxFloors, profile,
+                rate, durationMillis, producers, seed) : null;
+        TraceReplayer replayer = trace != null
+                ? new TraceReplayer(trace, dispatcher::addRequest, traceSpeed, maxFloors) : null;
+        long startNanos = System.nanoTime();
+        dispatcher.start();
+        if (replayer != null) {
+            replayer.run();
+            if (replayer.getFailure() != null) {
+                dispatcher.stop(drainTimeoutMillis);
+                throw replayer.getFailure();
+            }
+        } else {
+            generator.run();
+        }
+        boolean drained = awaitDrained(dispatcher);
+        long wallNanos = System.nanoTime() - startNanos;
+        dispatcher.stopDispatchers();
+        boolean stopped = dispatcher.join(drainTimeoutMillis == 0 ? 0 : drainTimeoutMillis + STOP_MARGIN_MILLIS);
+        if (zones > 1) {
+            dispatcher.printShardSummary();
+        }
+
+        RequestMetrics metrics = dispatcher.getMetrics();
+        Map<String, Object> results = describeRun();
+        results.put("zones", zones);
+        results.put("execution_mode", executionMode.toString());
+        results.put("requests_generated", replayer != null ? replayer.getReplayedCount() : generator.getSentCount());
+        results.put("requests_admitted", dispatcher.getAdmittedRequests());
+        results.put("requests_rejected", dispatcher.getRejectedRequests());
+        addOutcome(results, metrics, TimeUnit.NANOSECONDS.toMillis(wallNanos), wallNanos);
+        results.put("requests_redispatched", dispatcher.getRequestsRedispatched());
+        results.put("requests_reassigned", dispatcher.getRequestsReassigned());
+        results.put("requests_stolen", dispatcher.getRequestsStolen());
+        results.put("requests_unroutable", dispatcher.getUnroutableRequests());
+        if (replayer != null) {
+            results.put("trace_accepted", replayer.getAcceptedCount());
+            results.put("trace_rejected", replayer.getRejectedCount());
+            results.put("trace_out_of_range", replayer.getInvalidCount());
+            results.put("trace_max_lag_ms", replayer.getMaxLagMillis());
+        } else {
+            LatencyHistogram lag = generator.getLag();
+            results.put("generator_rate_target", generator.getTargetRate());
+            results.put("generator_rate_achieved", generator.getAchievedRate());
+            results.put("generator_lag_p99_us", lag.getPercentile(99));
+            results.put("generator_lag_max_us", lag.getMax());
+            results.put("generator_kept_up", generator.isKeptUp());
+        }
+        results.put("drained", drained);
+        results.put("stopped", stopped);
+        return results;
+    }
+
+    private boolean awaitDrained(ShardedDispatcher dispatcher) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(drainTimeoutMillis);
+        while (drainTimeoutMillis == 0 || System.nanoTime() < deadline) {
+            long finished = dispatcher.getDeliveredRequests() + dispatcher.getShedRequests();
+            if (finished >= dispatcher.getAdmittedRequests()) {
+                return true;
+            }
+            TimeUnit.MILLISECONDS.sleep(DRAIN_POLL_MILLIS);
+        }
+        return false;
+    }
+
+    private Map<String, Object> describeRun() {
+        Map<String, Object> results = new LinkedHashMap<>();
+        results.put("clock", virtualClock ? "virtual" : "real");
+        results.put("floors", maxFloors);
+        results.put("cars", numberOfElevators);
+        results.put("capacity", carCapacity);
+        if (trace != null) {
+            results.put("trace", trace.toString());
+            results.put("trace_speed", traceSpeed == TraceReplayer.MAX_SPEED ? "max" : Double.toString(traceSpeed));
+            return results;
+        }
+        results.put("profile", profile.toString());
+        results.put("rate", rate);
+        results.put("duration_s", durationMillis / 1000.0);
+        results.put("seed", seed);
+        return results;
+    }
+
+    private static void addOutcome(Map<String, Object> results, RequestMetrics metrics, long elapsedMillis,
+                                   long wallNanos) {
+        long delivered = metrics.getJourneyTime().getCount();
+        results.put("requests_delivered", delivered);
+        results.put("elapsed_s", elapsedMillis / 1000.0);
+        results.put("wall_s", wallNanos / 1e9);
+        results.put("throughput_per_s", elapsedMillis > 0 ? delivered * 1000.0 / elapsedMillis : 0.0);
+        addLatency(results, "wait", metrics.getWaitTime());
+        addLatency(results, "ride", metrics.getRideTime());
+        addLatency(results, "journey", metrics.getJourneyTime());
+    }
+
+    private static void addLatency(Map<String, Object> results, String name, LatencyHistogram histogram) {
+        results.put(name + "_mean_ms", histogram.getMean());
+        results.put(name + "_p50_ms", histogram.getPercentile(50));
+        results.put(name + "_p90_ms", histogram.getPercentile(90));
+        results.put(name + "_p99_ms", histogram.getPercentile(99));
+        results.put(name + "_max_ms", histogram.getMax());
+    }
+
+    public void write(Map<String, Object> results) throws IOException {
+        Path parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            writer.write(csv ? toCsv(results) : toJson(results));
+        }
+    }
+
+    static String toJson(Map<String, Object> results) {
+        StringBuilder json = new StringBuilder("{\n");
+        int index = 0;
+        for (Map.Entry<String, Object> entry : results.entrySet()) {
+            json.append("  \"").append(entry.getKey()).append("\": ").append(jsonValue(entry.getValue()));
+            json.append(++index < results.size() ? ",\n" : "\n");
+        }
+        return json.append("}\n").toString();
+    }
+
+    private static String jsonValue(Object value) {
+        if (value instanceof String text) {
+            return '"' + text.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+        }
+        if (value instanceof Double number) {
+            return number.isNaN() || number.isInfinite() ? "null" : format(number);
+        }
+        return String.valueOf(value);
+    }
+
+    static String toCsv(Map<String, Object> results) {
+        StringBuilder header = new StringBuilder();
+        StringBuilder row = new StringBuilder();
+        for (Map.Entry<String, Object> entry : results.entrySet()) {
+            if (header.length() > 0) {
+                header.append(',');
+                row.append(',');
+            }
+            header.append(entry.getKey());
+            Object value = entry.getValue();
+            row.append(value instanceof Double number ? format(number) : String.valueOf(value));
+        }
+        return header.append('\n').append(row).append('\n').toString();
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    public Path getOutput() {
+        return output;
+    }
+
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.out.println("Usage: HeadlessRunner [--config=<file.properties>] [--<key>=<value> ...]");
+            System.out.println("Keys: " + KEYS);
+            System.out.println("Dispatch modes use the same -Delevators.* properties as ElevatorSystem");
+            return;
+        }
+
+        try {
+            HeadlessRunner runner = new HeadlessRunner(parseArguments(args));
+            Map<String, Object> results = runner.run();
+            runner.write(results);
+            System.out.printf("Delivered %s of %s requests, wait p99 %s ms, results written to %s%n",
+                    results.get("requests_delivered"), results.get("requests_generated"),
+                    results.get("wait_p99_ms"), runner.getOutput().toAbsolutePath());
+        } catch (IOException e) {
+            System.out.println("ERROR: " + e.getMessage());
+            System.exit(1);
+        } catch (IllegalArgumentException e) {
+            System.out.println("ERROR: Invalid configuration: " + e.getMessage());
+            System.exit(2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.out.println("ERROR: Interrupted");
+            System.exit(1);
+        }
+    }
+}
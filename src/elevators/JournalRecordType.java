@@ -0,0 +1,41 @@
+package elevators;
+
+public enum JournalRecordType {
+    CHECKPOINT_BEGIN(1, "CHECKPOINT_BEGIN"),
+    CHECKPOINT_END(2, "CHECKPOINT_END"),
+    ARRIVED(3, "ARRIVED"),
+    ASSIGNED(4, "ASSIGNED"),
+    BOARDED(5, "BOARDED"),
+    DELIVERED(6, "DELIVERED"),
+    STOPPED(7, "STOPPED"),
+    CANCELLED(8, "CANCELLED");
+
+    private static final JournalRecordType[] BY_CODE = new JournalRecordType[9];
+
+    static {
+        for (JournalRecordType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final int code;
+    private final String symbol;
+
+    JournalRecordType(int code, String symbol) {
+        this.code = code;
+        this.symbol = symbol;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public static JournalRecordType fromCode(int code) {
+        return code > 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+
+    @Override
+    public String toString() {
+        return symbol;
+    }
+}
@@ -0,0 +1,53 @@
+package elevators;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public class JournalRecovery {
+    private final List<PassengerRequest> outstanding;
+    private final Map<Integer, Integer> lastStops;
+    private final int maxRequestId;
+    private final long lastSegment;
+    private final long recordsReplayed;
+    private final long tornRecords;
+
+    JournalRecovery(List<PassengerRequest> outstanding, Map<Integer, Integer> lastStops, int maxRequestId,
+                    long lastSegment, long recordsReplayed, long tornRecords) {
+        this.outstanding = Collections.unmodifiableList(new ArrayList<>(outstanding));
+        this.lastStops = Collections.unmodifiableMap(lastStops);
+        this.maxRequestId = maxRequestId;
+        this.lastSegment = lastSegment;
+        this.recordsReplayed = recordsReplayed;
+        this.tornRecords = tornRecords;
+    }
+
+    public List<PassengerRequest> getOutstanding() {
+        return outstanding;
+    }
+
+    public Map<Integer, Integer> getLastStops() {
+        return lastStops;
+    }
+
+    public int getMaxRequestId() {
+        return maxRequestId;
+    }
+
+    public long getLastSegment() {
+        return lastSegment;
+    }
+
+    public long getRecordsReplayed() {
+        return recordsReplayed;
+    }
+
+    public long getTornRecords() {
+        return tornRecords;
+    }
+
+    public boolean isEmpty() {
+        return outstanding.isEmpty() && lastStops.isEmpty();
+    }
+}
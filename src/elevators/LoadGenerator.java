@@ -0,0 +1,371 @@
+package elevators;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+public class LoadGenerator {
+    public static final int LOBBY = 1;
+    private static final long SPIN_THRESHOLD_NANOS = 100_000;
+    private static final double KEPT_UP_RATIO = 0.99;
+    private static final long KEPT_UP_P99_LAG_MICROS = 5000;
+    private static final String SEED_PROPERTY = "elevators.seed";
+    private static final String PRODUCERS_PROPERTY = "elevators.producers";
+    private static final String QUEUE_CAPACITY_PROPERTY = "elevators.queueCapacity";
+    private static final String ADMISSION_POLICY_PROPERTY = "elevators.admissionPolicy";
+    private static final int DEFAULT_QUEUE_CAPACITY = 100_000;
+
+    private final Function<PassengerRequest, AdmissionResult> sink;
+    private final int maxFloors;
+    private final TrafficProfile profile;
+    private final double peakRate;
+    private final long durationNanos;
+    private final double[] cumulativeWeights;
+    private final double[] cumulativeUpperWeights;
+    private final int producerCount;
+    private final long seed;
+    private final List<Producer> producers = new ArrayList<>();
+    private volatile boolean isRunning;
+    private long elapsedNanos;
+
+    public LoadGenerator(Function<PassengerRequest, AdmissionResult> sink, int maxFloors, TrafficProfile profile,
+                         double peakRate, long durationMillis, int producerCount, long seed) {
+        this(sink, maxFloors, profile, peakRate, durationMillis, producerCount, seed, uniformWeights(maxFloors));
+    }
+
+    public LoadGenerator(Function<PassengerRequest, AdmissionResult> sink, int maxFloors, TrafficProfile profile,
+                         double peakRate, long durationMillis, int producerCount, long seed,
+                         double[] floorWeights) {
+        if (maxFloors < 2) {
+            throw new IllegalArgumentException("Load generation needs at least two floors: " + maxFloors);
+        }
+        if (!(peakRate > 0)) {
+            throw new IllegalArgumentException("Peak rate must be positive: " + peakRate);
+        }
+        if (durationMillis < 1) {
+            throw new IllegalArgumentException("Duration must be positive: " + durationMillis);
+        }
+        if (producerCount < 1) {
+            throw new IllegalArgumentException("At least one producer thread is required: " + producerCount);
+        }
+        if (floorWeights.length != maxFloors) {
+            throw new IllegalArgumentException("Expected " + maxFloors + " floor weights, got " + floorWeights.length);
+        }
+
+        this.sink = sink;
+        this.maxFloors = maxFloors;
+        this.profile = profile;
+        this.peakRate = peakRate;
+        this.durationNanos = TimeUnit.MILLISECONDS.toNanos(durationMillis);
+        this.cumulativeWeights = cumulative(floorWeights, 0);
+        this.cumulativeUpperWeights = cumulative(floorWeights, LOBBY);
+        this.producerCount = producerCount;
+        this.seed = seed;
+        this.isRunning = true;
+
+        int popularFloors = 0;
+        for (double weight : floorWeights) {
+            if (weight < 0 || Double.isNaN(weight)) {
+                throw new IllegalArgumentException("Floor weights must not be negative: " + Arrays.toString(floorWeights));
+            }
+            popularFloors += weight > 0 ? 1 : 0;
+        }
+        if (popularFloors < 2) {
+            throw new IllegalArgumentException("At least two floors need a positive weight: " +
+                    Arrays.toString(floorWeights));
+        }
+    }
+
+    /**
+     * Creates a generator that only feeds {@link #scheduleRequests(SimulationEngine)}. Arrivals are
+     * admitted by the engine's dispatcher, so there is no sink and {@link #run()} is not available.
+     */
+    public static LoadGenerator forSimulation(int maxFloors, TrafficProfile profile, double peakRate,
+                                              long durationMillis, long seed) {
+        return forSimulation(maxFloors, profile, peakRate, durationMillis, seed, uniformWeights(maxFloors));
+    }
+
+    public static LoadGenerator forSimulation(int maxFloors, TrafficProfile profile, double peakRate,
+                                              long durationMillis, long seed, double[] floorWeights) {
+        return new LoadGenerator(null, maxFloors, profile, peakRate, durationMillis, 1, seed, floorWeights);
+    }
+
+    public static double[] uniformWeights(int maxFloors) {
+        double[] weights = new double[maxFloors];
+        Arrays.fill(weights, 1.0);
+        return weights;
+    }
+
+    private static double[] cumulative(double[] weights, int from) {
+        double[] cumulative = new double[weights.length - from];
+        double total = 0;
+        for (int i = from; i < weights.length; i++) {
+            total += weights[i];
+            cumulative[i - from] = total;
+        }
+        return cumulative;
+    }
+
+    public void run() {
+        if (sink == null) {
+            throw new IllegalStateException("Generator was created for simulation and has no sink to run against");
+        }
+        LoggerUtil.logSystemInfo(String.format("Load generator started: %s, peak %.0f requests/s, %d producers",
+                profile, peakRate, producerCount));
+
+        long startNanos = System.nanoTime();
+        long startMillis = System.currentTimeMillis();
+        List<Thread> threads = new ArrayList<>(producerCount);
+        for (int i = 0; i < producerCount; i++) {
+            Producer producer = new Producer(ScenarioRunner.seedFor(seed, i), producerCount, startNanos, startMillis);
+            producers.add(producer);
+            threads.add(Thread.ofPlatform().name("LoadProducer-" + i).start(producer));
+        }
+
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                stop();
+                break;
+            }
+        }
+        elapsedNanos = System.nanoTime() - startNanos;
+
+        LoggerUtil.logSystemInfo(String.format("Load generator stopped. Sent %d requests, %s",
+                getSentCount(), isKeptUp() ? "kept up with target rate" : "fell behind target rate"));
+    }
+
+    public void scheduleRequests(SimulationEngine engine) {
+        Producer producer = new Producer(ScenarioRunner.seedFor(seed, 0), 1, 0, 0);
+        producers.add(producer);
+        producer.schedule(engine);
+        elapsedNanos = durationNanos;
+
+        LoggerUtil.logSystemInfo(String.format("Load generator scheduled %d %s requests in virtual time.",
+                producer.scheduled, profile));
+    }
+
+    public void stop() {
+        isRunning = false;
+    }
+
+    public long getScheduledCount() {
+        long total = 0;
+        for (Producer producer : producers) {
+            total += producer.scheduled;
+        }
+        return total;
+    }
+
+    public long getSentCount() {
+        long total = 0;
+        for (Producer producer : producers) {
+            total += producer.sent;
+        }
+        return total;
+    }
+
+    public long getAcceptedCount() {
+        long total = 0;
+        for (Producer producer : producers) {
+            total += producer.accepted;
+        }
+        return total;
+    }
+
+    public LatencyHistogram getLag() {
+        LatencyHistogram lag = new LatencyHistogram();
+        for (Producer producer : producers) {
+            lag.add(producer.lag);
+        }
+        return lag;
+    }
+
+    public double getTargetRate() {
+        return getScheduledCount() * (double) TimeUnit.SECONDS.toNanos(1) / durationNanos;
+    }
+
+    public double getAchievedRate() {
+        return elapsedNanos == 0 ? 0 : getSentCount() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    public boolean isKeptUp() {
+        return getSentCount() == getScheduledCount() &&
+                getAchievedRate() >= getTargetRate() * KEPT_UP_RATIO &&
+                getLag().getPercentile(99) <= KEPT_UP_P99_LAG_MICROS;
+    }
+
+    public void printReport() {
+        LatencyHistogram lag = getLag();
+        long sent = getSentCount();
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("                        LOAD GENERATOR REPORT");
+        System.out.println("=".repeat(80));
+        System.out.printf("Profile: %s, peak rate %.0f/s, %d producers, seed %d%n",
+                profile, peakRate, producerCount, seed);
+        System.out.printf("Scheduled: %d, sent: %d, accepted: %d, rejected: %d%n",
+                getScheduledCount(), sent, getAcceptedCount(), sent - getAcceptedCount());
+        System.out.printf("Target rate: %.0f/s, achieved: %.0f/s over %.3fs%n",
+                getTargetRate(), getAchievedRate(), elapsedNanos / 1e9);
+        System.out.printf("Lag behind schedule (us): mean %.1f, p50 %d, p99 %d, p99.9 %d, max %d%n",
+                lag.getMean(), lag.getPercentile(50), lag.getPercentile(99), lag.getPercentile(99.9), lag.getMax());
+        if (isKeptUp()) {
+            System.out.println("Result: kept up with the target rate");
+        } else {
+            System.out.printf("Result: FELL BEHIND the target rate (need %.0f%% of target and p99 lag <= %d us)%n",
+                    KEPT_UP_RATIO * 100, KEPT_UP_P99_LAG_MICROS);
+        }
+        System.out.println("=".repeat(80));
+    }
+
+    private final class Producer implements Runnable {
+        private final SplittableRandom random;
+        private final double meanGapNanos;
+        private final long startNanos;
+        private final long startMillis;
+        private final LatencyHistogram lag = new LatencyHistogram();
+        private long scheduled;
+        private long sent;
+        private long accepted;
+        private double offset;
+        private int floor;
+        private int targetFloor;
+
+        private Producer(long seed, int streams, long startNanos, long startMillis) {
+            this.random = new SplittableRandom(seed);
+            this.meanGapNanos = TimeUnit.SECONDS.toNanos(1) * streams / peakRate;
+            this.startNanos = startNanos;
+            this.startMillis = startMillis;
+        }
+
+        @Override
+        public void run() {
+            while (isRunning && nextArrival()) {
+                long intendedNanos = startNanos + (long) offset;
+                Direction direction = targetFloor > floor ? Direction.UP : Direction.DOWN;
+                PassengerRequest request = new PassengerRequest(floor, direction, targetFloor,
+                        startMillis + TimeUnit.NANOSECONDS.toMillis((long) offset));
+                waitUntil(intendedNanos);
+                if (!isRunning) {
+                    break;
+                }
+
+                if (sink.apply(request).isAccepted()) {
+                    accepted++;
+                }
+                sent++;
+                lag.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedNanos));
+            }
+            waitUntil(startNanos + durationNanos);
+        }
+
+        private void schedule(SimulationEngine engine) {
+            while (nextArrival()) {
+                engine.scheduleRequest(TimeUnit.NANOSECONDS.toMillis((long) offset), floor, targetFloor);
+            }
+        }
+
+        private boolean nextArrival() {
+            do {
+                offset += -Math.log(1.0 - random.nextDouble()) * meanGapNanos;
+                if (offset >= durationNanos) {
+                    return false;
+                }
+            } while (profile.isTimeVarying() && random.nextDouble() >= profile.rateFactor(offset / durationNanos));
+
+            nextTrip();
+            scheduled++;
+            return true;
+        }
+
+        private void nextTrip() {
+            double trip = random.nextDouble();
+
+            if (trip < profile.getFromLobbyShare()) {
+                floor = LOBBY;
+                targetFloor = pick(cumulativeUpperWeights) + LOBBY;
+            } else if (trip < profile.getFromLobbyShare() + profile.getToLobbyShare()) {
+                floor = pick(cumulativeUpperWeights) + LOBBY;
+                targetFloor = LOBBY;
+            } else {
+                floor = pick(cumulativeWeights);
+                do {
+                    targetFloor = pick(cumulativeWeights);
+                } while (targetFloor == floor);
+            }
+        }
+
+        private int pick(double[] cumulative) {
+            double point = random.nextDouble() * cumulative[cumulative.length - 1];
+            int index = Arrays.binarySearch(cumulative, point);
+            index = index >= 0 ? index + 1 : -index - 1;
+            while (index < cumulative.length - 1 && cumulative[index] <= point) {
+                index++;
+            }
+            return index + 1;
+        }
+
+        private void waitUntil(long dueNanos) {
+            long remaining = dueNanos - System.nanoTime();
+            while (remaining > 0 && isRunning) {
+                if (remaining > SPIN_THRESHOLD_NANOS) {
+                    LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+                } else {
+                    Thread.onSpinWait();
+                }
+                remaining = dueNanos - System.nanoTime();
+            }
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length < 4) {
+            System.out.println("Usage: LoadGenerator <floors> <cars> <peak requests/s> <seconds> [<profile>]");
+            System.out.println("Profiles: " + Arrays.toString(TrafficProfile.values()));
+            System.out.println("Properties: -D" + SEED_PROPERTY + "=<seed> -D" + PRODUCERS_PROPERTY + "=<threads> -D" +
+                    QUEUE_CAPACITY_PROPERTY + "=<requests> -D" + ADMISSION_POLICY_PROPERTY + "=<policy>");
+            return;
+        }
+
+        int maxFloors = Integer.parseInt(args[0]);
+        int numberOfElevators = Integer.parseInt(args[1]);
+        double peakRate = Double.parseDouble(args[2]);
+        long durationMillis = (long) (Double.parseDouble(args[3]) * 1000);
+        TrafficProfile profile = args.length > 4 ?
+                TrafficProfile.valueOf(args[4].trim().toUpperCase()) : TrafficProfile.UNIFORM;
+        int producers = Integer.getInteger(PRODUCERS_PROPERTY,
+                Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2)));
+
+        Dispatcher dispatcher = new Dispatcher(numberOfElevators, maxFloors);
+        dispatcher.setPrintEventLogFrame(false);
+        dispatcher.setAdmissionControl(Integer.getInteger(QUEUE_CAPACITY_PROPERTY, DEFAULT_QUEUE_CAPACITY),
+                AdmissionPolicy.valueOf(System.getProperty(ADMISSION_POLICY_PROPERTY,
+                        AdmissionPolicy.REJECT.name()).trim().toUpperCase()));
+
+        LoggerUtil.setLevel(LogLevel.OFF);
+        LoadGenerator generator = new LoadGenerator(dispatcher::addRequest, maxFloors, profile, peakRate,
+                durationMillis, producers, Long.getLong(SEED_PROPERTY, ScenarioRunner.DEFAULT_SEED));
+        dispatcher.start();
+        generator.run();
+        dispatcher.stopDispatcher();
+        // Stopping is bounded by the dispatcher's drain timeout, so the report only ever sees final counts.
+        dispatcher.join(0);
+
+        generator.printReport();
+        System.out.printf("%nDispatcher admission (%s, capacity %d): %d admitted, %d rejected, %d shed, %d assigned, " +
+                        "%d delivered%n",
+                dispatcher.getAdmissionPolicy(), dispatcher.getQueueCapacity(), dispatcher.getAdmittedRequests(),
+                dispatcher.getRejectedRequests(), dispatcher.getShedRequests(), dispatcher.getTotalRequestsAssigned(),
+                dispatcher.getMetrics().getJourneyTime().getCount());
+        PipelineStage.printHeaderRow();
+        for (PipelineStage stage : dispatcher.getPipelineStages()) {
+            stage.printRow();
+        }
+    }
+}
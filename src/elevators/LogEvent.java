@@ -0,0 +1,48 @@
+package elevators;
+
+public class LogEvent {
+    public static final int NO_ELEVATOR = -1;
+
+    long time;
+    int elevatorId;
+    String source;
+    String action;
+    String details;
+    boolean movement;
+    int fromFloor;
+    int toFloor;
+    Direction direction;
+    String rawLine;
+
+    void setRow(long time, int elevatorId, String source, String action, String details) {
+        this.time = time;
+        this.elevatorId = elevatorId;
+        this.source = source;
+        this.action = action;
+        this.details = details;
+        this.movement = false;
+        this.rawLine = null;
+    }
+
+    void setMovement(long time, int elevatorId, int fromFloor, int toFloor, Direction direction) {
+        this.time = time;
+        this.elevatorId = elevatorId;
+        this.source = null;
+        this.action = "Moving";
+        this.details = null;
+        this.movement = true;
+        this.fromFloor = fromFloor;
+        this.toFloor = toFloor;
+        this.direction = direction;
+        this.rawLine = null;
+    }
+
+    void setRawLine(String line) {
+        this.rawLine = line;
+        this.source = null;
+        this.action = null;
+        this.details = null;
+        this.direction = null;
+        this.movement = false;
+    }
+}
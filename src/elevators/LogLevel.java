@@ -0,0 +1,19 @@
+package elevators;
+
+public enum LogLevel {
+    DEBUG("DEBUG"),
+    INFO("INFO"),
+    WARN("WARN"),
+    OFF("OFF");
+
+    private final String symbol;
+
+    LogLevel(String symbol) {
+        this.symbol = symbol;
+    }
+
+    @Override
+    public String toString() {
+        return symbol;
+    }
+}
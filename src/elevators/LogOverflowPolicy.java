@@ -0,0 +1,17 @@
+package elevators;
+
+public enum LogOverflowPolicy {
+    DROP("DROP"),
+    BLOCK("BLOCK");
+
+    private final String symbol;
+
+    LogOverflowPolicy(String symbol) {
+        this.symbol = symbol;
+    }
+
+    @Override
+    public String toString() {
+        return symbol;
+    }
+}
@@ -0,0 +1,303 @@
+package elevators;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+public class LoggerUtil {
+    private static final DateTimeFormatter timeFormatter =
+            DateTimeFormatter.ofPattern("HH:mm:ss").withZone(ZoneId.systemDefault());
+    private static final int COLUMN_TIME = 12;
+    private static final int COLUMN_SOURCE = 20;
+    private static final int COLUMN_ACTION = 30;
+    private static final int COLUMN_DETAILS = 40;
+    private static final int ROW_LENGTH = COLUMN_TIME + COLUMN_SOURCE + COLUMN_ACTION + COLUMN_DETAILS + 8;
+    private static final String DISPATCHER_SOURCE = "Dispatcher";
+    private static volatile SimulationClock clock = SimulationClock.SYSTEM;
+    private static volatile LogLevel level = LogLevel.DEBUG;
+    private static volatile AsyncLogWriter asyncWriter;
+    private static final ThreadLocal<SimulationClock> threadClock = new ThreadLocal<>();
+    private static final ThreadLocal<LogLevel> threadLevel = new ThreadLocal<>();
+
+    public static void setLevel(LogLevel newLevel) {
+        level = newLevel;
+    }
+
+    public static LogLevel getLevel() {
+        return level;
+    }
+
+    /**
+     * Overrides the global level for the calling thread only, so concurrent simulations can silence
+     * themselves without touching each other's output. Passing {@code null} removes the override.
+     */
+    public static void setThreadLevel(LogLevel newLevel) {
+        if (newLevel == null) {
+            threadLevel.remove();
+        } else {
+            threadLevel.set(newLevel);
+        }
+    }
+
+    public static LogLevel getThreadLevel() {
+        return threadLevel.get();
+    }
+
+    public static boolean isEnabled(LogLevel eventLevel) {
+        LogLevel localLevel = threadLevel.get();
+        return eventLevel.ordinal() >= (localLevel != null ? localLevel : level).ordinal();
+    }
+
+    public static synchronized void enableAsync(int capacity, LogOverflowPolicy overflowPolicy) {
+        if (asyncWriter != null) {
+            return;
+        }
+        asyncWriter = new AsyncLogWriter(capacity, overflowPolicy, System.out);
+    }
+
+    public static synchronized void shutdownAsync() {
+        AsyncLogWriter writer = asyncWriter;
+        if (writer == null) {
+            return;
+        }
+        writer.flush();
+        asyncWriter = null;
+        writer.shutdown();
+    }
+
+    public static void flush() {
+        AsyncLogWriter writer = asyncWriter;
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    public static long getDroppedEventCount() {
+        AsyncLogWriter writer = asyncWriter;
+        return writer != null ? writer.getDroppedCount() : 0;
+    }
+
+    public static void setClock(SimulationClock newClock) {
+        clock = newClock;
+    }
+
+    public static SimulationClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Stamps rows logged from the calling thread with {@code newClock} instead of the global clock.
+     * Passing {@code null} removes the override.
+     */
+    public static void setThreadClock(SimulationClock newClock) {
+        if (newClock == null) {
+            threadClock.remove();
+        } else {
+            threadClock.set(newClock);
+        }
+    }
+
+    public static SimulationClock getThreadClock() {
+        return threadClock.get();
+    }
+
+    private static long currentTimeMillis() {
+        SimulationClock localClock = threadClock.get();
+        return (localClock != null ? localClock : clock).currentTimeMillis();
+    }
+
+    static String formatTime(long timeMillis) {
+        return timeFormatter.format(Instant.ofEpochMilli(timeMillis));
+    }
+
+    private static void printRow(String time, String source, String action, String details) {
+        StringBuilder row = new StringBuilder(ROW_LENGTH);
+        appendRow(row, time, source, action, details);
+        emitLine(row.toString());
+    }
+
+    private static void emitLine(String line) {
+        AsyncLogWriter writer = asyncWriter;
+        if (writer != null) {
+            // A rejected line is already counted as dropped by the writer; printing it here would
+            // block the caller on System.out, which is what the async writer exists to avoid.
+            writer.publishRawLine(line);
+            return;
+        }
+        System.out.println(line);
+    }
+
+    private static void emitRow(int elevatorId, String source, String action, String details) {
+        long time = currentTimeMillis();
+        AsyncLogWriter writer = asyncWriter;
+        if (writer != null) {
+            writer.publishRow(time, elevatorId, source, action, details);
+            return;
+        }
+
+        StringBuilder row = new StringBuilder(ROW_LENGTH);
+        appendRow(row, formatTime(time), elevatorSource(elevatorId, source), action, details);
+        System.out.println(row);
+    }
+
+    static void appendRow(StringBuilder row, String time, LogEvent event) {
+        if (event.movement) {
+            row.append("| ");
+            appendPadded(row, time, COLUMN_TIME - 2);
+            row.append(" | Elevator ").append(event.elevatorId);
+            appendSpaces(row, COLUMN_SOURCE - 2 - "Elevator ".length() - digits(event.elevatorId));
+            row.append(" | ");
+            appendPadded(row, event.action, COLUMN_ACTION - 2);
+            row.append(" | Floor ").append(event.fromFloor).append(" -> ").append(event.toFloor)
+                    .append(' ').append(event.direction);
+            int detailsLength = "Floor  ->  ".length() + digits(event.fromFloor) + digits(event.toFloor) +
+                    event.direction.toString().length();
+            appendSpaces(row, COLUMN_DETAILS - 2 - detailsLength);
+            row.append(" |");
+            return;
+        }
+
+        appendRow(row, time, elevatorSource(event.elevatorId, event.source), event.action, event.details);
+    }
+
+    private static void appendRow(StringBuilder row, String time, String source, String action, String details) {
+        row.append("| ");
+        appendPadded(row, time, COLUMN_TIME - 2);
+        row.append(" | ");
+        appendPadded(row, source, COLUMN_SOURCE - 2);
+        row.append(" | ");
+        appendPadded(row, action, COLUMN_ACTION - 2);
+        row.append(" | ");
+        appendPadded(row, details, COLUMN_DETAILS - 2);
+        row.append(" |");
+    }
+
+    private static void appendPadded(StringBuilder row, String value, int width) {
+        String text = String.valueOf(value);
+        row.append(text);
+        appendSpaces(row, width - text.length());
+    }
+
+    private static void appendSpaces(StringBuilder row, int count) {
+        for (int i = 0; i < count; i++) {
+            row.append(' ');
+        }
+    }
+
+    private static int digits(int value) {
+        return Integer.toString(value).length();
+    }
+
+    private static String elevatorSource(int elevatorId, String source) {
+        return elevatorId == LogEvent.NO_ELEVATOR ? source : "Elevator " + elevatorId;
+    }
+
+    private static String separatorLine() {
+        return "+" + "-".repeat(COLUMN_TIME - 1) +
+                "+" + "-".repeat(COLUMN_SOURCE - 1) +
+                "+" + "-".repeat(COLUMN_ACTION - 1) +
+                "+" + "-".repeat(COLUMN_DETAILS - 1) +
+                "+";
+    }
+
+    public static void printHeader(String title) {
+        if (!isEnabled(LogLevel.INFO)) {
+            return;
+        }
+        int totalWidth = COLUMN_TIME + COLUMN_SOURCE + COLUMN_ACTION + COLUMN_DETAILS + 5;
+        emitLine("");
+        emitLine("=".repeat(totalWidth));
+        emitLine(" " + title);
+        emitLine("=".repeat(totalWidth));
+
+        emitLine(separatorLine());
+        printRow("Time", "Source", "Action", "Details");
+        emitLine(separatorLine());
+    }
+
+    public static void printFooter() {
+        if (!isEnabled(LogLevel.INFO)) {
+            flush();
+            return;
+        }
+        emitLine(separatorLine());
+        flush();
+    }
+
+    public static void logRequest(String source, String action, String details) {
+        if (isEnabled(LogLevel.INFO)) {
+            emitRow(LogEvent.NO_ELEVATOR, source, action, details);
+        }
+    }
+
+    public static void logElevatorAction(int elevatorId, String action, String details) {
+        logElevatorAction(LogLevel.INFO, elevatorId, action, details);
+    }
+
+    public static void logElevatorAction(LogLevel eventLevel, int elevatorId, String action, String details) {
+        if (isEnabled(eventLevel)) {
+            emitRow(elevatorId, null, action, details);
+        }
+    }
+
+    public static void logElevatorMovement(int elevatorId, int fromFloor, int toFloor, Direction direction) {
+        if (!isEnabled(LogLevel.DEBUG)) {
+            return;
+        }
+
+        long time = currentTimeMillis();
+        AsyncLogWriter writer = asyncWriter;
+        if (writer != null) {
+            writer.publishMovement(time, elevatorId, fromFloor, toFloor, direction);
+            return;
+        }
+
+        emitRow(elevatorId, null, "Moving",
+                "Floor " + fromFloor + " -> " + toFloor + " " + direction);
+    }
+
+    public static void logDispatcherAction(String action, String details) {
+        logDispatcherAction(LogLevel.INFO, action, details);
+    }
+
+    public static void logDispatcherAction(LogLevel eventLevel, String action, String details) {
+        logDispatcherAction(DISPATCHER_SOURCE, eventLevel, action, details);
+    }
+
+    public static void logDispatcherAction(String dispatcherName, LogLevel eventLevel, String action, String details) {
+        if (isEnabled(eventLevel)) {
+            emitRow(LogEvent.NO_ELEVATOR, dispatcherName, action, details);
+        }
+    }
+
+    public static void printLine(String line) {
+        emitLine(line);
+    }
+
+    public static void logSystemInfo(String message) {
+        if (isEnabled(LogLevel.INFO)) {
+            emitLine("[SYSTEM] " + message);
+        }
+    }
+
+    public static void printElevatorStatsHeader() {
+        flush();
+        System.out.println();
+        System.out.println("+--------+----------+------------+----------+------------------+----------+");
+        System.out.println("| Elev # |  Floor   | Direction  |  Status  |   Passengers     | Requests |");
+        System.out.println("+--------+----------+------------+----------+------------------+----------+");
+    }
+
+    public static void printElevatorStat(int id, int floor, String direction, String status,
+                                         int passengers, int requests) {
+        String passengerInfo = passengers + "/10";
+        String requestInfo = requests + " requests";
+
+        System.out.printf("|   %-4d |   %-6d |   %-8s | %-8s |     %-12s | %-8s |%n",
+                id, floor, direction, status, passengerInfo, requestInfo);
+    }
+
+    public static void printElevatorStatsFooter() {
+        System.out.println("+--------+----------+------------+----------+------------------+----------+");
+    }
+}
\ No newline at end of file
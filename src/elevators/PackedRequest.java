@@ -0,0 +1,77 @@
+package elevators;
+
+public final class PackedRequest {
+    public static final int MAX_FLOOR = (1 << 14) - 1;
+    public static final int MAX_REQUEST_ID = (1 << 29) - 1;
+
+    private static final int FLOOR_BITS = 14;
+    private static final int DIRECTION_BITS = 2;
+    private static final long FLOOR_MASK = (1L << FLOOR_BITS) - 1;
+    private static final long DIRECTION_MASK = (1L << DIRECTION_BITS) - 1;
+    private static final int TARGET_SHIFT = FLOOR_BITS;
+    private static final int DIRECTION_SHIFT = TARGET_SHIFT + FLOOR_BITS;
+    private static final int ID_SHIFT = 32;
+    private static final int ID_BITS = 29;
+    private static final long ID_MASK = (1L << ID_BITS) - 1;
+    private static final int PRIORITY_SHIFT = ID_SHIFT + ID_BITS;
+    private static final long PRIORITY_MASK = (1L << (Long.SIZE - PRIORITY_SHIFT)) - 1;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private PackedRequest() {
+    }
+
+    public static long encode(int requestId, int floor, Direction direction, int targetFloor) {
+        return encode(requestId, floor, direction, targetFloor, CallPriority.NORMAL);
+    }
+
+    public static long encode(int requestId, int floor, Direction direction, int targetFloor,
+                              CallPriority priority) {
+        if (floor < 0 || floor > MAX_FLOOR || targetFloor < 0 || targetFloor > MAX_FLOOR) {
+            throw new IllegalArgumentException("Floor out of packable range: " + floor + "->" + targetFloor);
+        }
+        if (requestId < 0 || requestId > MAX_REQUEST_ID) {
+            throw new IllegalArgumentException("Request ID out of packable range: " + requestId);
+        }
+        return ((long) priority.getCode() << PRIORITY_SHIFT)
+                | ((long) requestId << ID_SHIFT)
+                | ((long) direction.ordinal() << DIRECTION_SHIFT)
+                | ((long) targetFloor << TARGET_SHIFT)
+                | floor;
+    }
+
+    public static long encode(PassengerRequest request) {
+        return encode(request.getRequestId(), request.getFloor(),
+                request.getDirection(), request.getTargetFloor(), request.getPriority());
+    }
+
+    public static int requestId(long header) {
+        return (int) ((header >>> ID_SHIFT) & ID_MASK);
+    }
+
+    public static CallPriority priority(long header) {
+        return CallPriority.fromCode((int) ((header >>> PRIORITY_SHIFT) & PRIORITY_MASK));
+    }
+
+    public static int floor(long header) {
+        return (int) (header & FLOOR_MASK);
+    }
+
+    public static int targetFloor(long header) {
+        return (int) ((header >>> TARGET_SHIFT) & FLOOR_MASK);
+    }
+
+    public static Direction direction(long header) {
+        return DIRECTIONS[(int) ((header >>> DIRECTION_SHIFT) & DIRECTION_MASK)];
+    }
+
+    public static PassengerRequest decode(long header, long timestampMillis) {
+        return new PassengerRequest(requestId(header), floor(header), direction(header),
+                targetFloor(header), timestampMillis, priority(header));
+    }
+
+    public static String toString(long header) {
+        CallPriority priority = priority(header);
+        return String.format("#%d: %d->%d %s%s", requestId(header), floor(header), targetFloor(header),
+                direction(header), priority.isPriority() ? " " + priority : "");
+    }
+}
@@ -0,0 +1,104 @@
+package elevators;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class PackedRequestBuffer {
+    public interface Sink {
+        void accept(long header, long timestampNanos);
+    }
+
+    private final int capacity;
+    private final int mask;
+    private final long[] headers;
+    private final long[] timestamps;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public PackedRequestBuffer(int requestedCapacity) {
+        if (requestedCapacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + requestedCapacity);
+        }
+        this.capacity = Math.max(2, Integer.highestOneBit(requestedCapacity - 1) << 1);
+        this.mask = capacity - 1;
+        this.headers = new long[capacity];
+        this.timestamps = new long[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public boolean offer(long header, long timestampNanos) {
+        while (true) {
+            long position = tail.get();
+            int slot = (int) (position & mask);
+            long sequence = sequences.get(slot);
+            long difference = sequence - position;
+
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    headers[slot] = header;
+                    timestamps[slot] = timestampNanos;
+                    sequences.set(slot, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                rejected.incrementAndGet();
+                return false;
+            }
+        }
+    }
+
+    public boolean offer(PassengerRequest request, long timestampNanos) {
+        return offer(PackedRequest.encode(request), timestampNanos);
+    }
+
+    public boolean poll(Sink sink) {
+        while (true) {
+            long position = head.get();
+            int slot = (int) (position & mask);
+            long sequence = sequences.get(slot);
+            long difference = sequence - (position + 1);
+
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    long header = headers[slot];
+                    long timestampNanos = timestamps[slot];
+                    sequences.set(slot, position + capacity);
+                    sink.accept(header, timestampNanos);
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false;
+            }
+        }
+    }
+
+    public int drain(Sink sink, int maxElements) {
+        int drained = 0;
+        while (drained < maxElements && poll(sink)) {
+            drained++;
+        }
+        return drained;
+    }
+
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+}
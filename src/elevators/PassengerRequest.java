@@ -0,0 +1,106 @@
+package elevators;
+
+public class PassengerRequest {
+    private final int floor;
+    private final Direction direction;
+    private final int targetFloor;
+    private final long timestamp;
+    private final CallPriority priority;
+    private static final RequestIdAllocator ID_ALLOCATOR = new RequestIdAllocator();
+    private final int requestId;
+    private volatile long assignedTime = NOT_REACHED;
+    private volatile long boardedTime = NOT_REACHED;
+    private volatile long deliveredTime = NOT_REACHED;
+    private volatile int assignedElevatorId;
+
+    public static final long NOT_REACHED = -1;
+
+    public PassengerRequest(int floor, Direction direction, int targetFloor) {
+        this(floor, direction, targetFloor, System.currentTimeMillis());
+    }
+
+    public PassengerRequest(int floor, Direction direction, int targetFloor, long timestamp) {
+        this(floor, direction, targetFloor, timestamp, CallPriority.NORMAL);
+    }
+
+    public PassengerRequest(int floor, Direction direction, int targetFloor, long timestamp, CallPriority priority) {
+        this(ID_ALLOCATOR.next(), floor, direction, targetFloor, timestamp, priority);
+    }
+
+    PassengerRequest(int requestId, int floor, Direction direction, int targetFloor, long timestamp) {
+        this(requestId, floor, direction, targetFloor, timestamp, CallPriority.NORMAL);
+    }
+
+    PassengerRequest(int requestId, int floor, Direction direction, int targetFloor, long timestamp,
+                     CallPriority priority) {
+        this.floor = floor;
+        this.direction = direction;
+        this.targetFloor = targetFloor;
+        this.timestamp = timestamp;
+        this.priority = priority;
+        this.requestId = requestId;
+    }
+
+    public int getFloor() { return floor; }
+    public Direction getDirection() { return direction; }
+    public int getTargetFloor() { return targetFloor; }
+    public long getTimestamp() { return timestamp; }
+    public CallPriority getPriority() { return priority; }
+    public int getRequestId() { return requestId; }
+    public long getAssignedTime() { return assignedTime; }
+    public long getBoardedTime() { return boardedTime; }
+    public long getDeliveredTime() { return deliveredTime; }
+    public int getAssignedElevatorId() { return assignedElevatorId; }
+
+    public static int nextRequestId() {
+        return ID_ALLOCATOR.next();
+    }
+
+    public static void reserveRequestIds(int maxRequestId) {
+        ID_ALLOCATOR.reservePast(maxRequestId);
+    }
+
+    public long pack() {
+        return PackedRequest.encode(this);
+    }
+
+    public void markAssigned(long time, int elevatorId) {
+        this.assignedTime = time;
+        this.assignedElevatorId = elevatorId;
+    }
+
+    public void markBoarded(long time) {
+        this.boardedTime = time;
+    }
+
+    public void markDelivered(long time) {
+        this.deliveredTime = time;
+    }
+
+    public boolean isDelivered() {
+        return deliveredTime != NOT_REACHED;
+    }
+
+    public long getWaitTime() {
+        return boardedTime == NOT_REACHED ? NOT_REACHED : boardedTime - timestamp;
+    }
+
+    public long getRideTime() {
+        return deliveredTime == NOT_REACHED ? NOT_REACHED : deliveredTime - boardedTime;
+    }
+
+    public long getJourneyTime() {
+        return deliveredTime == NOT_REACHED ? NOT_REACHED : deliveredTime - timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Request #%d: %d->%d %s%s",
+                requestId, floor, targetFloor, direction, priority.isPriority() ? " " + priority : "");
+    }
+
+    public String getShortInfo() {
+        return String.format("#%d: %d->%d %s%s", requestId, floor, targetFloor, direction,
+                priority.isPriority() ? " " + priority : "");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package elevators;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class PipelineStage {
+    private final String name;
+    private volatile int queueCapacity;
+    private final LatencyHistogram serviceTime = new LatencyHistogram();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong maxQueueDepth = new AtomicLong();
+
+    public PipelineStage(String name, int queueCapacity) {
+        this.name = name;
+        this.queueCapacity = queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public void recordWork(long startNanos, int items) {
+        serviceTime.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos));
+        processed.addAndGet(items);
+    }
+
+    public void recordRejected() {
+        rejected.incrementAndGet();
+    }
+
+    public void observeQueueDepth(int depth) {
+        maxQueueDepth.accumulateAndGet(depth, Math::max);
+    }
+
+    public String getName() { return name; }
+    public int getQueueCapacity() { return queueCapacity; }
+    public LatencyHistogram getServiceTime() { return serviceTime; }
+    public long getProcessed() { return processed.get(); }
+    public long getRejected() { return rejected.get(); }
+    public long getMaxQueueDepth() { return maxQueueDepth.get(); }
+
+    public static void printHeaderRow() {
+        System.out.printf("%-12s %-10s %-9s %-12s %-10s %-10s %-10s%n",
+                "Stage", "Processed", "Rejected", "Max queue", "Mean us", "p99 us", "Max us");
+        System.out.println("-".repeat(80));
+    }
+
+    public void printRow() {
+        System.out.printf("%-12s %-10d %-9d %-12s %-10.1f %-10d %-10d%n",
+                name,
+                processed.get(),
+                rejected.get(),
+                maxQueueDepth.get() + (queueCapacity == Integer.MAX_VALUE ? "" : "/" + queueCapacity),
+                serviceTime.getMean(),
+                serviceTime.getPercentile(99),
+                serviceTime.getMax());
+    }
+}
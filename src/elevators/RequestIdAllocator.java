@@ -0,0 +1,59 @@
+package elevators;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out request IDs in the range 1..{@link PackedRequest#MAX_REQUEST_ID}. IDs come from a
+ * shared 64-bit sequence and wrap back to 1 once the packable range is used up, so they identify a
+ * request among those in flight rather than over the lifetime of the process.
+ */
+public class RequestIdAllocator {
+    private static final int DEFAULT_BLOCK_SIZE = 64;
+
+    private final AtomicLong nextBlockStart = new AtomicLong(1);
+    private final int blockSize;
+    private final ThreadLocal<long[]> leases = ThreadLocal.withInitial(() -> new long[] {0, 0});
+    private volatile long reservedBelow = 1;
+
+    public RequestIdAllocator() {
+        this(DEFAULT_BLOCK_SIZE);
+    }
+
+    public RequestIdAllocator(int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+        }
+        this.blockSize = blockSize;
+    }
+
+    public int next() {
+        if (blockSize == 1) {
+            return wrap(nextBlockStart.getAndIncrement());
+        }
+
+        long[] lease = leases.get();
+        if (lease[0] == lease[1] || lease[0] < reservedBelow) {
+            lease[0] = nextBlockStart.getAndAdd(blockSize);
+            lease[1] = lease[0] + blockSize;
+        }
+        return wrap(lease[0]++);
+    }
+
+    public void reservePast(int requestId) {
+        long reserved = nextBlockStart.accumulateAndGet(requestId + 1L, Math::max);
+        reservedBelow = reserved;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    public int getAllocatedUpperBound() {
+        long allocated = nextBlockStart.get() - 1;
+        return allocated == 0 ? 0 : wrap(allocated);
+    }
+
+    private static int wrap(long sequence) {
+        return (int) ((sequence - 1) % PackedRequest.MAX_REQUEST_ID) + 1;
+    }
+}
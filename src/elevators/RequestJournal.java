@@ -0,0 +1,418 @@
+package elevators;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class RequestJournal implements AutoCloseable {
+    public static final int DEFAULT_SEGMENT_SIZE = 1 << 20;
+    public static final long DEFAULT_GROUP_COMMIT_MILLIS = 5;
+
+    static final int RECORD_SIZE = 32;
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long groupCommitMillis;
+    private final JournalRecovery recovery;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Map<Integer, PassengerRequest> outstanding = new LinkedHashMap<>();
+    private final Map<Integer, Integer> lastStops = new TreeMap<>();
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private long segmentIndex;
+    private boolean dirty;
+    private long recordsWritten;
+    private long segmentsRolled;
+    private final AtomicLong forceCount = new AtomicLong();
+    private volatile boolean open;
+    private final Thread syncThread;
+
+    private RequestJournal(Path directory, int segmentSize, long groupCommitMillis,
+                           JournalRecovery recovery) throws IOException {
+        if (segmentSize < RECORD_SIZE * 16) {
+            throw new IllegalArgumentException("Segment size too small: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.groupCommitMillis = groupCommitMillis;
+        this.recovery = recovery;
+
+        for (PassengerRequest request : recovery.getOutstanding()) {
+            outstanding.put(request.getRequestId(), request);
+        }
+        lastStops.putAll(recovery.getLastStops());
+        segmentIndex = recovery.getLastSegment();
+
+        lock.lock();
+        try {
+            startSegment();
+        } finally {
+            lock.unlock();
+        }
+
+        open = true;
+        syncThread = new Thread(this::syncLoop, "journal-sync");
+        syncThread.setDaemon(true);
+        syncThread.start();
+    }
+
+    public static RequestJournal open(Path directory) throws IOException {
+        return open(directory, DEFAULT_SEGMENT_SIZE, DEFAULT_GROUP_COMMIT_MILLIS);
+    }
+
+    public static RequestJournal open(Path directory, int segmentSize, long groupCommitMillis) throws IOException {
+        Files.createDirectories(directory);
+        JournalRecovery recovery = recover(directory);
+        PassengerRequest.reserveRequestIds(recovery.getMaxRequestId());
+        return new RequestJournal(directory, segmentSize, groupCommitMillis, recovery);
+    }
+
+    public static JournalRecovery recover(Path directory) throws IOException {
+        List<Long> segments = listSegments(directory);
+        int first = segments.size() - 1;
+        while (first >= 0 && !hasCompleteCheckpoint(segmentPath(directory, segments.get(first)))) {
+            first--;
+        }
+
+        Map<Integer, PassengerRequest> requests = new LinkedHashMap<>();
+        Map<Integer, Integer> stops = new TreeMap<>();
+        int maxRequestId = 0;
+        long replayed = 0;
+        long torn = 0;
+
+        List<Long> replay = first < 0 ? List.of() : segments.subList(first, segments.size());
+        for (long index : replay) {
+            try (FileChannel segment = FileChannel.open(segmentPath(directory, index),
+                    StandardOpenOption.READ)) {
+                MappedByteBuffer data = segment.map(FileChannel.MapMode.READ_ONLY, 0, segment.size());
+                for (int position = 0; position + RECORD_SIZE <= data.limit(); position += RECORD_SIZE) {
+                    int code = data.getInt(position);
+                    if (code == 0) {
+                        break;
+                    }
+
+                    JournalRecordType type = JournalRecordType.fromCode(code);
+                    int elevatorId = data.getInt(position + 4);
+                    long header = data.getLong(position + 8);
+                    long timestamp = data.getLong(position + 16);
+                    if (type == null || data.getLong(position + 24) != checksum(code, elevatorId, header, timestamp)) {
+                        torn++;
+                        break;
+                    }
+
+                    replayed++;
+                    int requestId = PackedRequest.requestId(header);
+                    switch (type) {
+                        case ARRIVED -> {
+                            requests.putIfAbsent(requestId, PackedRequest.decode(header, timestamp));
+                            maxRequestId = Math.max(maxRequestId, requestId);
+                        }
+                        case ASSIGNED -> {
+                            PassengerRequest request = requests.get(requestId);
+                            if (request != null) {
+                                request.markAssigned(timestamp, elevatorId);
+                            }
+                        }
+                        case BOARDED -> {
+                            PassengerRequest request = requests.get(requestId);
+                            if (request != null) {
+                                request.markAssigned(request.getAssignedTime(), elevatorId);
+                                request.markBoarded(timestamp);
+                            }
+                        }
+                        case DELIVERED, CANCELLED -> requests.remove(requestId);
+                        case STOPPED -> stops.put(elevatorId, PackedRequest.floor(header));
+                        default -> {
+                        }
+                    }
+                }
+            }
+        }
+
+        long lastSegment = segments.isEmpty() ? 0 : segments.get(segments.size() - 1);
+        return new JournalRecovery(new ArrayList<>(requests.values()), stops, maxRequestId,
+                lastSegment, replayed, torn);
+    }
+
+    public void recordArrival(PassengerRequest request) {
+        lock.lock();
+        try {
+            outstanding.put(request.getRequestId(), request);
+            append(JournalRecordType.ARRIVED, 0, request.pack(), request.getTimestamp());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void recordAssignment(PassengerRequest request, int elevatorId) {
+        lock.lock();
+        try {
+            if (outstanding.putIfAbsent(request.getRequestId(), request) == null) {
+                append(JournalRecordType.ARRIVED, 0, request.pack(), request.getTimestamp());
+            }
+            append(JournalRecordType.ASSIGNED, elevatorId, request.pack(), request.getAssignedTime());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void recordBoarding(PassengerRequest request, int elevatorId) {
+        lock.lock();
+        try {
+            append(JournalRecordType.BOARDED, elevatorId, request.pack(), request.getBoardedTime());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void recordDelivery(PassengerRequest request, int elevatorId) {
+        lock.lock();
+        try {
+            outstanding.remove(request.getRequestId());
+            append(JournalRecordType.DELIVERED, elevatorId, request.pack(), request.getDeliveredTime());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void recordCancellation(PassengerRequest request, long time) {
+        lock.lock();
+        try {
+            outstanding.remove(request.getRequestId());
+            append(JournalRecordType.CANCELLED, 0, request.pack(), time);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void recordStop(int elevatorId, int floor, long time) {
+        lock.lock();
+        try {
+            lastStops.put(elevatorId, floor);
+            append(JournalRecordType.STOPPED, elevatorId, stopHeader(floor), time);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void sync() {
+        MappedByteBuffer pending;
+        lock.lock();
+        try {
+            if (!dirty) {
+                return;
+            }
+            pending = buffer;
+            dirty = false;
+        } finally {
+            lock.unlock();
+        }
+        pending.force();
+        forceCount.incrementAndGet();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!open) {
+            return;
+        }
+        open = false;
+        syncThread.interrupt();
+        try {
+            syncThread.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        lock.lock();
+        try {
+            buffer.force();
+            channel.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void syncLoop() {
+        while (open) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(groupCommitMillis);
+            } catch (InterruptedException e) {
+                break;
+            }
+            sync();
+        }
+    }
+
+    private void append(JournalRecordType type, int elevatorId, long header, long timestamp) {
+        if (!open) {
+            return;
+        }
+        if (buffer.remaining() < RECORD_SIZE) {
+            roll();
+        }
+        put(type, elevatorId, header, timestamp);
+    }
+
+    private void put(JournalRecordType type, int elevatorId, long header, long timestamp) {
+        int position = buffer.position();
+        buffer.putInt(position + 4, elevatorId);
+        buffer.putLong(position + 8, header);
+        buffer.putLong(position + 16, timestamp);
+        buffer.putLong(position + 24, checksum(type.getCode(), elevatorId, header, timestamp));
+        buffer.putInt(position, type.getCode());
+        buffer.position(position + RECORD_SIZE);
+        dirty = true;
+        recordsWritten++;
+    }
+
+    private void roll() {
+        try {
+            buffer.force();
+            forceCount.incrementAndGet();
+            channel.close();
+            startSegment();
+            segmentsRolled++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void startSegment() throws IOException {
+        segmentIndex++;
+        int checkpointRecords = outstanding.size() * 3 + lastStops.size() + 2;
+        long size = Math.max(segmentSize, (long) (checkpointRecords + 16) * RECORD_SIZE);
+
+        channel = FileChannel.open(segmentPath(directory, segmentIndex), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+
+        put(JournalRecordType.CHECKPOINT_BEGIN, 0, 0, outstanding.size());
+        for (PassengerRequest request : outstanding.values()) {
+            long header = request.pack();
+            put(JournalRecordType.ARRIVED, 0, header, request.getTimestamp());
+            if (request.getAssignedTime() != PassengerRequest.NOT_REACHED) {
+                put(JournalRecordType.ASSIGNED, request.getAssignedElevatorId(), header, request.getAssignedTime());
+            }
+            if (request.getBoardedTime() != PassengerRequest.NOT_REACHED) {
+                put(JournalRecordType.BOARDED, request.getAssignedElevatorId(), header, request.getBoardedTime());
+            }
+        }
+        for (Map.Entry<Integer, Integer> stop : lastStops.entrySet()) {
+            put(JournalRecordType.STOPPED, stop.getKey(), stopHeader(stop.getValue()), 0);
+        }
+        put(JournalRecordType.CHECKPOINT_END, 0, 0, outstanding.size());
+        buffer.force();
+        forceCount.incrementAndGet();
+        dirty = false;
+
+        for (long obsolete : listSegments(directory)) {
+            if (obsolete < segmentIndex) {
+                Files.deleteIfExists(segmentPath(directory, obsolete));
+            }
+        }
+    }
+
+    private static boolean hasCompleteCheckpoint(Path segmentPath) throws IOException {
+        try (FileChannel segment = FileChannel.open(segmentPath, StandardOpenOption.READ)) {
+            MappedByteBuffer data = segment.map(FileChannel.MapMode.READ_ONLY, 0, segment.size());
+            if (data.limit() < RECORD_SIZE || data.getInt(0) != JournalRecordType.CHECKPOINT_BEGIN.getCode()) {
+                return false;
+            }
+            for (int position = RECORD_SIZE; position + RECORD_SIZE <= data.limit(); position += RECORD_SIZE) {
+                int code = data.getInt(position);
+                if (code == JournalRecordType.CHECKPOINT_END.getCode()) {
+                    return true;
+                }
+                if (code == 0) {
+                    return false;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static List<Long> listSegments(Path directory) throws IOException {
+        List<Long> segments = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory,
+                SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    segments.add(Long.parseLong(name.substring(SEGMENT_PREFIX.length(),
+                            name.length() - SEGMENT_SUFFIX.length())));
+                } catch (NumberFormatException e) {
+                    LoggerUtil.logSystemInfo("Ignoring unexpected journal file " + name);
+                }
+            }
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+
+    private static Path segmentPath(Path directory, long index) {
+        return directory.resolve(String.format("%s%08d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+    }
+
+    private static long stopHeader(int floor) {
+        return PackedRequest.encode(0, floor, Direction.IDLE, floor);
+    }
+
+    private static long checksum(int code, int elevatorId, long header, long timestamp) {
+        long hash = header * 0x9E3779B97F4A7C15L ^ timestamp;
+        hash ^= (((long) code << 32) | (elevatorId & 0xFFFFFFFFL)) * 0xC2B2AE3D27D4EB4FL;
+        return hash ^ (hash >>> 31);
+    }
+
+    public JournalRecovery getRecovery() {
+        return recovery;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public int getOutstandingCount() {
+        lock.lock();
+        try {
+            return outstanding.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getRecordsWritten() {
+        lock.lock();
+        try {
+            return recordsWritten;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getSegmentsRolled() {
+        lock.lock();
+        try {
+            return segmentsRolled;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getForceCount() {
+        return forceCount.get();
+    }
+}
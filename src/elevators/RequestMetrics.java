@@ -0,0 +1,192 @@
+package elevators;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Building-wide latency histograms plus breakdowns per car and per call floor. Each histogram holds a
+ * few thousand buckets, so the breakdown slots are only allocated once a car or floor records its
+ * first delivery; a large building where most floors see no traffic stays small.
+ */
+public class RequestMetrics {
+    private final int firstElevatorId;
+    private final LatencyHistogram waitTime = new LatencyHistogram();
+    private final LatencyHistogram rideTime = new LatencyHistogram();
+    private final LatencyHistogram journeyTime = new LatencyHistogram();
+    private final AtomicReferenceArray<LatencyHistogram> waitByElevator;
+    private final AtomicReferenceArray<LatencyHistogram> rideByElevator;
+    private final AtomicReferenceArray<LatencyHistogram> waitByFloor;
+    private final AtomicReferenceArray<LatencyHistogram> journeyByFloor;
+    private final LatencyHistogram[] assignByPriority = newHistograms(CallPriority.values().length);
+
+    public RequestMetrics(int firstElevatorId, int numberOfElevators, int maxFloors) {
+        this.firstElevatorId = firstElevatorId;
+        this.waitByElevator = new AtomicReferenceArray<>(numberOfElevators);
+        this.rideByElevator = new AtomicReferenceArray<>(numberOfElevators);
+        this.waitByFloor = new AtomicReferenceArray<>(maxFloors + 1);
+        this.journeyByFloor = new AtomicReferenceArray<>(maxFloors + 1);
+    }
+
+    private static LatencyHistogram[] newHistograms(int size) {
+        LatencyHistogram[] histograms = new LatencyHistogram[size];
+        for (int i = 0; i < size; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+        return histograms;
+    }
+
+    private static LatencyHistogram slot(AtomicReferenceArray<LatencyHistogram> histograms, int index) {
+        LatencyHistogram histogram = histograms.get(index);
+        if (histogram == null) {
+            histograms.compareAndSet(index, null, new LatencyHistogram());
+            histogram = histograms.get(index);
+        }
+        return histogram;
+    }
+
+    private static LatencyHistogram peek(AtomicReferenceArray<LatencyHistogram> histograms, int index) {
+        LatencyHistogram histogram = histograms.get(index);
+        return histogram != null ? histogram : new LatencyHistogram();
+    }
+
+    public void recordDelivery(PassengerRequest request, int elevatorId) {
+        long wait = request.getWaitTime();
+        long ride = request.getRideTime();
+        long journey = request.getJourneyTime();
+
+        waitTime.record(wait);
+        rideTime.record(ride);
+        journeyTime.record(journey);
+
+        int elevatorIndex = elevatorId - firstElevatorId;
+        if (elevatorIndex >= 0 && elevatorIndex < waitByElevator.length()) {
+            slot(waitByElevator, elevatorIndex).record(wait);
+            slot(rideByElevator, elevatorIndex).record(ride);
+        }
+
+        int floor = request.getFloor();
+        if (floor >= 0 && floor < waitByFloor.length()) {
+            slot(waitByFloor, floor).record(wait);
+            slot(journeyByFloor, floor).record(journey);
+        }
+    }
+
+    public void recordAssignment(PassengerRequest request) {
+        assignByPriority[request.getPriority().ordinal()].record(request.getAssignedTime() - request.getTimestamp());
+    }
+
+    /**
+     * Folds another dispatcher's metrics into this one. Per-car rows are matched by elevator ID, so
+     * shards with disjoint ID ranges can be merged into metrics covering the whole building.
+     */
+    public void add(RequestMetrics other) {
+        waitTime.add(other.waitTime);
+        rideTime.add(other.rideTime);
+        journeyTime.add(other.journeyTime);
+
+        for (int i = 0; i < other.waitByElevator.length(); i++) {
+            int index = other.firstElevatorId + i - firstElevatorId;
+            if (index >= 0 && index < waitByElevator.length()) {
+                addSlot(waitByElevator, index, other.waitByElevator.get(i));
+                addSlot(rideByElevator, index, other.rideByElevator.get(i));
+            }
+        }
+        for (int floor = 0; floor < Math.min(waitByFloor.length(), other.waitByFloor.length()); floor++) {
+            addSlot(waitByFloor, floor, other.waitByFloor.get(floor));
+            addSlot(journeyByFloor, floor, other.journeyByFloor.get(floor));
+        }
+        for (int i = 0; i < assignByPriority.length; i++) {
+            assignByPriority[i].add(other.assignByPriority[i]);
+        }
+    }
+
+    private static void addSlot(AtomicReferenceArray<LatencyHistogram> histograms, int index,
+                                LatencyHistogram source) {
+        if (source != null) {
+            slot(histograms, index).add(source);
+        }
+    }
+
+    public LatencyHistogram getWaitTime() { return waitTime; }
+    public LatencyHistogram getRideTime() { return rideTime; }
+    public LatencyHistogram getJourneyTime() { return journeyTime; }
+
+    /**
+     * Per-car and per-floor getters return a fresh empty histogram for a slot nothing was recorded
+     * into; recording into that copy does not reach these metrics.
+     */
+    public LatencyHistogram getWaitTime(int elevatorId) {
+        return peek(waitByElevator, elevatorId - firstElevatorId);
+    }
+
+    public LatencyHistogram getRideTime(int elevatorId) {
+        return peek(rideByElevator, elevatorId - firstElevatorId);
+    }
+
+    public LatencyHistogram getAssignmentTime(CallPriority priority) {
+        return assignByPriority[priority.ordinal()];
+    }
+
+    public LatencyHistogram getWaitTimeByFloor(int floor) {
+        return peek(waitByFloor, floor);
+    }
+
+    public LatencyHistogram getJourneyTimeByFloor(int floor) {
+        return peek(journeyByFloor, floor);
+    }
+
+    public int getMaxFloors() {
+        return waitByFloor.length() - 1;
+    }
+
+    public void printReport() {
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("                  REQUEST LATENCY (seconds)");
+        System.out.println("=".repeat(80));
+        printHeaderRow("Metric");
+        printRow("Wait", waitTime);
+        printRow("Ride", rideTime);
+        printRow("Journey", journeyTime);
+
+        System.out.println();
+        printHeaderRow("Elevator");
+        for (int i = 0; i < waitByElevator.length(); i++) {
+            printRow("E" + (firstElevatorId + i) + " wait", peek(waitByElevator, i));
+            printRow("E" + (firstElevatorId + i) + " ride", peek(rideByElevator, i));
+        }
+
+        System.out.println();
+        printHeaderRow("Assign class");
+        for (CallPriority priority : CallPriority.values()) {
+            if (assignByPriority[priority.ordinal()].getCount() > 0) {
+                printRow(priority.toString(), assignByPriority[priority.ordinal()]);
+            }
+        }
+
+        System.out.println();
+        printHeaderRow("Call floor");
+        for (int floor = 1; floor < waitByFloor.length(); floor++) {
+            LatencyHistogram histogram = waitByFloor.get(floor);
+            if (histogram != null && histogram.getCount() > 0) {
+                printRow("F" + floor + " wait", histogram);
+            }
+        }
+        System.out.println("=".repeat(80));
+    }
+
+    private static void printHeaderRow(String label) {
+        System.out.printf("%-14s %-8s %-10s %-10s %-10s %-10s %-10s%n",
+                label, "Count", "Mean", "p50", "p90", "p99", "Max");
+        System.out.println("-".repeat(80));
+    }
+
+    private static void printRow(String label, LatencyHistogram histogram) {
+        System.out.printf("%-14s %-8d %-10.1f %-10.1f %-10.1f %-10.1f %-10.1f%n",
+                label,
+                histogram.getCount(),
+                histogram.getMean() / 1000.0,
+                histogram.getPercentile(50) / 1000.0,
+                histogram.getPercentile(90) / 1000.0,
+                histogram.getPercentile(99) / 1000.0,
+                histogram.getMax() / 1000.0);
+    }
+}
@@ -0,0 +1,172 @@
+package elevators;
+
+public class RouteEvaluation {
+    private final int[] stops;
+    private final long targetsVersion;
+    private final long floorTime;
+    private final long stopTime;
+
+    public RouteEvaluation(int[] stops, long targetsVersion, long floorTime, long stopTime) {
+        this.stops = stops;
+        this.targetsVersion = targetsVersion;
+        this.floorTime = floorTime;
+        this.stopTime = stopTime;
+    }
+
+    public long getTargetsVersion() {
+        return targetsVersion;
+    }
+
+    public int getStopCount() {
+        return stops.length;
+    }
+
+    public boolean contains(int floor) {
+        int index = lowerBound(floor);
+        return index < stops.length && stops[index] == floor;
+    }
+
+    public Direction sweepDirection(int currentFloor, Direction direction) {
+        if (direction != Direction.IDLE || stops.length == 0) {
+            return direction;
+        }
+
+        int index = lowerBound(currentFloor);
+        int above = index < stops.length ? stops[index] : FloorTargetIndex.NO_FLOOR;
+        int below = index > 0 ? stops[index - 1] : FloorTargetIndex.NO_FLOOR;
+
+        if (above == FloorTargetIndex.NO_FLOOR) {
+            return Direction.DOWN;
+        }
+        if (below == FloorTargetIndex.NO_FLOOR) {
+            return above > currentFloor ? Direction.UP : Direction.DOWN;
+        }
+        return above - currentFloor < currentFloor - below ? Direction.UP : Direction.DOWN;
+    }
+
+    public long arrivalTime(int floor, int currentFloor, Direction sweep) {
+        if (sweep == Direction.UP) {
+            if (floor >= currentFloor) {
+                return (floor - currentFloor) * floorTime + count(currentFloor, floor - 1) * stopTime;
+            }
+            int turn = Math.max(highest(), currentFloor);
+            return ((turn - currentFloor) + (turn - floor)) * floorTime +
+                    (count(currentFloor, Integer.MAX_VALUE) + count(floor + 1, currentFloor - 1)) * stopTime;
+        }
+
+        if (sweep == Direction.DOWN) {
+            if (floor <= currentFloor) {
+                return (currentFloor - floor) * floorTime + count(floor + 1, currentFloor) * stopTime;
+            }
+            int turn = Math.min(lowest(), currentFloor);
+            return ((currentFloor - turn) + (floor - turn)) * floorTime +
+                    (count(Integer.MIN_VALUE, currentFloor) + count(currentFloor + 1, floor - 1)) * stopTime;
+        }
+
+        return Math.abs(floor - currentFloor) * floorTime;
+    }
+
+    /**
+     * Arrival time for a hall call. A car only answers a call while travelling in the call's direction,
+     * so a call it would pass the wrong way is reached only after the car turns at the end of its sweep.
+     */
+    public long arrivalTime(int floor, Direction callDirection, int currentFloor, Direction sweep) {
+        if (sweep == Direction.UP) {
+            int turn = Math.max(highest(), currentFloor);
+            if (callDirection == Direction.DOWN && floor >= currentFloor && floor < turn) {
+                return ((turn - currentFloor) + (turn - floor)) * floorTime +
+                        count(currentFloor, Integer.MAX_VALUE) * stopTime;
+            }
+            if (callDirection == Direction.UP && floor < currentFloor && floor > lowest()) {
+                int bottom = lowest();
+                return ((turn - currentFloor) + (turn - bottom) + (floor - bottom)) * floorTime +
+                        stops.length * stopTime;
+            }
+        } else if (sweep == Direction.DOWN) {
+            int turn = Math.min(lowest(), currentFloor);
+            if (callDirection == Direction.UP && floor <= currentFloor && floor > turn) {
+                return ((currentFloor - turn) + (floor - turn)) * floorTime +
+                        count(Integer.MIN_VALUE, currentFloor) * stopTime;
+            }
+            if (callDirection == Direction.DOWN && floor > currentFloor && floor < highest()) {
+                int top = highest();
+                return ((currentFloor - turn) + (top - turn) + (top - floor)) * floorTime +
+                        stops.length * stopTime;
+            }
+        }
+        return arrivalTime(floor, currentFloor, sweep);
+    }
+
+    public long insertionDelay(int floor, int currentFloor, Direction sweep) {
+        if (stops.length == 0 || contains(floor)) {
+            return 0;
+        }
+
+        int stopsBefore = stopsBefore(floor, currentFloor, sweep);
+        long delay = (long) (stops.length - stopsBefore) * stopTime;
+
+        if (sweep == Direction.UP) {
+            int turn = Math.max(highest(), currentFloor);
+            if (floor > turn) {
+                delay += count(Integer.MIN_VALUE, currentFloor - 1) * 2L * (floor - turn) * floorTime;
+            }
+        } else if (sweep == Direction.DOWN) {
+            int turn = Math.min(lowest(), currentFloor);
+            if (floor < turn) {
+                delay += count(currentFloor + 1, Integer.MAX_VALUE) * 2L * (turn - floor) * floorTime;
+            }
+        }
+
+        return delay;
+    }
+
+    public long rideTime(int fromFloor, int toFloor) {
+        if (toFloor > fromFloor) {
+            return (toFloor - fromFloor) * floorTime + count(fromFloor + 1, toFloor - 1) * stopTime;
+        }
+        return (fromFloor - toFloor) * floorTime + count(toFloor + 1, fromFloor - 1) * stopTime;
+    }
+
+    private int stopsBefore(int floor, int currentFloor, Direction sweep) {
+        if (sweep == Direction.UP) {
+            return floor >= currentFloor ? count(currentFloor, floor - 1) :
+                    count(currentFloor, Integer.MAX_VALUE) + count(floor + 1, currentFloor - 1);
+        }
+        if (sweep == Direction.DOWN) {
+            return floor <= currentFloor ? count(floor + 1, currentFloor) :
+                    count(Integer.MIN_VALUE, currentFloor) + count(currentFloor + 1, floor - 1);
+        }
+        return 0;
+    }
+
+    private int count(int fromFloor, int toFloor) {
+        if (fromFloor > toFloor) {
+            return 0;
+        }
+        int from = lowerBound(fromFloor);
+        int to = toFloor == Integer.MAX_VALUE ? stops.length : lowerBound(toFloor + 1);
+        return Math.max(0, to - from);
+    }
+
+    private int lowerBound(int floor) {
+        int low = 0;
+        int high = stops.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (stops[mid] < floor) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int lowest() {
+        return stops.length > 0 ? stops[0] : Integer.MAX_VALUE;
+    }
+
+    private int highest() {
+        return stops.length > 0 ? stops[stops.length - 1] : Integer.MIN_VALUE;
+    }
+}
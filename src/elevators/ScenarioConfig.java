@@ -0,0 +1,240 @@
+package elevators;
+
+import java.util.Arrays;
+
+public class ScenarioConfig {
+    public static final int NO_DESTINATION_DISPATCH = -1;
+    public static final long SCORE_MODEL = 0;
+    public static final long NO_REASSIGNMENT = -1;
+    public static final double DEFAULT_PEAK_RATE = 0.5;
+
+    private final String name;
+    private final int numberOfElevators;
+    private final int maxFloors;
+    private final int requestsPerRun;
+    private final long floorTime;
+    private final long stopTime;
+    private final int destinationTolerance;
+    private final boolean predictiveParking;
+    private final ScoringWeights scoringWeights;
+    private final long reassignmentGain;
+    private final TrafficProfile trafficProfile;
+    private final double peakRate;
+    private final double[] floorWeights;
+
+    private ScenarioConfig(Builder builder) {
+        if (builder.numberOfElevators < 1) {
+            throw new IllegalArgumentException("Scenario " + builder.name + " needs at least one elevator");
+        }
+        if (builder.maxFloors < 2) {
+            throw new IllegalArgumentException("Scenario " + builder.name + " needs at least two floors");
+        }
+        if (builder.requestsPerRun < 0) {
+            throw new IllegalArgumentException("Requests per run must not be negative: " + builder.requestsPerRun);
+        }
+        if (builder.trafficProfile != null && !(builder.peakRate > 0)) {
+            throw new IllegalArgumentException("Peak rate must be positive: " + builder.peakRate);
+        }
+        if (builder.floorWeights != null && builder.floorWeights.length != builder.maxFloors) {
+            throw new IllegalArgumentException("Expected " + builder.maxFloors + " floor weights, got " +
+                    builder.floorWeights.length);
+        }
+
+        this.name = builder.name;
+        this.numberOfElevators = builder.numberOfElevators;
+        this.maxFloors = builder.maxFloors;
+        this.requestsPerRun = builder.requestsPerRun;
+        this.floorTime = builder.floorTime;
+        this.stopTime = builder.stopTime;
+        this.destinationTolerance = builder.destinationTolerance;
+        this.predictiveParking = builder.predictiveParking;
+        this.scoringWeights = builder.scoringWeights;
+        this.reassignmentGain = builder.reassignmentGain;
+        this.trafficProfile = builder.trafficProfile;
+        this.peakRate = builder.peakRate;
+        this.floorWeights = builder.floorWeights != null ? builder.floorWeights.clone() : null;
+    }
+
+    public static Builder builder(String name, int numberOfElevators, int maxFloors, int requestsPerRun) {
+        return new Builder(name, numberOfElevators, maxFloors, requestsPerRun);
+    }
+
+    public Builder toBuilder() {
+        return new Builder(name, numberOfElevators, maxFloors, requestsPerRun)
+                .etaCostModel(floorTime, stopTime)
+                .destinationTolerance(destinationTolerance)
+                .predictiveParking(predictiveParking)
+                .scoringWeights(scoringWeights)
+                .reassignmentGain(reassignmentGain)
+                .traffic(trafficProfile, peakRate)
+                .floorWeights(floorWeights);
+    }
+
+    public ScenarioConfig withScoringWeights(String name, ScoringWeights weights) {
+        return toBuilder().name(name).scoringWeights(weights).build();
+    }
+
+    public ScenarioConfig withReassignment(String name, long gainThresholdMillis) {
+        return toBuilder().name(name).reassignmentGain(gainThresholdMillis).build();
+    }
+
+    public boolean usesEtaCostModel() {
+        return floorTime != SCORE_MODEL || stopTime != SCORE_MODEL;
+    }
+
+    public boolean usesDestinationDispatch() {
+        return destinationTolerance != NO_DESTINATION_DISPATCH;
+    }
+
+    public boolean usesReassignment() {
+        return reassignmentGain != NO_REASSIGNMENT;
+    }
+
+    /**
+     * Whether runs are driven by {@link LoadGenerator} with a traffic profile rather than the evenly
+     * spread calls of {@link ClientGenerator}.
+     */
+    public boolean usesTrafficProfile() {
+        return trafficProfile != null || floorWeights != null;
+    }
+
+    /**
+     * Simulated length of a profile-driven run: long enough for {@code requestsPerRun} calls at the peak
+     * rate. Time-varying profiles spend part of it off-peak and so generate fewer.
+     */
+    public long getTrafficDurationMillis() {
+        return Math.max(1, Math.round(requestsPerRun * 1000.0 / getPeakRate()));
+    }
+
+    public String getName() { return name; }
+    public int getNumberOfElevators() { return numberOfElevators; }
+    public int getMaxFloors() { return maxFloors; }
+    public int getRequestsPerRun() { return requestsPerRun; }
+    public long getFloorTime() { return floorTime; }
+    public long getStopTime() { return stopTime; }
+    public int getDestinationTolerance() { return destinationTolerance; }
+    public boolean isPredictiveParking() { return predictiveParking; }
+    public ScoringWeights getScoringWeights() { return scoringWeights; }
+    public long getReassignmentGain() { return reassignmentGain; }
+
+    public TrafficProfile getTrafficProfile() {
+        return trafficProfile != null ? trafficProfile : TrafficProfile.UNIFORM;
+    }
+
+    public double getPeakRate() {
+        return trafficProfile != null ? peakRate : DEFAULT_PEAK_RATE;
+    }
+
+    public double[] getFloorWeights() {
+        return floorWeights != null ? floorWeights.clone() : LoadGenerator.uniformWeights(maxFloors);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder description = new StringBuilder(String.format("%s [%d cars, %d floors, %d requests, ",
+                name, numberOfElevators, maxFloors, requestsPerRun));
+        if (usesEtaCostModel()) {
+            description.append(String.format("ETA model %d/%d ms", floorTime, stopTime));
+        } else {
+            description.append(scoringWeights.equals(ScoringWeights.DEFAULTS) ? "score model" : "tuned score model");
+        }
+        if (usesDestinationDispatch()) {
+            description.append(", destination tolerance ").append(destinationTolerance);
+        }
+        if (predictiveParking) {
+            description.append(", predictive parking");
+        }
+        if (usesReassignment()) {
+            description.append(", reassignment gain ").append(reassignmentGain).append(" ms");
+        }
+        if (usesTrafficProfile()) {
+            description.append(String.format(", %s traffic at %.2f/s", getTrafficProfile(), getPeakRate()));
+        }
+        if (floorWeights != null) {
+            description.append(", floor weights ").append(Arrays.toString(floorWeights));
+        }
+        return description.append(']').toString();
+    }
+
+    public static final class Builder {
+        private String name;
+        private final int numberOfElevators;
+        private final int maxFloors;
+        private final int requestsPerRun;
+        private long floorTime = SCORE_MODEL;
+        private long stopTime = SCORE_MODEL;
+        private int destinationTolerance = NO_DESTINATION_DISPATCH;
+        private boolean predictiveParking;
+        private ScoringWeights scoringWeights = ScoringWeights.DEFAULTS;
+        private long reassignmentGain = NO_REASSIGNMENT;
+        private TrafficProfile trafficProfile;
+        private double peakRate;
+        private double[] floorWeights;
+
+        private Builder(String name, int numberOfElevators, int maxFloors, int requestsPerRun) {
+            this.name = name;
+            this.numberOfElevators = numberOfElevators;
+            this.maxFloors = maxFloors;
+            this.requestsPerRun = requestsPerRun;
+        }
+
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public Builder etaCostModel() {
+            return etaCostModel(Elevator.MOVEMENT_TIME_PER_FLOOR,
+                    Elevator.DOOR_OPERATION_TIME + Elevator.BOARDING_TIME);
+        }
+
+        public Builder etaCostModel(long floorTime, long stopTime) {
+            this.floorTime = floorTime;
+            this.stopTime = stopTime;
+            return this;
+        }
+
+        public Builder destinationTolerance(int destinationTolerance) {
+            this.destinationTolerance = destinationTolerance;
+            return this;
+        }
+
+        public Builder predictiveParking(boolean predictiveParking) {
+            this.predictiveParking = predictiveParking;
+            return this;
+        }
+
+        public Builder scoringWeights(ScoringWeights scoringWeights) {
+            this.scoringWeights = scoringWeights;
+            return this;
+        }
+
+        public Builder reassignmentGain(long reassignmentGain) {
+            this.reassignmentGain = reassignmentGain;
+            return this;
+        }
+
+        /**
+         * Drives runs with {@link LoadGenerator} using {@code profile} at up to {@code peakRate} calls per
+         * second. A null profile keeps the default {@link ClientGenerator} traffic.
+         */
+        public Builder traffic(TrafficProfile profile, double peakRate) {
+            this.trafficProfile = profile;
+            this.peakRate = peakRate;
+            return this;
+        }
+
+        /**
+         * Relative popularity of floors 1..maxFloors as call origins and destinations. Setting weights
+         * without a profile drives runs with {@link TrafficProfile#UNIFORM} at the default peak rate.
+         */
+        public Builder floorWeights(double[] floorWeights) {
+            this.floorWeights = floorWeights;
+            return this;
+        }
+
+        public ScenarioConfig build() {
+            return new ScenarioConfig(this);
+        }
+    }
+}
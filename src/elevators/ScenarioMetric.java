@@ -0,0 +1,30 @@
+package elevators;
+
+import java.util.function.ToDoubleFunction;
+
+public enum ScenarioMetric {
+    MEAN_WAIT("Wait mean (s)", result -> result.getMeanWaitTime() / 1000.0),
+    P90_WAIT("Wait p90 (s)", result -> result.getP90WaitTime() / 1000.0),
+    P99_WAIT("Wait p99 (s)", result -> result.getP99WaitTime() / 1000.0),
+    MEAN_JOURNEY("Journey mean (s)", result -> result.getMeanJourneyTime() / 1000.0),
+    P90_JOURNEY("Journey p90 (s)", result -> result.getP90JourneyTime() / 1000.0),
+    REQUESTS_PER_STOP("Requests/stop", ScenarioResult::getRequestsPerStop),
+    MAKESPAN("Makespan (s)", result -> result.getSimulatedTime() / 1000.0);
+
+    private final String label;
+    private final ToDoubleFunction<ScenarioResult> extractor;
+
+    ScenarioMetric(String label, ToDoubleFunction<ScenarioResult> extractor) {
+        this.label = label;
+        this.extractor = extractor;
+    }
+
+    public double extract(ScenarioResult result) {
+        return extractor.applyAsDouble(result);
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
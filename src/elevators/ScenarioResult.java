@@ -0,0 +1,46 @@
+package elevators;
+
+public class ScenarioResult {
+    private final long seed;
+    private final int requestsGenerated;
+    private final long requestsDelivered;
+    private final double meanWaitTime;
+    private final long p90WaitTime;
+    private final long p99WaitTime;
+    private final double meanJourneyTime;
+    private final long p90JourneyTime;
+    private final int totalStops;
+    private final long simulatedTime;
+    private final long processedEvents;
+
+    public ScenarioResult(long seed, int requestsGenerated, RequestMetrics metrics, int totalStops,
+                          long simulatedTime, long processedEvents) {
+        this.seed = seed;
+        this.requestsGenerated = requestsGenerated;
+        this.requestsDelivered = metrics.getJourneyTime().getCount();
+        this.meanWaitTime = metrics.getWaitTime().getMean();
+        this.p90WaitTime = metrics.getWaitTime().getPercentile(90);
+        this.p99WaitTime = metrics.getWaitTime().getPercentile(99);
+        this.meanJourneyTime = metrics.getJourneyTime().getMean();
+        this.p90JourneyTime = metrics.getJourneyTime().getPercentile(90);
+        this.totalStops = totalStops;
+        this.simulatedTime = simulatedTime;
+        this.processedEvents = processedEvents;
+    }
+
+    public long getSeed() { return seed; }
+    public int getRequestsGenerated() { return requestsGenerated; }
+    public long getRequestsDelivered() { return requestsDelivered; }
+    public double getMeanWaitTime() { return meanWaitTime; }
+    public long getP90WaitTime() { return p90WaitTime; }
+    public long getP99WaitTime() { return p99WaitTime; }
+    public double getMeanJourneyTime() { return meanJourneyTime; }
+    public long getP90JourneyTime() { return p90JourneyTime; }
+    public int getTotalStops() { return totalStops; }
+    public long getSimulatedTime() { return simulatedTime; }
+    public long getProcessedEvents() { return processedEvents; }
+
+    public double getRequestsPerStop() {
+        return totalStops > 0 ? (double) requestsDelivered / totalStops : 0;
+    }
+}
@@ -0,0 +1,187 @@
+package elevators;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public class ScenarioRunner {
+    public static final long DEFAULT_SEED = 20240101L;
+    private static final String SEED_PROPERTY = "elevators.seed";
+    private static final String PARALLELISM_PROPERTY = "elevators.parallelism";
+    private static final int TASKS_PER_WORKER = 8;
+
+    private final ForkJoinPool pool;
+    private final long baseSeed;
+
+    public ScenarioRunner(int parallelism, long baseSeed) {
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.baseSeed = baseSeed;
+    }
+
+    public List<ScenarioSummary> run(List<ScenarioConfig> configs, int runs) {
+        if (runs < 1) {
+            throw new IllegalArgumentException("At least one run per scenario is required: " + runs);
+        }
+
+        int runsPerTask = Math.max(1, runs / (pool.getParallelism() * TASKS_PER_WORKER));
+        List<RunRange> tasks = new ArrayList<>(configs.size());
+        for (ScenarioConfig config : configs) {
+            tasks.add(new RunRange(config, 0, runs, runsPerTask));
+        }
+        return pool.invoke(new RecursiveTask<List<ScenarioSummary>>() {
+            @Override
+            protected List<ScenarioSummary> compute() {
+                invokeAll(tasks);
+                List<ScenarioSummary> summaries = new ArrayList<>(tasks.size());
+                for (RunRange task : tasks) {
+                    summaries.add(task.join());
+                }
+                return summaries;
+            }
+        });
+    }
+
+    public ScenarioResult runOnce(ScenarioConfig config, int runIndex) {
+        LogLevel previousLevel = LoggerUtil.getThreadLevel();
+        LoggerUtil.setThreadLevel(LogLevel.OFF);
+        try {
+            return simulate(config, runIndex);
+        } finally {
+            LoggerUtil.setThreadLevel(previousLevel);
+        }
+    }
+
+    private ScenarioResult simulate(ScenarioConfig config, int runIndex) {
+        long seed = seedFor(baseSeed, runIndex);
+        SimulationEngine engine = new SimulationEngine(config.getNumberOfElevators(), config.getMaxFloors());
+        Dispatcher dispatcher = engine.getDispatcher();
+        dispatcher.setScoringWeights(config.getScoringWeights());
+
+        if (config.usesEtaCostModel()) {
+            dispatcher.setCostModel(new EtaCostModel(config.getFloorTime(), config.getStopTime()));
+        }
+        if (config.usesDestinationDispatch()) {
+            dispatcher.enableDestinationDispatch(config.getDestinationTolerance());
+        }
+        if (config.isPredictiveParking()) {
+            dispatcher.enablePredictiveParking(new TrafficForecast(config.getMaxFloors()));
+        }
+        if (config.usesReassignment()) {
+            dispatcher.enableReassignment(config.getReassignmentGain(), Dispatcher.DEFAULT_REASSIGNMENT_INTERVAL);
+        }
+
+        int requestsGenerated;
+        if (config.usesTrafficProfile()) {
+            LoadGenerator generator = LoadGenerator.forSimulation(config.getMaxFloors(), config.getTrafficProfile(),
+                    config.getPeakRate(), config.getTrafficDurationMillis(), seed, config.getFloorWeights());
+            generator.scheduleRequests(engine);
+            engine.run();
+            requestsGenerated = (int) generator.getScheduledCount();
+        } else {
+            ClientGenerator generator = new ClientGenerator(dispatcher, config.getMaxFloors(),
+                    config.getRequestsPerRun(), seed);
+            generator.scheduleRequests(engine);
+            engine.run();
+            requestsGenerated = generator.getGeneratedCount();
+        }
+
+        int totalStops = 0;
+        for (Elevator elevator : dispatcher.getElevators()) {
+            totalStops += elevator.getTotalStops();
+        }
+        return new ScenarioResult(seed, requestsGenerated, dispatcher.getMetrics(), totalStops,
+                engine.getSimulatedTime(), engine.getProcessedEventCount());
+    }
+
+    static long seedFor(long baseSeed, int runIndex) {
+        long z = baseSeed + (runIndex + 1L) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    public long getBaseSeed() {
+        return baseSeed;
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    // ForkJoinTask is Serializable only for legacy reasons; run ranges never leave the pool.
+    @SuppressWarnings("serial")
+    private final class RunRange extends RecursiveTask<ScenarioSummary> {
+        private final ScenarioConfig config;
+        private final int from;
+        private final int to;
+        private final int runsPerTask;
+
+        private RunRange(ScenarioConfig config, int from, int to, int runsPerTask) {
+            this.config = config;
+            this.from = from;
+            this.to = to;
+            this.runsPerTask = runsPerTask;
+        }
+
+        @Override
+        protected ScenarioSummary compute() {
+            if (to - from <= runsPerTask) {
+                ScenarioSummary summary = new ScenarioSummary(config);
+                for (int runIndex = from; runIndex < to; runIndex++) {
+                    summary.add(runOnce(config, runIndex));
+                }
+                return summary;
+            }
+
+            int middle = (from + to) >>> 1;
+            RunRange lower = new RunRange(config, from, middle, runsPerTask);
+            RunRange upper = new RunRange(config, middle, to, runsPerTask);
+            lower.fork();
+            ScenarioSummary upperSummary = upper.compute();
+            return lower.join().merge(upperSummary);
+        }
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 4) {
+            System.out.println("Usage: ScenarioRunner <floors> <requests per run> <runs> <cars>[,<cars>...]");
+            System.out.println("Properties: -D" + SEED_PROPERTY + "=<seed> -D" + PARALLELISM_PROPERTY + "=<threads>");
+            return;
+        }
+
+        int maxFloors = Integer.parseInt(args[0]);
+        int requestsPerRun = Integer.parseInt(args[1]);
+        int runs = Integer.parseInt(args[2]);
+
+        List<ScenarioConfig> configs = new ArrayList<>();
+        for (String cars : args[3].split(",")) {
+            int numberOfElevators = Integer.parseInt(cars.trim());
+            ScenarioConfig score = ScenarioConfig.builder("Score", numberOfElevators, maxFloors, requestsPerRun)
+                    .build();
+            configs.add(score);
+            configs.add(score.withReassignment("Score+Reassign", Dispatcher.DEFAULT_REASSIGNMENT_GAIN));
+            configs.add(ScenarioConfig.builder("ETA", numberOfElevators, maxFloors, requestsPerRun)
+                    .etaCostModel()
+                    .build());
+        }
+
+        ScenarioRunner runner = new ScenarioRunner(Integer.getInteger(PARALLELISM_PROPERTY, 0),
+                Long.getLong(SEED_PROPERTY, DEFAULT_SEED));
+        System.out.printf("Running %d scenarios x %d runs on %d threads (seed %d)...%n",
+                configs.size(), runs, runner.getParallelism(), runner.getBaseSeed());
+
+        long startTime = System.currentTimeMillis();
+        List<ScenarioSummary> summaries = runner.run(configs, runs);
+        long wallTime = System.currentTimeMillis() - startTime;
+        runner.shutdown();
+
+        ScenarioSummary.printTable(summaries);
+        System.out.printf("%nWall time: %.3fs, %.1f runs/s%n", wallTime / 1000.0,
+                configs.size() * runs * 1000.0 / Math.max(1, wallTime));
+    }
+}
@@ -0,0 +1,113 @@
+package elevators;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public class ScenarioSummary {
+    private static final double Z_95 = 1.96;
+
+    private final ScenarioConfig config;
+    private final Map<ScenarioMetric, RunningStatistic> statistics = new EnumMap<>(ScenarioMetric.class);
+    private int runs;
+    private long requestsGenerated;
+    private long requestsDelivered;
+    private long processedEvents;
+
+    public ScenarioSummary(ScenarioConfig config) {
+        this.config = config;
+        for (ScenarioMetric metric : ScenarioMetric.values()) {
+            statistics.put(metric, new RunningStatistic());
+        }
+    }
+
+    public void add(ScenarioResult result) {
+        for (Map.Entry<ScenarioMetric, RunningStatistic> entry : statistics.entrySet()) {
+            entry.getValue().add(entry.getKey().extract(result));
+        }
+        runs++;
+        requestsGenerated += result.getRequestsGenerated();
+        requestsDelivered += result.getRequestsDelivered();
+        processedEvents += result.getProcessedEvents();
+    }
+
+    public ScenarioSummary merge(ScenarioSummary other) {
+        for (Map.Entry<ScenarioMetric, RunningStatistic> entry : statistics.entrySet()) {
+            entry.getValue().merge(other.statistics.get(entry.getKey()));
+        }
+        runs += other.runs;
+        requestsGenerated += other.requestsGenerated;
+        requestsDelivered += other.requestsDelivered;
+        processedEvents += other.processedEvents;
+        return this;
+    }
+
+    public ScenarioConfig getConfig() { return config; }
+    public int getRuns() { return runs; }
+    public long getRequestsGenerated() { return requestsGenerated; }
+    public long getRequestsDelivered() { return requestsDelivered; }
+    public long getProcessedEvents() { return processedEvents; }
+
+    public double getMean(ScenarioMetric metric) {
+        return statistics.get(metric).mean;
+    }
+
+    public double getStandardDeviation(ScenarioMetric metric) {
+        return statistics.get(metric).standardDeviation();
+    }
+
+    public double getConfidenceHalfWidth(ScenarioMetric metric) {
+        RunningStatistic statistic = statistics.get(metric);
+        return statistic.count > 1 ? Z_95 * statistic.standardDeviation() / Math.sqrt(statistic.count) : 0;
+    }
+
+    public static void printTable(List<ScenarioSummary> summaries) {
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("               SCENARIO SUMMARY (mean, 95% confidence interval)");
+        System.out.println("=".repeat(80));
+
+        for (ScenarioSummary summary : summaries) {
+            System.out.println("\n" + summary.config);
+            System.out.printf("Runs: %d, requests generated: %d, delivered: %d, events: %d%n",
+                    summary.runs, summary.requestsGenerated, summary.requestsDelivered, summary.processedEvents);
+            System.out.printf("%-18s %-10s %-10s %-24s%n", "Metric", "Mean", "Std dev", "95% CI");
+            System.out.println("-".repeat(80));
+
+            for (ScenarioMetric metric : ScenarioMetric.values()) {
+                double mean = summary.getMean(metric);
+                double halfWidth = summary.getConfidenceHalfWidth(metric);
+                System.out.printf("%-18s %-10.2f %-10.2f [%.2f, %.2f]%n",
+                        metric, mean, summary.getStandardDeviation(metric), mean - halfWidth, mean + halfWidth);
+            }
+        }
+        System.out.println("=".repeat(80));
+    }
+
+    private static final class RunningStatistic {
+        private long count;
+        private double mean;
+        private double sumOfSquares;
+
+        private void add(double value) {
+            count++;
+            double delta = value - mean;
+            mean += delta / count;
+            sumOfSquares += delta * (value - mean);
+        }
+
+        private void merge(RunningStatistic other) {
+            if (other.count == 0) {
+                return;
+            }
+            long combined = count + other.count;
+            double delta = other.mean - mean;
+            mean += delta * other.count / combined;
+            sumOfSquares += other.sumOfSquares + delta * delta * count * other.count / combined;
+            count = combined;
+        }
+
+        private double standardDeviation() {
+            return count > 1 ? Math.sqrt(sumOfSquares / (count - 1)) : 0;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package elevators;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class ScoringWeightTuner {
+    public static final int DEFAULT_CANDIDATES = 8;
+    private static final double INITIAL_STEP = 0.3;
+    private static final double MIN_STEP = 0.02;
+    private static final double MAX_STEP = 1.0;
+    private static final double STEP_GROWTH = 1.5;
+    private static final double STEP_DECAY = 0.8;
+    private static final int MIN_ABSOLUTE_STEP = 2;
+    private static final ScenarioMetric OBJECTIVE = ScenarioMetric.P90_WAIT;
+    private static final String PROFILE_PROPERTY = "elevators.profile";
+    private static final String PEAK_RATE_PROPERTY = "elevators.peakRate";
+    private static final String FLOOR_WEIGHTS_PROPERTY = "elevators.floorWeights";
+
+    private final ScenarioRunner runner;
+    private final ScenarioConfig profile;
+    private final int runsPerCandidate;
+    private final int candidatesPerGeneration;
+    private final Random random;
+
+    public ScoringWeightTuner(ScenarioRunner runner, ScenarioConfig profile, int runsPerCandidate,
+                              int candidatesPerGeneration, long seed) {
+        if (runsPerCandidate < 1 || candidatesPerGeneration < 1) {
+            throw new IllegalArgumentException("Runs and candidates per generation must be positive");
+        }
+        if (profile.usesEtaCostModel()) {
+            throw new IllegalArgumentException("Scoring weights are not used by the ETA cost model");
+        }
+
+        this.runner = runner;
+        this.profile = profile;
+        this.runsPerCandidate = runsPerCandidate;
+        this.candidatesPerGeneration = candidatesPerGeneration;
+        this.random = new Random(seed);
+    }
+
+    public ScoringWeights tune(ScoringWeights start, int generations) {
+        ScoringWeights best = start;
+        double bestCost = evaluate(List.of(best)).get(0);
+        double step = INITIAL_STEP;
+        System.out.printf("Generation %3d: p90 wait %.2fs, %s%n", 0, bestCost, best);
+
+        for (int generation = 1; generation <= generations; generation++) {
+            List<ScoringWeights> candidates = new ArrayList<>(candidatesPerGeneration);
+            for (int i = 0; i < candidatesPerGeneration; i++) {
+                candidates.add(mutate(best, step));
+            }
+
+            List<Double> costs = evaluate(candidates);
+            int bestCandidate = 0;
+            for (int i = 1; i < costs.size(); i++) {
+                if (costs.get(i) < costs.get(bestCandidate)) {
+                    bestCandidate = i;
+                }
+            }
+
+            if (costs.get(bestCandidate) < bestCost) {
+                best = candidates.get(bestCandidate);
+                bestCost = costs.get(bestCandidate);
+                step = Math.min(MAX_STEP, step * STEP_GROWTH);
+            } else {
+                step = Math.max(MIN_STEP, step * STEP_DECAY);
+            }
+            System.out.printf("Generation %3d: p90 wait %.2fs, step %.3f, %s%n", generation, bestCost, step, best);
+        }
+        return best;
+    }
+
+    public List<Double> evaluate(List<ScoringWeights> candidates) {
+        List<ScenarioConfig> configs = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            configs.add(profile.withScoringWeights(profile.getName() + " #" + i, candidates.get(i)));
+        }
+
+        List<Double> costs = new ArrayList<>(candidates.size());
+        for (ScenarioSummary summary : runner.run(configs, runsPerCandidate)) {
+            costs.add(summary.getMean(OBJECTIVE));
+        }
+        return costs;
+    }
+
+    private ScoringWeights mutate(ScoringWeights parent, double step) {
+        int[] weights = parent.toArray();
+        for (int i = 0; i < weights.length; i++) {
+            double scaled = weights[i] * Math.exp(step * random.nextGaussian());
+            double jitter = random.nextGaussian() * MIN_ABSOLUTE_STEP;
+            weights[i] = (int) Math.max(0, Math.round(scaled + jitter));
+        }
+        return ScoringWeights.fromArray(weights);
+    }
+
+    private static double[] parseWeights(String list) {
+        String[] parts = list.split(",");
+        double[] weights = new double[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            weights[i] = Double.parseDouble(parts[i].trim());
+        }
+        return weights;
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 6) {
+            System.out.println("Usage: ScoringWeightTuner <floors> <cars> <requests per run> <runs per candidate> " +
+                    "<generations> <output file> [<start weights file>]");
+            System.out.println("Building profile: -D" + PROFILE_PROPERTY + "=<" +
+                    Arrays.toString(TrafficProfile.values()) + "> -D" + PEAK_RATE_PROPERTY + "=<requests/s> -D" +
+                    FLOOR_WEIGHTS_PROPERTY + "=<w1,w2,...> (one weight per floor)");
+            return;
+        }
+
+        int maxFloors = Integer.parseInt(args[0]);
+        int numberOfElevators = Integer.parseInt(args[1]);
+        int requestsPerRun = Integer.parseInt(args[2]);
+        int runs = Integer.parseInt(args[3]);
+        int generations = Integer.parseInt(args[4]);
+        Path output = Path.of(args[5]);
+
+        long seed = Long.getLong("elevators.seed", ScenarioRunner.DEFAULT_SEED);
+        int parallelism = Integer.getInteger("elevators.parallelism", 0);
+        String trafficProfile = System.getProperty(PROFILE_PROPERTY);
+        String floorWeights = System.getProperty(FLOOR_WEIGHTS_PROPERTY);
+        ScenarioConfig.Builder builder = ScenarioConfig.builder("Tuning", numberOfElevators, maxFloors, requestsPerRun);
+        if (trafficProfile != null) {
+            builder.traffic(TrafficProfile.valueOf(trafficProfile.trim().toUpperCase()),
+                    Double.parseDouble(System.getProperty(PEAK_RATE_PROPERTY,
+                            Double.toString(ScenarioConfig.DEFAULT_PEAK_RATE))));
+        }
+        if (floorWeights != null) {
+            builder.floorWeights(parseWeights(floorWeights));
+        }
+        ScenarioConfig profile = builder.build();
+        System.out.println("Building profile: " + profile);
+
+        try {
+            ScoringWeights start = args.length > 6 ? ScoringWeights.load(Path.of(args[6])) : ScoringWeights.DEFAULTS;
+            ScenarioRunner training = new ScenarioRunner(parallelism, seed);
+            ScoringWeights tuned;
+            try {
+                tuned = new ScoringWeightTuner(training, profile, runs, DEFAULT_CANDIDATES, seed).tune(start, generations);
+            } finally {
+                training.shutdown();
+            }
+
+            ScenarioRunner validation = new ScenarioRunner(parallelism, ~seed);
+            try {
+                ScenarioSummary.printTable(validation.run(List.of(
+                        profile.withScoringWeights("Start", start),
+                        profile.withScoringWeights("Tuned", tuned)), runs));
+            } finally {
+                validation.shutdown();
+            }
+
+            tuned.save(output, "Tuned for p90 wait on " + profile);
+            System.out.println("Tuned weights written to " + output.toAbsolutePath());
+        } catch (IOException e) {
+            System.out.println("ERROR: " + e.getMessage());
+        }
+    }
+}
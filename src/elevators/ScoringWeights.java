@@ -0,0 +1,115 @@
+package elevators;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Properties;
+
+public class ScoringWeights {
+    private static final String[] KEYS = {
+            "sameFloorIdle", "idleBase", "idleDistance", "sameDirection",
+            "onTheWay", "oppositeDirection", "passenger", "load"
+    };
+
+    public static final int SIZE = KEYS.length;
+    public static final ScoringWeights DEFAULTS = new ScoringWeights(1000, 500, 10, 300, 200, 100, 5, 3);
+
+    private final int sameFloorIdle;
+    private final int idleBase;
+    private final int idleDistance;
+    private final int sameDirection;
+    private final int onTheWay;
+    private final int oppositeDirection;
+    private final int passenger;
+    private final int load;
+
+    public ScoringWeights(int sameFloorIdle, int idleBase, int idleDistance, int sameDirection,
+                          int onTheWay, int oppositeDirection, int passenger, int load) {
+        this.sameFloorIdle = sameFloorIdle;
+        this.idleBase = idleBase;
+        this.idleDistance = idleDistance;
+        this.sameDirection = sameDirection;
+        this.onTheWay = onTheWay;
+        this.oppositeDirection = oppositeDirection;
+        this.passenger = passenger;
+        this.load = load;
+    }
+
+    public static ScoringWeights fromArray(int[] values) {
+        if (values.length != SIZE) {
+            throw new IllegalArgumentException("Expected " + SIZE + " weights, got " + values.length);
+        }
+        return new ScoringWeights(values[0], values[1], values[2], values[3],
+                values[4], values[5], values[6], values[7]);
+    }
+
+    public int[] toArray() {
+        return new int[] {sameFloorIdle, idleBase, idleDistance, sameDirection,
+                onTheWay, oppositeDirection, passenger, load};
+    }
+
+    public static ScoringWeights load(Path path) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+
+        int[] values = DEFAULTS.toArray();
+        for (int i = 0; i < SIZE; i++) {
+            String value = properties.getProperty(KEYS[i]);
+            if (value == null) {
+                continue;
+            }
+            try {
+                values[i] = Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                throw new IOException("Invalid weight " + KEYS[i] + "=" + value + " in " + path, e);
+            }
+        }
+        return fromArray(values);
+    }
+
+    public void save(Path path, String comment) throws IOException {
+        Properties properties = new Properties();
+        int[] values = toArray();
+        for (int i = 0; i < SIZE; i++) {
+            properties.setProperty(KEYS[i], Integer.toString(values[i]));
+        }
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            properties.store(writer, comment);
+        }
+    }
+
+    public int getSameFloorIdle() { return sameFloorIdle; }
+    public int getIdleBase() { return idleBase; }
+    public int getIdleDistance() { return idleDistance; }
+    public int getSameDirection() { return sameDirection; }
+    public int getOnTheWay() { return onTheWay; }
+    public int getOppositeDirection() { return oppositeDirection; }
+    public int getPassenger() { return passenger; }
+    public int getLoad() { return load; }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ScoringWeights && Arrays.equals(toArray(), ((ScoringWeights) other).toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder description = new StringBuilder();
+        int[] values = toArray();
+        for (int i = 0; i < SIZE; i++) {
+            description.append(i == 0 ? "" : ", ").append(KEYS[i]).append('=').append(values[i]);
+        }
+        return description.toString();
+    }
+}
@@ -0,0 +1,266 @@
+package elevators;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ShardedDispatcher {
+    public static final int DEFAULT_STEAL_THRESHOLD = 4;
+    public static final int DEFAULT_LOBBY_FLOOR = 1;
+
+    private final List<Dispatcher> shards;
+    private final int maxFloors;
+    private final int numberOfElevators;
+    private final ElevatorRuntime runtime;
+    private final AtomicLong unroutableRequests = new AtomicLong();
+
+    public ShardedDispatcher(int maxFloors, List<BuildingZone> zones, ElevatorRuntime runtime) {
+        this(maxFloors, zones, runtime, DEFAULT_STEAL_THRESHOLD);
+    }
+
+    public ShardedDispatcher(int maxFloors, List<BuildingZone> zones, ElevatorRuntime runtime,
+                             int stealThreshold) {
+        if (zones.isEmpty()) {
+            throw new IllegalArgumentException("At least one zone is required");
+        }
+
+        this.maxFloors = maxFloors;
+        this.runtime = runtime;
+        this.shards = new ArrayList<>(zones.size());
+
+        int nextElevatorId = 1;
+        for (BuildingZone zone : zones) {
+            Dispatcher shard = new Dispatcher("Dispatcher " + zone.getName(), nextElevatorId,
+                    zone.getElevatorCount(), maxFloors, runtime);
+            shard.setZone(zone);
+            shard.setPrintEventLogFrame(false);
+            shard.setShutdownRuntimeOnStop(false);
+            shards.add(shard);
+            nextElevatorId += zone.getElevatorCount();
+        }
+        this.numberOfElevators = nextElevatorId - 1;
+
+        for (Dispatcher thief : shards) {
+            for (Dispatcher victim : shards) {
+                if (thief != victim && thief.getZone().overlaps(victim.getZone())) {
+                    thief.addStealTarget(victim, stealThreshold);
+                }
+            }
+        }
+    }
+
+    /**
+     * Splits floors 1..maxFloors into {@code zoneCount} contiguous bands that all share the lobby, and
+     * spreads the cars across them as evenly as possible. Trips between two bands that do not touch the
+     * lobby are not served by any zone.
+     */
+    public static List<BuildingZone> evenZones(int maxFloors, int numberOfElevators, int zoneCount) {
+        if (zoneCount < 1 || zoneCount > maxFloors || zoneCount > numberOfElevators) {
+            throw new IllegalArgumentException(String.format(
+                    "Need 1 to min(floors, cars) zones: zones=%d, floors=%d, cars=%d",
+                    zoneCount, maxFloors, numberOfElevators));
+        }
+
+        List<BuildingZone> zones = new ArrayList<>(zoneCount);
+        for (int i = 0; i < zoneCount; i++) {
+            int lowestFloor = 1 + i * maxFloors / zoneCount;
+            int highestFloor = (i + 1) * maxFloors / zoneCount;
+            int cars = numberOfElevators / zoneCount + (i < numberOfElevators % zoneCount ? 1 : 0);
+            zones.add(new BuildingZone("Z" + (i + 1), lowestFloor, highestFloor, DEFAULT_LOBBY_FLOOR, cars));
+        }
+        return zones;
+    }
+
+    public void start() {
+        LoggerUtil.logSystemInfo("Sharded dispatch started with " + shards.size() + " zones");
+        LoggerUtil.printHeader("EVENT LOG");
+
+        for (Dispatcher shard : shards) {
+            shard.start();
+        }
+    }
+
+    public AdmissionResult addRequest(PassengerRequest request) {
+        Dispatcher target = null;
+
+        for (Dispatcher shard : shards) {
+            if (shard.canServe(request) &&
+                    (target == null || shard.getQueueDepth() < target.getQueueDepth())) {
+                target = shard;
+            }
+        }
+
+        if (target == null) {
+            unroutableRequests.incrementAndGet();
+            if (LoggerUtil.isEnabled(LogLevel.WARN)) {
+                LoggerUtil.logDispatcherAction(LogLevel.WARN, "Error",
+                        "No zone serves " + request.getShortInfo());
+            }
+            return AdmissionResult.REJECTED_UNROUTABLE;
+        }
+
+        return target.addRequest(request);
+    }
+
+    public void setDrainTimeout(long drainTimeoutMillis) {
+        for (Dispatcher shard : shards) {
+            shard.setDrainTimeout(drainTimeoutMillis);
+        }
+    }
+
+    public void stopDispatchers() {
+        for (Dispatcher shard : shards) {
+            shard.stopDispatcher();
+        }
+    }
+
+    /**
+     * Waits for every shard to stop, then shuts down the shared runtime. Shards never shut it down
+     * themselves: under a fixed pool the first one to finish would strand the others' cars. A timeout
+     * of zero waits indefinitely. Returns true only if every shard stopped all of its cars.
+     */
+    public boolean join(long timeoutMillis) throws InterruptedException {
+        long deadline = System.nanoTime() + timeoutMillis * 1_000_000L;
+        boolean stopped = true;
+        for (Dispatcher shard : shards) {
+            shard.join(timeoutMillis == 0 ? 0 : Math.max(1, (deadline - System.nanoTime()) / 1_000_000L));
+            if (shard.isAlive() || !shard.areElevatorsStopped()) {
+                LoggerUtil.printLine("WARNING: " + shard.getName() + " did not stop in time");
+                stopped = false;
+            }
+        }
+        runtime.shutdown();
+        return stopped;
+    }
+
+    public void stop(long timeoutMillis) {
+        stopDispatchers();
+        try {
+            join(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            runtime.shutdown();
+        }
+
+        LoggerUtil.printFooter();
+    }
+
+    public List<Dispatcher> getShards() {
+        return Collections.unmodifiableList(shards);
+    }
+
+    public int getMaxFloors() {
+        return maxFloors;
+    }
+
+    public int getNumberOfElevators() {
+        return numberOfElevators;
+    }
+
+    public long getUnroutableRequests() {
+        return unroutableRequests.get();
+    }
+
+    public long getAdmittedRequests() {
+        long admitted = 0;
+        for (Dispatcher shard : shards) {
+            admitted += shard.getAdmittedRequests();
+        }
+        return admitted;
+    }
+
+    public long getRejectedRequests() {
+        long rejected = unroutableRequests.get();
+        for (Dispatcher shard : shards) {
+            rejected += shard.getRejectedRequests();
+        }
+        return rejected;
+    }
+
+    public long getShedRequests() {
+        long shed = 0;
+        for (Dispatcher shard : shards) {
+            shed += shard.getShedRequests();
+        }
+        return shed;
+    }
+
+    public long getDeliveredRequests() {
+        long delivered = 0;
+        for (Dispatcher shard : shards) {
+            delivered += shard.getMetrics().getJourneyTime().getCount();
+        }
+        return delivered;
+    }
+
+    public long getRequestsStolen() {
+        long stolen = 0;
+        for (Dispatcher shard : shards) {
+            stolen += shard.getRequestsStolen();
+        }
+        return stolen;
+    }
+
+    public long getRequestsRedispatched() {
+        long redispatched = 0;
+        for (Dispatcher shard : shards) {
+            redispatched += shard.getRequestsRedispatched();
+        }
+        return redispatched;
+    }
+
+    public long getRequestsReassigned() {
+        long reassigned = 0;
+        for (Dispatcher shard : shards) {
+            reassigned += shard.getRequestsReassigned();
+        }
+        return reassigned;
+    }
+
+    /**
+     * Building-wide metrics merged from every shard. Built on each call, so take it once per report.
+     */
+    public RequestMetrics getMetrics() {
+        RequestMetrics merged = new RequestMetrics(1, numberOfElevators, maxFloors);
+        for (Dispatcher shard : shards) {
+            merged.add(shard.getMetrics());
+        }
+        return merged;
+    }
+
+    public void printShardSummary() {
+        LoggerUtil.flush();
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("                  SHARD SUMMARY");
+        System.out.println("=".repeat(80));
+        System.out.printf("%-14s %-6s %-10s %-10s %-8s %-10s %-10s%n",
+                "Zone", "Cars", "Admitted", "Assigned", "Stolen", "Delivered", "Wait p90 s");
+        System.out.println("-".repeat(80));
+        for (Dispatcher shard : shards) {
+            BuildingZone zone = shard.getZone();
+            RequestMetrics metrics = shard.getMetrics();
+            System.out.printf("%-14s %-6d %-10d %-10d %-8d %-10d %-10.1f%n",
+                    zone.getName(), zone.getElevatorCount(), shard.getAdmittedRequests(),
+                    shard.getTotalRequestsAssigned(), shard.getRequestsStolen(),
+                    metrics.getJourneyTime().getCount(), metrics.getWaitTime().getPercentile(90) / 1000.0);
+        }
+        System.out.println("-".repeat(80));
+        System.out.printf("%-14s %-6d %-10d %-10s %-8d %-10d %-10.1f%n",
+                "Total", numberOfElevators, getAdmittedRequests(), "", getRequestsStolen(),
+                getDeliveredRequests(), getMetrics().getWaitTime().getPercentile(90) / 1000.0);
+        if (unroutableRequests.get() > 0) {
+            System.out.printf("Unroutable requests (no zone serves both floors): %d%n", unroutableRequests.get());
+        }
+        System.out.println("=".repeat(80));
+    }
+
+    public void printStatus() {
+        for (Dispatcher shard : shards) {
+            System.out.printf("%n%s (%s): queue=%d, assigned=%d, stolen=%d%n",
+                    shard.getName(), shard.getZone(), shard.getQueueDepth(),
+                    shard.getTotalRequestsAssigned(), shard.getRequestsStolen());
+            shard.printStatus();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package elevators;
+
+public interface SimulationClock {
+    SimulationClock SYSTEM = System::currentTimeMillis;
+
+    long currentTimeMillis();
+}
@@ -0,0 +1,198 @@
+package elevators;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+public class SimulationEngine {
+    private static final long REDISPATCH_RETRY_MILLIS = 1000;
+
+    private final EventScheduler scheduler;
+    private final Dispatcher dispatcher;
+    private final boolean[] elevatorScheduled;
+    private int requestsScheduled;
+    private final List<PassengerRequest> pendingBatch = new ArrayList<>();
+    private long batchTickMillis;
+    private boolean batchTickScheduled;
+    private boolean reassignmentTickScheduled;
+
+    public SimulationEngine(int numberOfElevators, int maxFloors) {
+        this.scheduler = new EventScheduler();
+        this.dispatcher = new Dispatcher(numberOfElevators, maxFloors);
+        this.dispatcher.setClock(scheduler);
+        this.elevatorScheduled = new boolean[numberOfElevators + 1];
+        this.requestsScheduled = 0;
+    }
+
+    public void scheduleRequest(long arrivalTime, int floor, int targetFloor) {
+        scheduleRequest(arrivalTime, floor, targetFloor, CallPriority.NORMAL);
+    }
+
+    public void scheduleRequest(long arrivalTime, int floor, int targetFloor, CallPriority priority) {
+        Direction direction = targetFloor > floor ? Direction.UP : Direction.DOWN;
+        requestsScheduled++;
+
+        scheduler.scheduleAt(arrivalTime, () -> {
+            PassengerRequest request = new PassengerRequest(floor, direction, targetFloor,
+                    scheduler.currentTimeMillis(), priority);
+            if (LoggerUtil.isEnabled(LogLevel.INFO)) {
+                LoggerUtil.logDispatcherAction("Request received", request.getShortInfo());
+            }
+            if (!dispatcher.acceptArrival(request).isAccepted()) {
+                return;
+            }
+
+            scheduleReassignmentTick();
+            if (batchTickMillis > 0 && !priority.isPriority()) {
+                pendingBatch.add(request);
+                scheduleBatchTick();
+                return;
+            }
+
+            Elevator elevator = dispatcher.assignRequest(request);
+            if (elevator != null) {
+                wakeElevator(elevator);
+            } else {
+                scheduler.schedule(REDISPATCH_RETRY_MILLIS, () -> redispatch(request));
+            }
+        });
+    }
+
+    public void scheduleTrace(Iterator<TraceRecord> trace) {
+        scheduleTrace(trace, Long.MIN_VALUE);
+    }
+
+    private void scheduleTrace(Iterator<TraceRecord> trace, long firstTraceTime) {
+        if (!trace.hasNext()) {
+            return;
+        }
+
+        TraceRecord record = trace.next();
+        long origin = firstTraceTime == Long.MIN_VALUE ? record.getTime() : firstTraceTime;
+        long arrivalTime = record.getTime() - origin;
+
+        scheduleRequest(arrivalTime, record.getFloor(), record.getTargetFloor());
+        scheduler.scheduleAt(arrivalTime, () -> scheduleTrace(trace, origin));
+    }
+
+    public void enableBatchAssignment(int maxBatchSize, long tickMillis, long latencyBudgetMillis) {
+        dispatcher.enableBatchAssignment(maxBatchSize, latencyBudgetMillis);
+        this.batchTickMillis = Math.max(1, tickMillis);
+    }
+
+    private void scheduleBatchTick() {
+        if (!batchTickScheduled) {
+            batchTickScheduled = true;
+            scheduler.schedule(batchTickMillis, this::assignPendingBatch);
+        }
+    }
+
+    private void assignPendingBatch() {
+        batchTickScheduled = false;
+        List<PassengerRequest> batch = new ArrayList<>(pendingBatch);
+        pendingBatch.clear();
+
+        for (Elevator elevator : dispatcher.assignBatch(batch)) {
+            if (elevator != null) {
+                wakeElevator(elevator);
+            }
+        }
+    }
+
+    private void scheduleReassignmentTick() {
+        if (!reassignmentTickScheduled && dispatcher.isReassignmentEnabled()) {
+            reassignmentTickScheduled = true;
+            scheduler.schedule(dispatcher.getReassignmentInterval(), this::reassignPendingCalls);
+        }
+    }
+
+    private void reassignPendingCalls() {
+        reassignmentTickScheduled = false;
+        for (Elevator elevator : dispatcher.reassignPendingCalls()) {
+            wakeElevator(elevator);
+        }
+
+        for (Elevator elevator : dispatcher.getElevators()) {
+            if (elevator.getWaitingCount() > 0) {
+                scheduleReassignmentTick();
+                return;
+            }
+        }
+    }
+
+    public void run() {
+        SimulationClock previousClock = LoggerUtil.getThreadClock();
+        LoggerUtil.setThreadClock(scheduler);
+        try {
+            if (LoggerUtil.isEnabled(LogLevel.INFO)) {
+                LoggerUtil.logDispatcherAction("Started", "Elevators: " + dispatcher.getElevators().size());
+            }
+            LoggerUtil.printHeader("EVENT LOG (VIRTUAL TIME)");
+
+            scheduler.runUntilEmpty();
+
+            for (Elevator elevator : dispatcher.getElevators()) {
+                elevator.finalizeWork();
+            }
+            if (LoggerUtil.isEnabled(LogLevel.INFO)) {
+                LoggerUtil.logDispatcherAction("Stopped",
+                        "Requests assigned: " + dispatcher.getTotalRequestsAssigned());
+            }
+            LoggerUtil.printFooter();
+        } finally {
+            LoggerUtil.setThreadClock(previousClock);
+        }
+    }
+
+    private void wakeElevator(Elevator elevator) {
+        int elevatorId = elevator.getElevatorId();
+        if (!elevatorScheduled[elevatorId]) {
+            elevatorScheduled[elevatorId] = true;
+            scheduler.schedule(0, () -> stepElevator(elevator));
+        }
+    }
+
+    private void stepElevator(Elevator elevator) {
+        long delay = elevator.step();
+        for (PassengerRequest request : dispatcher.drainLeftBehind()) {
+            redispatch(request);
+        }
+        if (delay < 0) {
+            elevatorScheduled[elevator.getElevatorId()] = false;
+            for (Elevator parked : dispatcher.parkIdleCars()) {
+                wakeElevator(parked);
+            }
+        } else {
+            scheduler.schedule(delay, () -> stepElevator(elevator));
+        }
+    }
+
+    private void redispatch(PassengerRequest request) {
+        Elevator elevator = dispatcher.redispatch(request);
+        if (elevator != null) {
+            wakeElevator(elevator);
+        } else {
+            scheduler.schedule(REDISPATCH_RETRY_MILLIS, () -> redispatch(request));
+        }
+    }
+
+    public Dispatcher getDispatcher() {
+        return dispatcher;
+    }
+
+    public List<Elevator> getElevators() {
+        return dispatcher.getElevators();
+    }
+
+    public long getSimulatedTime() {
+        return scheduler.currentTimeMillis();
+    }
+
+    public long getProcessedEventCount() {
+        return scheduler.getProcessedEventCount();
+    }
+
+    public int getRequestsScheduled() {
+        return requestsScheduled;
+    }
+}
@@ -0,0 +1,287 @@
+package elevators;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class TraceReader implements Iterator<TraceRecord>, Closeable {
+    private static final long DEFAULT_WINDOW_SIZE = 64L * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final long windowSize;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long position;
+    private long lineNumber;
+    private long skippedLines;
+    private boolean headerAllowed = true;
+    private TraceRecord next;
+
+    private long lineStart;
+    private long lineEnd;
+
+    public TraceReader(Path trace) throws IOException {
+        this(trace, DEFAULT_WINDOW_SIZE);
+    }
+
+    public TraceReader(Path trace, long windowSize) throws IOException {
+        this.channel = FileChannel.open(trace, StandardOpenOption.READ);
+        this.fileSize = channel.size();
+        this.windowSize = windowSize;
+        this.position = 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = readRecord();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public TraceRecord next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        TraceRecord record = next;
+        next = null;
+        return record;
+    }
+
+    private TraceRecord readRecord() throws IOException {
+        while (nextLine()) {
+            lineNumber++;
+            int first = firstNonBlank();
+            if (first < 0 || byteAt(lineStart + first) == '#') {
+                continue;
+            }
+
+            // A CSV header may only be the first line that is neither blank nor a comment.
+            boolean mayBeHeader = headerAllowed;
+            headerAllowed = false;
+            TraceRecord record = byteAt(lineStart + first) == '{' ? parseJson(first) : parseCsv(first, mayBeHeader);
+            if (record == null || record.getFloor() == record.getTargetFloor()) {
+                skippedLines++;
+                continue;
+            }
+            return record;
+        }
+        return null;
+    }
+
+    private boolean nextLine() throws IOException {
+        if (position >= fileSize) {
+            return false;
+        }
+
+        ensureWindow(position);
+        long scan = position;
+        while (true) {
+            long windowEnd = windowStart + window.limit();
+            while (scan < windowEnd) {
+                if (window.get((int) (scan - windowStart)) == '\n') {
+                    lineStart = position;
+                    lineEnd = scan;
+                    position = scan + 1;
+                    return true;
+                }
+                scan++;
+            }
+
+            if (windowEnd >= fileSize) {
+                lineStart = position;
+                lineEnd = fileSize;
+                position = fileSize;
+                return true;
+            }
+            if (windowStart == position) {
+                throw new IOException("Trace line " + (lineNumber + 1) + " is longer than the read window");
+            }
+            mapWindow(position);
+        }
+    }
+
+    private void ensureWindow(long offset) throws IOException {
+        if (window == null || offset < windowStart || offset >= windowStart + window.limit()) {
+            mapWindow(offset);
+        }
+    }
+
+    private void mapWindow(long offset) throws IOException {
+        long length = Math.min(windowSize, fileSize - offset);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+        windowStart = offset;
+    }
+
+    private int byteAt(long offset) {
+        return window.get((int) (offset - windowStart));
+    }
+
+    private int firstNonBlank() {
+        for (long i = lineStart; i < lineEnd; i++) {
+            int b = byteAt(i);
+            if (b != ' ' && b != '\t' && b != '\r') {
+                return (int) (i - lineStart);
+            }
+        }
+        return -1;
+    }
+
+    private TraceRecord parseCsv(int first, boolean mayBeHeader) throws IOException {
+        long[] values = new long[3];
+        int field = 0;
+        long value = 0;
+        boolean hasDigits = false;
+        boolean negative = false;
+
+        for (long i = lineStart + first; i <= lineEnd; i++) {
+            int b = i < lineEnd ? byteAt(i) : ',';
+            if (b >= '0' && b <= '9') {
+                value = value * 10 + (b - '0');
+                hasDigits = true;
+            } else if (b == '-' && !hasDigits) {
+                negative = true;
+            } else if (b == ',' || b == ';') {
+                if (!hasDigits) {
+                    if (mayBeHeader) {
+                        return null;
+                    }
+                    throw malformed("empty or non-numeric field");
+                }
+                if (field < values.length) {
+                    values[field] = negative ? -value : value;
+                }
+                field++;
+                value = 0;
+                hasDigits = false;
+                negative = false;
+            } else if (b != ' ' && b != '\t' && b != '\r' && b != '"') {
+                if (mayBeHeader) {
+                    return null;
+                }
+                throw malformed("unexpected character '" + (char) b + "'");
+            }
+        }
+
+        if (field < values.length) {
+            throw malformed("expected time,floor,target");
+        }
+        return new TraceRecord(values[0], (int) values[1], (int) values[2]);
+    }
+
+    private TraceRecord parseJson(int first) throws IOException {
+        long time = Long.MIN_VALUE;
+        long floor = Long.MIN_VALUE;
+        long target = Long.MIN_VALUE;
+
+        long i = lineStart + first;
+        while (i < lineEnd) {
+            if (byteAt(i) != '"') {
+                i++;
+                continue;
+            }
+
+            long keyStart = i + 1;
+            long keyEnd = keyStart;
+            while (keyEnd < lineEnd && byteAt(keyEnd) != '"') {
+                keyEnd++;
+            }
+
+            i = keyEnd + 1;
+            while (i < lineEnd && (byteAt(i) == ' ' || byteAt(i) == '\t')) {
+                i++;
+            }
+            if (i >= lineEnd || byteAt(i) != ':') {
+                continue;
+            }
+            i++;
+            while (i < lineEnd && (byteAt(i) == ' ' || byteAt(i) == '\t')) {
+                i++;
+            }
+            boolean quoted = i < lineEnd && byteAt(i) == '"';
+            if (quoted) {
+                i++;
+            }
+
+            boolean negative = i < lineEnd && byteAt(i) == '-';
+            if (negative) {
+                i++;
+            }
+            long value = 0;
+            boolean hasDigits = false;
+            while (i < lineEnd && byteAt(i) >= '0' && byteAt(i) <= '9') {
+                value = value * 10 + (byteAt(i) - '0');
+                hasDigits = true;
+                i++;
+            }
+            if (quoted) {
+                // Step over the rest of a string value so its closing quote is not read as the next key.
+                while (i < lineEnd && byteAt(i) != '"') {
+                    i++;
+                }
+                i++;
+            }
+            if (!hasDigits) {
+                continue;
+            }
+            if (negative) {
+                value = -value;
+            }
+
+            if (keyEquals(keyStart, keyEnd, "time") || keyEquals(keyStart, keyEnd, "timestamp")) {
+                time = value;
+            } else if (keyEquals(keyStart, keyEnd, "floor")) {
+                floor = value;
+            } else if (keyEquals(keyStart, keyEnd, "target") || keyEquals(keyStart, keyEnd, "targetFloor")) {
+                target = value;
+            }
+        }
+
+        if (time == Long.MIN_VALUE || floor == Long.MIN_VALUE || target == Long.MIN_VALUE) {
+            throw malformed("expected numeric \"time\", \"floor\" and \"target\" fields");
+        }
+        return new TraceRecord(time, (int) floor, (int) target);
+    }
+
+    private boolean keyEquals(long start, long end, String key) {
+        if (end - start != key.length()) {
+            return false;
+        }
+        for (int k = 0; k < key.length(); k++) {
+            if (byteAt(start + k) != key.charAt(k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private IOException malformed(String reason) {
+        return new IOException("Malformed trace line " + lineNumber + ": " + reason);
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    public long getSkippedLines() {
+        return skippedLines;
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+}
@@ -0,0 +1,26 @@
+package elevators;
+
+public final class TraceRecord {
+    private final long time;
+    private final int floor;
+    private final int targetFloor;
+
+    public TraceRecord(long time, int floor, int targetFloor) {
+        this.time = time;
+        this.floor = floor;
+        this.targetFloor = targetFloor;
+    }
+
+    public long getTime() { return time; }
+    public int getFloor() { return floor; }
+    public int getTargetFloor() { return targetFloor; }
+
+    public Direction getDirection() {
+        return targetFloor > floor ? Direction.UP : Direction.DOWN;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d: %d->%d", time, floor, targetFloor);
+    }
+}
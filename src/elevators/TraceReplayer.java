@@ -0,0 +1,144 @@
+package elevators;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+public class TraceReplayer implements Runnable {
+    public static final double MAX_SPEED = Double.POSITIVE_INFINITY;
+
+    private final Path tracePath;
+    private final Function<PassengerRequest, AdmissionResult> sink;
+    private final double speed;
+    private final int maxFloors;
+    private volatile boolean isRunning;
+    private volatile long replayedCount;
+    private volatile long acceptedCount;
+    private volatile long rejectedCount;
+    private volatile long invalidCount;
+    private volatile long maxLagMillis;
+    private volatile IOException failure;
+
+    /**
+     * Replays {@code tracePath} into {@code sink}, typically {@code dispatcher::addRequest}. The sink's
+     * admission result is counted so that requests the dispatcher turned away are not reported as replayed
+     * successfully.
+     */
+    public TraceReplayer(Path tracePath, Function<PassengerRequest, AdmissionResult> sink, double speed,
+                         int maxFloors) {
+        if (!(speed > 0)) {
+            throw new IllegalArgumentException("Replay speed must be positive: " + speed);
+        }
+
+        this.tracePath = tracePath;
+        this.sink = sink;
+        this.speed = speed;
+        this.maxFloors = maxFloors;
+        this.isRunning = true;
+    }
+
+    @Override
+    public void run() {
+        LoggerUtil.logSystemInfo("Trace replay started: " + tracePath + " at " +
+                (speed == MAX_SPEED ? "max" : speed + "x") + " speed");
+
+        try (TraceReader reader = new TraceReader(tracePath)) {
+            long firstTraceTime = Long.MIN_VALUE;
+            long startNanos = System.nanoTime();
+
+            while (isRunning && reader.hasNext()) {
+                TraceRecord record = reader.next();
+                if (!isValid(record)) {
+                    invalidCount++;
+                    continue;
+                }
+
+                if (firstTraceTime == Long.MIN_VALUE) {
+                    firstTraceTime = record.getTime();
+                }
+                if (speed != MAX_SPEED) {
+                    long dueNanos = startNanos + (long) ((record.getTime() - firstTraceTime) *
+                            TimeUnit.MILLISECONDS.toNanos(1) / speed);
+                    waitUntil(dueNanos);
+                }
+
+                AdmissionResult result = sink.apply(new PassengerRequest(record.getFloor(), record.getDirection(),
+                        record.getTargetFloor()));
+                replayedCount++;
+                if (result.isAccepted()) {
+                    acceptedCount++;
+                } else {
+                    rejectedCount++;
+                }
+            }
+        } catch (IOException e) {
+            fail(e);
+        } catch (UncheckedIOException e) {
+            fail(e.getCause());
+        }
+
+        LoggerUtil.logSystemInfo("Trace replay finished. Replayed " + replayedCount + " requests (accepted " +
+                acceptedCount + ", rejected " + rejectedCount + "), skipped " + invalidCount +
+                " out-of-range records, max lag " + maxLagMillis + " ms");
+    }
+
+    private void fail(IOException e) {
+        failure = e;
+        LoggerUtil.logSystemInfo("Trace replay failed: " + e.getMessage());
+    }
+
+    private boolean isValid(TraceRecord record) {
+        return record.getFloor() >= 1 && record.getFloor() <= maxFloors &&
+                record.getTargetFloor() >= 1 && record.getTargetFloor() <= maxFloors;
+    }
+
+    private void waitUntil(long dueNanos) {
+        long remaining = dueNanos - System.nanoTime();
+        while (remaining > 0 && isRunning) {
+            LockSupport.parkNanos(remaining);
+            remaining = dueNanos - System.nanoTime();
+        }
+
+        long lag = TimeUnit.NANOSECONDS.toMillis(-remaining);
+        if (lag > maxLagMillis) {
+            maxLagMillis = lag;
+        }
+    }
+
+    public void stopReplay() {
+        isRunning = false;
+    }
+
+    public long getReplayedCount() {
+        return replayedCount;
+    }
+
+    public long getAcceptedCount() {
+        return acceptedCount;
+    }
+
+    /**
+     * Requests the sink refused, e.g. because the intake queue was full or the dispatcher had stopped.
+     */
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * Records skipped before reaching the sink because a floor lies outside the building.
+     */
+    public long getInvalidCount() {
+        return invalidCount;
+    }
+
+    public long getMaxLagMillis() {
+        return maxLagMillis;
+    }
+
+    public IOException getFailure() {
+        return failure;
+    }
+}
@@ -0,0 +1,137 @@
+package elevators;
+
+import java.util.Arrays;
+
+public class TrafficForecast {
+    public static final long DEFAULT_SLOT_MILLIS = 15 * 60 * 1000L;
+    public static final long DEFAULT_DAY_MILLIS = 24 * 60 * 60 * 1000L;
+    public static final long DEFAULT_RECENT_HALF_LIFE_MILLIS = 5 * 60 * 1000L;
+    public static final double DEFAULT_DAY_DECAY = 0.8;
+    public static final double DEFAULT_HISTORY_WEIGHT = 0.5;
+
+    private static final double MILLIS_PER_MINUTE = 60_000.0;
+
+    private final int maxFloors;
+    private final long slotMillis;
+    private final int slotsPerDay;
+    private final long dayMillis;
+    private final double recentTau;
+    private final double dayDecay;
+    private final double historyWeight;
+
+    private final double[] recent;
+    private final long[] recentUpdated;
+    private final double[][] history;
+    private final long[][] historyDay;
+    private final double[] slotWeight;
+    private final long[] slotDay;
+    private long observations;
+
+    public TrafficForecast(int maxFloors) {
+        this(maxFloors, DEFAULT_SLOT_MILLIS, DEFAULT_DAY_MILLIS, DEFAULT_RECENT_HALF_LIFE_MILLIS,
+                DEFAULT_DAY_DECAY, DEFAULT_HISTORY_WEIGHT);
+    }
+
+    public TrafficForecast(int maxFloors, long slotMillis, long dayMillis, long recentHalfLifeMillis,
+                           double dayDecay, double historyWeight) {
+        if (slotMillis <= 0 || dayMillis < slotMillis || recentHalfLifeMillis <= 0) {
+            throw new IllegalArgumentException("Invalid forecast windows");
+        }
+        this.maxFloors = maxFloors;
+        this.slotMillis = slotMillis;
+        this.slotsPerDay = (int) (dayMillis / slotMillis);
+        this.dayMillis = slotsPerDay * slotMillis;
+        this.recentTau = recentHalfLifeMillis / Math.log(2);
+        this.dayDecay = dayDecay;
+        this.historyWeight = historyWeight;
+
+        this.recent = new double[maxFloors + 1];
+        this.recentUpdated = new long[maxFloors + 1];
+        this.history = new double[slotsPerDay][maxFloors + 1];
+        this.historyDay = new long[slotsPerDay][maxFloors + 1];
+        this.slotWeight = new double[slotsPerDay];
+        this.slotDay = new long[slotsPerDay];
+        Arrays.fill(slotDay, -1);
+    }
+
+    public synchronized void observe(int floor, long time) {
+        if (floor < 1 || floor > maxFloors) {
+            return;
+        }
+
+        recent[floor] = decayedRecent(floor, time) + 1;
+        recentUpdated[floor] = time;
+
+        int slot = slotOf(time);
+        long day = Math.floorDiv(time, dayMillis);
+        if (slotDay[slot] != day) {
+            slotWeight[slot] = slotDay[slot] < 0 ? 1 : slotWeight[slot] * Math.pow(dayDecay, day - slotDay[slot]) + 1;
+            slotDay[slot] = day;
+        }
+        history[slot][floor] = history[slot][floor] * Math.pow(dayDecay, day - historyDay[slot][floor]) + 1;
+        historyDay[slot][floor] = day;
+        observations++;
+    }
+
+    public synchronized double expectedRate(int floor, long time) {
+        if (floor < 1 || floor > maxFloors) {
+            return 0;
+        }
+        return demand(floor, time, slotOf(time + slotMillis / 2), Math.floorDiv(time, dayMillis));
+    }
+
+    public synchronized int[] busiestFloors(long time, int count, double minimumRate) {
+        int slot = slotOf(time + slotMillis / 2);
+        long day = Math.floorDiv(time, dayMillis);
+        double[] demand = new double[maxFloors + 1];
+        for (int floor = 1; floor <= maxFloors; floor++) {
+            demand[floor] = demand(floor, time, slot, day);
+        }
+
+        int[] selected = new int[Math.min(count, maxFloors)];
+        int found = 0;
+        while (found < selected.length) {
+            int best = FloorTargetIndex.NO_FLOOR;
+            for (int floor = 1; floor <= maxFloors; floor++) {
+                if (demand[floor] >= minimumRate && (best == FloorTargetIndex.NO_FLOOR || demand[floor] > demand[best])) {
+                    best = floor;
+                }
+            }
+            if (best == FloorTargetIndex.NO_FLOOR) {
+                break;
+            }
+            selected[found++] = best;
+            demand[best] = -1;
+        }
+        return Arrays.copyOf(selected, found);
+    }
+
+    private double demand(int floor, long time, int slot, long day) {
+        double recentRate = decayedRecent(floor, time) / recentTau * MILLIS_PER_MINUTE;
+        if (slotDay[slot] < 0) {
+            return recentRate;
+        }
+
+        double weight = slotWeight[slot] * Math.pow(dayDecay, day - slotDay[slot]);
+        double count = history[slot][floor] * Math.pow(dayDecay, day - historyDay[slot][floor]);
+        double historicalRate = count / weight / (slotMillis / MILLIS_PER_MINUTE);
+        return (1 - historyWeight) * recentRate + historyWeight * historicalRate;
+    }
+
+    private double decayedRecent(int floor, long time) {
+        long elapsed = Math.max(0, time - recentUpdated[floor]);
+        return recent[floor] * Math.exp(-elapsed / recentTau);
+    }
+
+    private int slotOf(long time) {
+        return (int) (Math.floorMod(time, dayMillis) / slotMillis);
+    }
+
+    public int getSlotsPerDay() {
+        return slotsPerDay;
+    }
+
+    public synchronized long getObservations() {
+        return observations;
+    }
+}
@@ -0,0 +1,48 @@
+package elevators;
+
+public enum TrafficProfile {
+    UNIFORM("UNIFORM", 0.0, 0.0, 0),
+    UP_PEAK("UP_PEAK", 0.85, 0.05, 1),
+    DOWN_PEAK("DOWN_PEAK", 0.05, 0.85, 1),
+    LUNCH("LUNCH", 0.40, 0.40, 2),
+    INTER_FLOOR("INTER_FLOOR", 0.10, 0.10, 0);
+
+    private static final double OFF_PEAK_FACTOR = 0.2;
+
+    private final String symbol;
+    private final double fromLobbyShare;
+    private final double toLobbyShare;
+    private final int peaks;
+
+    TrafficProfile(String symbol, double fromLobbyShare, double toLobbyShare, int peaks) {
+        this.symbol = symbol;
+        this.fromLobbyShare = fromLobbyShare;
+        this.toLobbyShare = toLobbyShare;
+        this.peaks = peaks;
+    }
+
+    public double getFromLobbyShare() {
+        return fromLobbyShare;
+    }
+
+    public double getToLobbyShare() {
+        return toLobbyShare;
+    }
+
+    public boolean isTimeVarying() {
+        return peaks > 0;
+    }
+
+    public double rateFactor(double phase) {
+        if (peaks == 0) {
+            return 1.0;
+        }
+        double wave = Math.sin(Math.PI * peaks * phase);
+        return OFF_PEAK_FACTOR + (1.0 - OFF_PEAK_FACTOR) * wave * wave;
+    }
+
+    @Override
+    public String toString() {
+        return symbol;
+    }
+}
@@ -0,0 +1,115 @@
+package elevators;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class WaitingQueues {
+    private final List<ArrayDeque<PassengerRequest>> up;
+    private final List<ArrayDeque<PassengerRequest>> down;
+    private int waitingCount;
+
+    public WaitingQueues(int maxFloors) {
+        this.up = new ArrayList<>(Collections.nCopies(maxFloors + 1, null));
+        this.down = new ArrayList<>(Collections.nCopies(maxFloors + 1, null));
+    }
+
+    public void add(PassengerRequest request) {
+        List<ArrayDeque<PassengerRequest>> queues = request.getDirection() == Direction.DOWN ? down : up;
+        int floor = request.getFloor();
+        ArrayDeque<PassengerRequest> queue = queues.get(floor);
+        if (queue == null) {
+            queue = new ArrayDeque<>();
+            queues.set(floor, queue);
+        }
+
+        if (request.getPriority().isPriority()) {
+            queue.addFirst(request);
+        } else {
+            queue.addLast(request);
+        }
+        waitingCount++;
+    }
+
+    public PassengerRequest poll(int floor, Direction direction) {
+        ArrayDeque<PassengerRequest> queue = queue(floor, direction);
+        PassengerRequest request = queue != null ? queue.pollFirst() : null;
+        if (request != null) {
+            waitingCount--;
+        }
+        return request;
+    }
+
+    public PassengerRequest peek(int floor, Direction direction) {
+        ArrayDeque<PassengerRequest> queue = queue(floor, direction);
+        return queue != null ? queue.peekFirst() : null;
+    }
+
+    public int size(int floor, Direction direction) {
+        ArrayDeque<PassengerRequest> queue = queue(floor, direction);
+        return queue != null ? queue.size() : 0;
+    }
+
+    public Direction preemptiveDirection(int floor) {
+        for (Direction direction : new Direction[] {Direction.UP, Direction.DOWN}) {
+            if (hasPreemptive(floor, direction)) {
+                return direction;
+            }
+        }
+        return null;
+    }
+
+    public boolean hasPreemptive(int floor, Direction direction) {
+        ArrayDeque<PassengerRequest> queue = queue(floor, direction);
+        if (queue == null) {
+            return false;
+        }
+        for (PassengerRequest request : queue) {
+            if (request.getPriority().isPreemptive()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public List<PassengerRequest> drain(int floor, Direction direction) {
+        ArrayDeque<PassengerRequest> queue = queue(floor, direction);
+        if (queue == null || queue.isEmpty()) {
+            return List.of();
+        }
+
+        List<PassengerRequest> drained = new ArrayList<>(queue);
+        queue.clear();
+        waitingCount -= drained.size();
+        return drained;
+    }
+
+    public List<PassengerRequest> heads() {
+        List<PassengerRequest> heads = new ArrayList<>();
+        for (int floor = 0; floor < up.size(); floor++) {
+            for (Direction direction : new Direction[] {Direction.UP, Direction.DOWN}) {
+                PassengerRequest head = peek(floor, direction);
+                if (head != null) {
+                    heads.add(head);
+                }
+            }
+        }
+        return heads;
+    }
+
+    public boolean isEmpty() {
+        return waitingCount == 0;
+    }
+
+    public int getWaitingCount() {
+        return waitingCount;
+    }
+
+    private ArrayDeque<PassengerRequest> queue(int floor, Direction direction) {
+        if (floor < 0 || floor >= up.size()) {
+            return null;
+        }
+        return direction == Direction.DOWN ? down.get(floor) : up.get(floor);
+    }
+}
@@ -0,0 +1,89 @@
+package elevators;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AssignmentSolverTest {
+
+    @Test
+    void solvesSquareMatrix() {
+        double[][] cost = {
+                {4, 1, 3},
+                {2, 0, 5},
+                {3, 2, 2}
+        };
+
+        assertArrayEquals(new int[] {1, 0, 2}, AssignmentSolver.solve(cost));
+    }
+
+    @Test
+    void leavesSurplusColumnsUnused() {
+        double[][] cost = {
+                {9, 2, 7, 8},
+                {6, 4, 3, 7}
+        };
+
+        assertArrayEquals(new int[] {1, 2}, AssignmentSolver.solve(cost));
+    }
+
+    @Test
+    void emptyMatrixHasEmptyAssignment() {
+        assertEquals(0, AssignmentSolver.solve(new double[0][0]).length);
+    }
+
+    @Test
+    void rejectsMoreRowsThanColumns() {
+        assertThrows(IllegalArgumentException.class, () -> AssignmentSolver.solve(new double[3][2]));
+    }
+
+    @Test
+    void matchesBruteForceOnRandomMatrices() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int trial = 0; trial < 200; trial++) {
+            int rows = 1 + random.nextInt(5);
+            int columns = rows + random.nextInt(3);
+            double[][] cost = new double[rows][columns];
+            for (double[] row : cost) {
+                for (int j = 0; j < columns; j++) {
+                    row[j] = random.nextInt(100);
+                }
+            }
+
+            int[] assignment = AssignmentSolver.solve(cost);
+            assertEquals(bruteForce(cost, 0, new boolean[columns]), total(cost, assignment), 1e-9,
+                    "trial " + trial);
+        }
+    }
+
+    private static double total(double[][] cost, int[] assignment) {
+        boolean[] used = new boolean[cost[0].length];
+        double total = 0;
+        for (int i = 0; i < assignment.length; i++) {
+            assertFalse(used[assignment[i]], "column assigned twice");
+            used[assignment[i]] = true;
+            total += cost[i][assignment[i]];
+        }
+        return total;
+    }
+
+    private static double bruteForce(double[][] cost, int row, boolean[] used) {
+        if (row == cost.length) {
+            return 0;
+        }
+        double best = Double.POSITIVE_INFINITY;
+        for (int j = 0; j < used.length; j++) {
+            if (!used[j]) {
+                used[j] = true;
+                best = Math.min(best, cost[row][j] + bruteForce(cost, row + 1, used));
+                used[j] = false;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,78 @@
+package elevators;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DestinationDispatchTest {
+    private static final long STOP_PENALTY = 1_000;
+
+    private final DestinationDispatch dispatch = new DestinationDispatch(1);
+
+    @Test
+    void rejectsNegativeTolerance() {
+        assertThrows(IllegalArgumentException.class, () -> new DestinationDispatch(-1));
+    }
+
+    @Test
+    void tripAlongExistingStopsCostsNothing() {
+        assertEquals(0, dispatch.groupingCost(state(1, 3, 8), request(3, 8), STOP_PENALTY));
+    }
+
+    @Test
+    void newCallStopAndNearbyTargetArePenalised() {
+        long cost = dispatch.groupingCost(state(1, 3, 8), request(5, 9), STOP_PENALTY);
+
+        assertEquals(STOP_PENALTY + STOP_PENALTY / 2, cost);
+    }
+
+    @Test
+    void callAtTheCurrentFloorNeedsNoExtraStop() {
+        assertEquals(STOP_PENALTY, dispatch.groupingCost(state(1, 3, 8), request(1, 12), STOP_PENALTY));
+    }
+
+    @Test
+    void emptyCarPaysForBothStops() {
+        assertEquals(2 * STOP_PENALTY, dispatch.groupingCost(state(1), request(2, 5), STOP_PENALTY));
+    }
+
+    @Test
+    void groupsByCallAndNearbyTargets() {
+        List<List<PassengerRequest>> groups = dispatch.group(List.of(
+                request(1, 9), request(1, 4), request(10, 2), request(1, 3), request(1, 6), request(1, 5),
+                request(10, 2)));
+
+        assertEquals(List.of(List.of(3, 4), List.of(5, 6), List.of(9), List.of(2, 2)),
+                groups.stream().map(group -> group.stream().map(PassengerRequest::getTargetFloor).toList()).toList());
+    }
+
+    @Test
+    void zeroToleranceGroupsOnlyIdenticalTargets() {
+        List<List<PassengerRequest>> groups = new DestinationDispatch(0).group(List.of(
+                request(1, 4), request(1, 5), request(1, 4)));
+
+        assertEquals(2, groups.size());
+        assertEquals(2, groups.get(0).size());
+    }
+
+    @Test
+    void countsAssignmentsThatShareStops() {
+        dispatch.recordAssignment(state(1, 3, 8), request(3, 9));
+        dispatch.recordAssignment(state(1, 3, 8), request(5, 12));
+
+        assertEquals(1, dispatch.getGroupedRequests());
+        assertEquals(2, dispatch.getSharedStops());
+    }
+
+    private static ElevatorState state(int floor, int... stops) {
+        return new ElevatorState(1, floor, Direction.IDLE, ElevatorStatus.STOPPED, 0, 10, stops.length,
+                stops.length == 0, 0, stops);
+    }
+
+    private static PassengerRequest request(int floor, int targetFloor) {
+        return new PassengerRequest(floor, targetFloor > floor ? Direction.UP : Direction.DOWN, targetFloor, 0);
+    }
+}
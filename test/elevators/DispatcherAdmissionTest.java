@@ -0,0 +1,111 @@
+package elevators;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DispatcherAdmissionTest {
+    private LogLevel previousLevel;
+
+    @BeforeEach
+    void silenceLogging() {
+        previousLevel = LoggerUtil.getThreadLevel();
+        LoggerUtil.setThreadLevel(LogLevel.OFF);
+    }
+
+    @AfterEach
+    void restoreLogging() {
+        LoggerUtil.setThreadLevel(previousLevel);
+    }
+
+    @Test
+    void rejectPolicyRejectsOnceQueueIsFull() {
+        Dispatcher dispatcher = new Dispatcher(2, 10);
+        dispatcher.setAdmissionControl(3, AdmissionPolicy.REJECT);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(AdmissionResult.ACCEPTED, dispatcher.addRequest(request(1, 5)));
+        }
+        assertEquals(AdmissionResult.REJECTED_FULL, dispatcher.addRequest(request(2, 6)));
+
+        assertEquals(3, dispatcher.getAdmittedRequests());
+        assertEquals(1, dispatcher.getRejectedRequests());
+        assertEquals(3, dispatcher.getQueueDepth());
+    }
+
+    @Test
+    void blockPolicyDoesNotBlockNonBlockingAttempts() {
+        Dispatcher dispatcher = new Dispatcher(2, 10);
+        dispatcher.setAdmissionControl(1, AdmissionPolicy.BLOCK);
+
+        assertEquals(AdmissionResult.ACCEPTED, dispatcher.tryAddRequest(request(1, 5)));
+        assertEquals(AdmissionResult.REJECTED_FULL, dispatcher.tryAddRequest(request(1, 6)));
+    }
+
+    @Test
+    void shedOldestAdmitsNewRequestsAndShedsTheBacklog() {
+        Dispatcher dispatcher = new Dispatcher(2, 10);
+        dispatcher.setAdmissionControl(2, AdmissionPolicy.SHED_OLDEST);
+
+        dispatcher.tryAddRequest(request(1, 5));
+        dispatcher.tryAddRequest(request(2, 5));
+        assertEquals(AdmissionResult.ACCEPTED_SHED_OLDEST, dispatcher.tryAddRequest(request(3, 5)));
+        assertEquals(AdmissionResult.ACCEPTED_SHED_OLDEST, dispatcher.tryAddRequest(request(4, 5)));
+
+        assertEquals(4, dispatcher.getAdmittedRequests());
+        assertEquals(2, dispatcher.getShedRequests());
+        assertEquals(2, dispatcher.getQueueDepth());
+    }
+
+    @Test
+    void shrinkingCapacityShedsTheExcess() {
+        Dispatcher dispatcher = new Dispatcher(2, 10);
+        dispatcher.setAdmissionControl(10, AdmissionPolicy.REJECT);
+        for (int i = 0; i < 6; i++) {
+            dispatcher.tryAddRequest(request(1 + i, 9));
+        }
+
+        dispatcher.setAdmissionControl(4, AdmissionPolicy.REJECT);
+
+        assertEquals(4, dispatcher.getQueueDepth());
+        assertEquals(2, dispatcher.getShedRequests());
+        assertEquals(4, dispatcher.getQueueCapacity());
+    }
+
+    @Test
+    void intakeDepthNeverExceedsCapacity() {
+        Dispatcher dispatcher = new Dispatcher(2, 10);
+        dispatcher.setAdmissionControl(3, AdmissionPolicy.SHED_OLDEST);
+        for (int i = 0; i < 6; i++) {
+            dispatcher.tryAddRequest(request(1 + i, 9));
+        }
+
+        PipelineStage intake = dispatcher.getPipelineStages().get(0);
+        assertEquals(3, intake.getMaxQueueDepth());
+    }
+
+    @Test
+    void rejectsNonPositiveCapacity() {
+        Dispatcher dispatcher = new Dispatcher(2, 10);
+        assertThrows(IllegalArgumentException.class, () -> dispatcher.setAdmissionControl(0, AdmissionPolicy.REJECT));
+    }
+
+    @Test
+    void simulatedArrivalsAreValidatedAndCounted() {
+        Dispatcher dispatcher = new Dispatcher(2, 10);
+
+        assertTrue(dispatcher.acceptArrival(request(2, 8)).isAccepted());
+        assertEquals(AdmissionResult.REJECTED_UNROUTABLE, dispatcher.acceptArrival(request(4, 12)));
+
+        assertEquals(1, dispatcher.getAdmittedRequests());
+        assertEquals(1, dispatcher.getRejectedRequests());
+    }
+
+    private static PassengerRequest request(int floor, int targetFloor) {
+        return new PassengerRequest(floor, targetFloor > floor ? Direction.UP : Direction.DOWN, targetFloor, 0);
+    }
+}
@@ -0,0 +1,54 @@
+package elevators;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DispatcherPriorityTest {
+    private LogLevel previousLevel;
+
+    @BeforeEach
+    void silenceLogging() {
+        previousLevel = LoggerUtil.getThreadLevel();
+        LoggerUtil.setThreadLevel(LogLevel.OFF);
+    }
+
+    @AfterEach
+    void restoreLogging() {
+        LoggerUtil.setThreadLevel(previousLevel);
+    }
+
+    @Test
+    void priorityCallsAreValidated() {
+        Dispatcher dispatcher = new Dispatcher(2, 10);
+
+        PassengerRequest unroutable = new PassengerRequest(3, Direction.UP, 30, 0, CallPriority.MEDICAL);
+        assertEquals(AdmissionResult.REJECTED_UNROUTABLE, dispatcher.tryAddRequest(unroutable));
+        assertEquals(1, dispatcher.getRejectedRequests());
+        assertEquals(0, dispatcher.getPriorityQueueDepth());
+    }
+
+    @Test
+    void priorityLaneIsBounded() {
+        Dispatcher dispatcher = new Dispatcher(2, 10);
+
+        int accepted = 0;
+        int rejected = 0;
+        for (int i = 0; i < Dispatcher.PRIORITY_QUEUE_CAPACITY + 5; i++) {
+            AdmissionResult result = dispatcher.tryAddRequest(
+                    new PassengerRequest(1 + i % 8, Direction.UP, 10, 0, CallPriority.MEDICAL));
+            if (result.isAccepted()) {
+                accepted++;
+            } else {
+                assertEquals(AdmissionResult.REJECTED_FULL, result);
+                rejected++;
+            }
+        }
+
+        assertEquals(Dispatcher.PRIORITY_QUEUE_CAPACITY, accepted);
+        assertEquals(5, rejected);
+        assertEquals(Dispatcher.PRIORITY_QUEUE_CAPACITY, dispatcher.getPriorityQueueDepth());
+    }
+}
@@ -0,0 +1,127 @@
+package elevators;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ElevatorBoardingTest {
+    private static final int MAX_STEPS = 500;
+
+    private final List<PassengerRequest> leftBehind = new ArrayList<>();
+    private LogLevel previousLevel;
+
+    @BeforeEach
+    void silenceLogging() {
+        previousLevel = LoggerUtil.getThreadLevel();
+        LoggerUtil.setThreadLevel(LogLevel.OFF);
+    }
+
+    @AfterEach
+    void restoreLogging() {
+        LoggerUtil.setThreadLevel(previousLevel);
+    }
+
+    @Test
+    void boardsEveryWaitingPassengerInOneStop() {
+        Elevator elevator = newElevator(1, 10);
+        elevator.addPassengerRequest(new PassengerRequest(1, Direction.UP, 5, 0));
+        elevator.addPassengerRequest(new PassengerRequest(1, Direction.UP, 6, 0));
+        elevator.addPassengerRequest(new PassengerRequest(1, Direction.UP, 7, 0));
+
+        stepUntil(elevator, state -> state.getStatus() == ElevatorStatus.DOORS_OPEN);
+
+        assertEquals(3, elevator.getPassengerCount());
+        assertTrue(elevator.getTargetFloorsCopy().containsAll(List.of(5, 6, 7)));
+        assertTrue(leftBehind.isEmpty());
+    }
+
+    @Test
+    void fullCarLeavesOnlyTheBoardedDirectionForRedispatch() {
+        Elevator elevator = newElevator(1, 1);
+        PassengerRequest first = new PassengerRequest(3, Direction.UP, 8, 0);
+        PassengerRequest second = new PassengerRequest(3, Direction.UP, 7, 0);
+        elevator.addPassengerRequest(first);
+        elevator.addPassengerRequest(second);
+        elevator.addPassengerRequest(new PassengerRequest(3, Direction.DOWN, 2, 0));
+        elevator.addPassengerRequest(new PassengerRequest(5, Direction.UP, 9, 0));
+
+        stepUntil(elevator, state -> state.getStatus() == ElevatorStatus.DOORS_OPEN);
+
+        assertEquals(3, elevator.getCurrentFloor());
+        assertEquals(1, elevator.getPassengerCount());
+        assertEquals(List.of(second), leftBehind);
+        assertEquals(2, elevator.getWaitingCount());
+    }
+
+    @Test
+    void oppositeDirectionWaitersKeepTheirCallAndAreServedOnTheWayBack() {
+        Elevator elevator = newElevator(1, 10);
+        elevator.addPassengerRequest(new PassengerRequest(3, Direction.UP, 8, 0));
+        elevator.addPassengerRequest(new PassengerRequest(3, Direction.DOWN, 2, 0));
+        elevator.addPassengerRequest(new PassengerRequest(5, Direction.UP, 9, 0));
+
+        stepUntil(elevator, state -> state.getStatus() == ElevatorStatus.DOORS_OPEN);
+
+        assertEquals(3, elevator.getCurrentFloor());
+        assertEquals(1, elevator.getPassengerCount());
+        assertEquals(2, elevator.getWaitingCount());
+        assertTrue(elevator.getTargetFloorsCopy().contains(3));
+        assertTrue(leftBehind.isEmpty());
+
+        stepUntil(elevator, ElevatorState::isIdle);
+
+        assertEquals(3, elevator.getTotalRequests());
+        assertEquals(0, elevator.getWaitingCount());
+        assertTrue(leftBehind.isEmpty());
+    }
+
+    @Test
+    void idleCarBoardsBothDirections() {
+        Elevator elevator = newElevator(4, 10);
+        elevator.addPassengerRequest(new PassengerRequest(4, Direction.UP, 9, 0));
+        elevator.addPassengerRequest(new PassengerRequest(4, Direction.DOWN, 1, 0));
+
+        stepUntil(elevator, state -> state.getStatus() == ElevatorStatus.DOORS_OPEN);
+
+        assertEquals(2, elevator.getPassengerCount());
+        assertEquals(0, elevator.getWaitingCount());
+    }
+
+    @Test
+    void deliversEveryPassengerItBoards() {
+        Elevator elevator = newElevator(1, 4);
+        for (int floor = 2; floor <= 6; floor++) {
+            elevator.addPassengerRequest(new PassengerRequest(floor, Direction.UP, floor + 4, 0));
+            elevator.addPassengerRequest(new PassengerRequest(floor + 4, Direction.DOWN, floor - 1, 0));
+        }
+
+        stepUntil(elevator, ElevatorState::isIdle);
+
+        assertEquals(10, elevator.getTotalRequests() + leftBehind.size());
+        assertEquals(0, elevator.getPassengerCount());
+    }
+
+    private Elevator newElevator(int startFloor, int capacity) {
+        Elevator elevator = new Elevator(1, 12, startFloor);
+        elevator.setMaxCapacity(capacity);
+        elevator.setLeftBehindHandler(leftBehind::add);
+        return elevator;
+    }
+
+    private static void stepUntil(Elevator elevator, Predicate<ElevatorState> condition) {
+        for (int i = 0; i < MAX_STEPS; i++) {
+            elevator.step();
+            if (condition.test(elevator.getSnapshot())) {
+                return;
+            }
+        }
+        throw new AssertionError("Condition not reached within " + MAX_STEPS + " steps");
+    }
+}
@@ -0,0 +1,67 @@
+package elevators;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EtaCostModelTest {
+    private static final long FLOOR_TIME = 1_000;
+    private static final long STOP_TIME = 100;
+
+    private final EtaCostModel model = new EtaCostModel(FLOOR_TIME, STOP_TIME);
+
+    @Test
+    void fullCarIsUnreachable() {
+        ElevatorState full = state(1, 1, Direction.IDLE, 4, 4, 0);
+
+        assertEquals(EtaCostModel.UNREACHABLE, model.estimateCost(full, request(2, 5)));
+    }
+
+    @Test
+    void idleCarCostsTravelPlusRide() {
+        ElevatorState idle = state(1, 1, Direction.IDLE, 0, 4, 0);
+
+        assertEquals(3 * FLOOR_TIME + 4 * FLOOR_TIME, model.estimateCost(idle, request(4, 8)));
+    }
+
+    @Test
+    void costAddsWaitRideAndDelayToPassengersAlreadyAboard() {
+        ElevatorState moving = state(1, 1, Direction.UP, 1, 4, 1, 3, 6);
+
+        long wait = (5 + 2) * FLOOR_TIME + 2 * STOP_TIME;
+        long ride = 2 * FLOOR_TIME + STOP_TIME;
+        long delay = STOP_TIME + 2 * STOP_TIME;
+        assertEquals(wait + ride + delay, model.estimateCost(moving, request(4, 2)));
+        assertEquals(wait, model.estimateWaitTime(moving, 4, Direction.DOWN));
+    }
+
+    @Test
+    void carHeadingAwayCostsMoreThanANearbyIdleCar() {
+        ElevatorState nearby = state(1, 5, Direction.IDLE, 0, 4, 0);
+        ElevatorState away = state(2, 4, Direction.UP, 2, 4, 3, 9);
+
+        assertTrue(model.estimateCost(nearby, request(3, 1)) < model.estimateCost(away, request(3, 1)));
+    }
+
+    @Test
+    void reusesTheRouteUntilTheTargetsChange() {
+        model.estimateCost(state(1, 1, Direction.UP, 1, 4, 1, 3, 6), request(4, 8));
+        model.estimateCost(state(1, 2, Direction.UP, 1, 4, 1, 3, 6), request(5, 9));
+        model.estimateCost(state(1, 3, Direction.UP, 1, 4, 2, 6), request(5, 9));
+        model.estimateCost(state(7, 1, Direction.IDLE, 0, 4, 0), request(5, 9));
+
+        assertEquals(1, model.getCacheHits());
+        assertEquals(3, model.getCacheMisses());
+    }
+
+    private static ElevatorState state(int id, int floor, Direction direction, int passengers, int capacity,
+                                       long targetsVersion, int... stops) {
+        return new ElevatorState(id, floor, direction, direction == Direction.IDLE ? ElevatorStatus.STOPPED :
+                ElevatorStatus.MOVING, passengers, capacity, stops.length, stops.length == 0, targetsVersion, stops);
+    }
+
+    private static PassengerRequest request(int floor, int targetFloor) {
+        return new PassengerRequest(floor, targetFloor > floor ? Direction.UP : Direction.DOWN, targetFloor, 0);
+    }
+}
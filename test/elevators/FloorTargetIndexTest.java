@@ -0,0 +1,115 @@
+package elevators;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FloorTargetIndexTest {
+
+    @Test
+    void emptyIndexHasNoFloors() {
+        FloorTargetIndex index = new FloorTargetIndex(10);
+
+        assertTrue(index.isEmpty());
+        assertEquals(FloorTargetIndex.NO_FLOOR, index.lowest());
+        assertEquals(FloorTargetIndex.NO_FLOOR, index.highest());
+        assertEquals(FloorTargetIndex.NO_FLOOR, index.nextAtOrAbove(1));
+        assertEquals(FloorTargetIndex.NO_FLOOR, index.nextAtOrBelow(10));
+        assertEquals(0, index.toSortedArray().length);
+    }
+
+    @Test
+    void callsOnTheSameFloorShareOneStop() {
+        FloorTargetIndex index = new FloorTargetIndex(10);
+        index.addHallCall(4, Direction.UP);
+        index.addHallCall(4, Direction.DOWN);
+        index.addCarCall(4);
+        index.addCarCall(9);
+
+        assertEquals(2, index.size());
+        assertTrue(index.hasHallCall(4, Direction.UP));
+        assertTrue(index.hasHallCall(4, Direction.DOWN));
+        assertTrue(index.hasHallCall(4, Direction.IDLE));
+        assertFalse(index.hasHallCall(9, Direction.IDLE));
+        assertTrue(index.hasCarCall(9));
+        assertArrayEquals(new int[] {4, 9}, index.toSortedArray());
+        assertEquals(Set.of(4, 9), index.toSet());
+    }
+
+    @Test
+    void findsNeighbouringStops() {
+        FloorTargetIndex index = new FloorTargetIndex(20);
+        index.addCarCall(3);
+        index.addCarCall(8);
+        index.addCarCall(15);
+
+        assertEquals(8, index.nextAtOrAbove(4));
+        assertEquals(8, index.nextAtOrAbove(8));
+        assertEquals(3, index.nextAtOrBelow(7));
+        assertEquals(FloorTargetIndex.NO_FLOOR, index.nextAtOrAbove(16));
+        assertEquals(3, index.lowest());
+        assertEquals(15, index.highest());
+    }
+
+    @Test
+    void removingOneHallCallKeepsTheStopWhileOtherCallsRemain() {
+        FloorTargetIndex index = new FloorTargetIndex(10);
+        index.addHallCall(5, Direction.UP);
+        index.addHallCall(5, Direction.DOWN);
+
+        index.removeHallCall(5, Direction.UP);
+        assertTrue(index.hasStop(5));
+        assertFalse(index.hasHallCall(5, Direction.UP));
+
+        index.removeHallCall(5, Direction.DOWN);
+        assertFalse(index.hasStop(5));
+        assertTrue(index.isEmpty());
+    }
+
+    @Test
+    void clearFloorDropsEveryKindOfCall() {
+        FloorTargetIndex index = new FloorTargetIndex(10);
+        index.addHallCall(6, Direction.DOWN);
+        index.addCarCall(6);
+        index.addPriorityStop(6);
+
+        index.clearFloor(6);
+
+        assertTrue(index.isEmpty());
+        assertFalse(index.hasHallCall(6, Direction.DOWN));
+        assertFalse(index.hasCarCall(6));
+        assertFalse(index.hasPriorityStops());
+    }
+
+    @Test
+    void nearestPriorityStopPrefersAboveOnATie() {
+        FloorTargetIndex index = new FloorTargetIndex(10);
+        index.addPriorityStop(2);
+        index.addPriorityStop(8);
+
+        assertEquals(8, index.nearestPriorityStop(5));
+        assertEquals(2, index.nearestPriorityStop(4));
+        assertEquals(8, index.nearestPriorityStop(10));
+        assertTrue(index.hasPriorityStop(2));
+        assertTrue(index.hasStop(8));
+    }
+
+    @Test
+    void versionChangesOnlyWhenTheStopSetChanges() {
+        FloorTargetIndex index = new FloorTargetIndex(10);
+        index.addCarCall(3);
+        long afterAdd = index.getVersion();
+
+        index.addHallCall(3, Direction.UP);
+        index.clearFloor(7);
+        assertEquals(afterAdd, index.getVersion());
+
+        index.clearFloor(3);
+        assertTrue(index.getVersion() > afterAdd);
+    }
+}
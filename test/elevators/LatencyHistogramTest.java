@@ -0,0 +1,121 @@
+package elevators;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void emptyHistogramReportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0.0, histogram.getMean());
+        assertEquals(0, histogram.getPercentile(99));
+        assertEquals(0, histogram.getMax());
+    }
+
+    @Test
+    void smallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(50.5, histogram.getMean());
+        assertEquals(50, histogram.getPercentile(50));
+        assertEquals(90, histogram.getPercentile(90));
+        assertEquals(99, histogram.getPercentile(99));
+        assertEquals(100, histogram.getPercentile(100));
+    }
+
+    @Test
+    void largeValuesStayWithinBucketResolution() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        long[] values = {1_000, 37_500, 120_000, 3_600_000};
+        for (long value : values) {
+            histogram.record(value);
+            histogram.record(value * 2);
+        }
+
+        for (int i = 0; i < values.length; i++) {
+            long percentile = histogram.getPercentile(12.5 + 25 * i);
+            assertTrue(percentile >= values[i], values[i] + " reported as " + percentile);
+            assertTrue(percentile - values[i] <= values[i] / 64, values[i] + " reported as " + percentile);
+        }
+        assertEquals(7_200_000, histogram.getPercentile(100));
+    }
+
+    @Test
+    void percentileNeverExceedsTheRecordedMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000_001);
+
+        assertEquals(1_000_001, histogram.getPercentile(50));
+    }
+
+    @Test
+    void negativeValuesCountAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getPercentile(100));
+    }
+
+    @Test
+    void valuesBeyondTheRangeKeepAnExactMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE / 4);
+
+        assertEquals(1, histogram.getCount());
+        assertEquals(Long.MAX_VALUE / 4, histogram.getMax());
+        assertTrue(histogram.getPercentile(100) > 0);
+    }
+
+    @Test
+    void addMergesCountsAndMax() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        first.record(10);
+        first.record(20);
+        second.record(30);
+        second.record(5_000);
+
+        first.add(second);
+
+        assertEquals(4, first.getCount());
+        assertEquals(5_000, first.getMax());
+        assertEquals(20, first.getPercentile(50));
+        assertEquals((10 + 20 + 30 + 5_000) / 4.0, first.getMean());
+        assertEquals(2, second.getCount());
+    }
+
+    @Test
+    void concurrentRecordsAreNotLost() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(40_000, histogram.getCount());
+        assertEquals(9_999, histogram.getMax());
+    }
+}
@@ -0,0 +1,143 @@
+package elevators;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoadGeneratorTest {
+    private LogLevel previousLevel;
+
+    @BeforeEach
+    void silenceLogging() {
+        previousLevel = LoggerUtil.getThreadLevel();
+        LoggerUtil.setThreadLevel(LogLevel.OFF);
+    }
+
+    @AfterEach
+    void restoreLogging() {
+        LoggerUtil.setThreadLevel(previousLevel);
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> simulation(1, 1.0, 1_000, new double[] {1}));
+        assertThrows(IllegalArgumentException.class, () -> simulation(5, 0.0, 1_000, uniform(5)));
+        assertThrows(IllegalArgumentException.class, () -> simulation(5, 1.0, 0, uniform(5)));
+        assertThrows(IllegalArgumentException.class, () -> simulation(5, 1.0, 1_000, uniform(4)));
+        assertThrows(IllegalArgumentException.class, () -> simulation(3, 1.0, 1_000, new double[] {1, -1, 1}));
+        assertThrows(IllegalArgumentException.class, () -> simulation(3, 1.0, 1_000, new double[] {0, 0, 1}));
+        assertThrows(IllegalArgumentException.class, () -> new LoadGenerator(request -> AdmissionResult.ACCEPTED,
+                5, TrafficProfile.UNIFORM, 1.0, 1_000, 0, 1));
+    }
+
+    @Test
+    void simulationGeneratorCannotRunAgainstASink() {
+        LoadGenerator generator = simulation(5, 1.0, 1_000, uniform(5));
+
+        assertThrows(IllegalStateException.class, generator::run);
+    }
+
+    @Test
+    void sameSeedSchedulesTheSameArrivals() {
+        SimulationEngine first = new SimulationEngine(2, 10);
+        SimulationEngine second = new SimulationEngine(2, 10);
+        LoadGenerator generator = LoadGenerator.forSimulation(10, TrafficProfile.UNIFORM, 2.0, 100_000, 7);
+
+        generator.scheduleRequests(first);
+        LoadGenerator.forSimulation(10, TrafficProfile.UNIFORM, 2.0, 100_000, 7).scheduleRequests(second);
+
+        assertEquals(first.getRequestsScheduled(), second.getRequestsScheduled());
+        assertEquals(first.getRequestsScheduled(), generator.getScheduledCount());
+        assertTrue(generator.getScheduledCount() > 150 && generator.getScheduledCount() < 250,
+                "Expected about 200 arrivals, got " + generator.getScheduledCount());
+        assertEquals(2.0, generator.getTargetRate(), 0.5);
+    }
+
+    @Test
+    void peakProfilesScheduleFewerArrivalsThanUniform() {
+        LoadGenerator uniform = LoadGenerator.forSimulation(10, TrafficProfile.UNIFORM, 2.0, 100_000, 7);
+        LoadGenerator peaked = LoadGenerator.forSimulation(10, TrafficProfile.UP_PEAK, 2.0, 100_000, 7);
+
+        uniform.scheduleRequests(new SimulationEngine(2, 10));
+        peaked.scheduleRequests(new SimulationEngine(2, 10));
+
+        assertTrue(peaked.getScheduledCount() < uniform.getScheduledCount());
+    }
+
+    @Test
+    void sendsEveryScheduledRequestAndCountsAcceptance() {
+        Queue<PassengerRequest> received = new ConcurrentLinkedQueue<>();
+        AtomicInteger calls = new AtomicInteger();
+        LoadGenerator generator = new LoadGenerator(request -> {
+            received.add(request);
+            return calls.incrementAndGet() % 4 == 0 ? AdmissionResult.REJECTED_FULL : AdmissionResult.ACCEPTED;
+        }, 10, TrafficProfile.UNIFORM, 500, 200, 2, 3);
+
+        generator.run();
+
+        assertEquals(generator.getScheduledCount(), generator.getSentCount());
+        assertEquals(received.size(), generator.getSentCount());
+        assertEquals(received.size() - received.size() / 4, generator.getAcceptedCount());
+        assertEquals(received.size(), generator.getLag().getCount());
+        for (PassengerRequest request : received) {
+            assertTrue(request.getFloor() >= 1 && request.getFloor() <= 10);
+            assertTrue(request.getTargetFloor() >= 1 && request.getTargetFloor() <= 10);
+            assertNotEquals(request.getFloor(), request.getTargetFloor());
+            assertEquals(request.getTargetFloor() > request.getFloor() ? Direction.UP : Direction.DOWN,
+                    request.getDirection());
+        }
+    }
+
+    @Test
+    void tripsOnlyUseFloorsWithWeight() {
+        Queue<PassengerRequest> received = new ConcurrentLinkedQueue<>();
+        LoadGenerator generator = new LoadGenerator(request -> {
+            received.add(request);
+            return AdmissionResult.ACCEPTED;
+        }, 5, TrafficProfile.INTER_FLOOR, 1_000, 100, 1, 11, new double[] {1, 0, 5, 0, 0});
+
+        generator.run();
+
+        assertTrue(received.size() > 0);
+        for (PassengerRequest request : received) {
+            assertEquals(4, request.getFloor() + request.getTargetFloor());
+        }
+    }
+
+    @Test
+    void stopEndsARunEarly() throws InterruptedException {
+        LoadGenerator generator = new LoadGenerator(request -> AdmissionResult.ACCEPTED, 10,
+                TrafficProfile.UNIFORM, 10, 60_000, 1, 5);
+        Thread runner = new Thread(() -> {
+            LoggerUtil.setThreadLevel(LogLevel.OFF);
+            generator.run();
+        });
+        runner.start();
+
+        generator.stop();
+        runner.join(5_000);
+
+        assertFalse(runner.isAlive());
+        assertTrue(generator.getSentCount() <= generator.getScheduledCount());
+    }
+
+    private static LoadGenerator simulation(int maxFloors, double peakRate, long durationMillis,
+                                            double[] floorWeights) {
+        return LoadGenerator.forSimulation(maxFloors, TrafficProfile.UNIFORM, peakRate, durationMillis, 1,
+                floorWeights);
+    }
+
+    private static double[] uniform(int maxFloors) {
+        return LoadGenerator.uniformWeights(maxFloors);
+    }
+}
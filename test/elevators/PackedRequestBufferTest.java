@@ -0,0 +1,116 @@
+package elevators;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PackedRequestBufferTest {
+
+    @Test
+    void roundsCapacityUpToPowerOfTwo() {
+        assertEquals(8, new PackedRequestBuffer(5).getCapacity());
+        assertEquals(8, new PackedRequestBuffer(8).getCapacity());
+        assertEquals(2, new PackedRequestBuffer(1).getCapacity());
+        assertThrows(IllegalArgumentException.class, () -> new PackedRequestBuffer(0));
+    }
+
+    @Test
+    void pollsInOfferOrder() {
+        PackedRequestBuffer buffer = new PackedRequestBuffer(4);
+        for (long i = 1; i <= 3; i++) {
+            assertTrue(buffer.offer(i, i * 10));
+        }
+
+        List<Long> polled = new ArrayList<>();
+        while (buffer.poll((header, timestamp) -> {
+            assertEquals(header * 10, timestamp);
+            polled.add(header);
+        })) {
+            // keep polling
+        }
+        assertEquals(List.of(1L, 2L, 3L), polled);
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    void rejectsOfferWhenFull() {
+        PackedRequestBuffer buffer = new PackedRequestBuffer(2);
+        assertTrue(buffer.offer(1, 0));
+        assertTrue(buffer.offer(2, 0));
+        assertFalse(buffer.offer(3, 0));
+        assertEquals(1, buffer.getRejectedCount());
+
+        assertEquals(1, buffer.drain((header, timestamp) -> { }, 1));
+        assertTrue(buffer.offer(3, 0));
+        assertEquals(2, buffer.size());
+    }
+
+    @Test
+    void carriesPackedRequests() {
+        PackedRequestBuffer buffer = new PackedRequestBuffer(4);
+        PassengerRequest request = new PassengerRequest(3, Direction.UP, 9, 0, CallPriority.MEDICAL);
+        assertTrue(buffer.offer(request, 77));
+
+        buffer.poll((header, timestamp) -> {
+            PassengerRequest decoded = PackedRequest.decode(header, timestamp);
+            assertEquals(request.getRequestId(), decoded.getRequestId());
+            assertEquals(9, decoded.getTargetFloor());
+            assertEquals(CallPriority.MEDICAL, decoded.getPriority());
+        });
+    }
+
+    @Test
+    void deliversEveryElementOnceUnderConcurrentProducersAndConsumers() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 20_000;
+        int consumers = 2;
+        PackedRequestBuffer buffer = new PackedRequestBuffer(256);
+        ConcurrentHashMap<Long, Boolean> seen = new ConcurrentHashMap<>();
+        AtomicInteger duplicates = new AtomicInteger();
+        AtomicInteger consumed = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(producers + consumers);
+
+        for (int p = 0; p < producers; p++) {
+            long base = (long) p * perProducer;
+            Thread.ofPlatform().start(() -> {
+                for (long i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i, i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        for (int c = 0; c < consumers; c++) {
+            Thread.ofPlatform().start(() -> {
+                while (consumed.get() < producers * perProducer) {
+                    boolean polled = buffer.poll((header, timestamp) -> {
+                        if (seen.putIfAbsent(header, Boolean.TRUE) != null) {
+                            duplicates.incrementAndGet();
+                        }
+                        consumed.incrementAndGet();
+                    });
+                    if (!polled) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(60, TimeUnit.SECONDS), "producers or consumers stalled");
+        assertEquals(0, duplicates.get());
+        assertEquals(producers * perProducer, seen.size());
+        assertTrue(buffer.isEmpty());
+    }
+}
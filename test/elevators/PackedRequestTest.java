@@ -0,0 +1,50 @@
+package elevators;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PackedRequestTest {
+
+    @Test
+    void roundTripsEveryField() {
+        long header = PackedRequest.encode(PackedRequest.MAX_REQUEST_ID, PackedRequest.MAX_FLOOR, Direction.DOWN, 1,
+                CallPriority.FIRE_SERVICE);
+
+        assertEquals(PackedRequest.MAX_REQUEST_ID, PackedRequest.requestId(header));
+        assertEquals(PackedRequest.MAX_FLOOR, PackedRequest.floor(header));
+        assertEquals(1, PackedRequest.targetFloor(header));
+        assertEquals(Direction.DOWN, PackedRequest.direction(header));
+        assertEquals(CallPriority.FIRE_SERVICE, PackedRequest.priority(header));
+    }
+
+    @Test
+    void decodesToEquivalentRequest() {
+        PassengerRequest request = new PassengerRequest(4, Direction.UP, 11, 500, CallPriority.MEDICAL);
+        PassengerRequest decoded = PackedRequest.decode(request.pack(), 500);
+
+        assertEquals(request.getRequestId(), decoded.getRequestId());
+        assertEquals(request.getFloor(), decoded.getFloor());
+        assertEquals(request.getTargetFloor(), decoded.getTargetFloor());
+        assertEquals(request.getDirection(), decoded.getDirection());
+        assertEquals(request.getPriority(), decoded.getPriority());
+        assertEquals(500, decoded.getTimestamp());
+    }
+
+    @Test
+    void describesPriorityOnlyForPriorityCalls() {
+        assertEquals("#7: 3->9 UP", PackedRequest.toString(PackedRequest.encode(7, 3, Direction.UP, 9)));
+        assertEquals("#7: 3->9 UP " + CallPriority.MEDICAL,
+                PackedRequest.toString(PackedRequest.encode(7, 3, Direction.UP, 9, CallPriority.MEDICAL)));
+    }
+
+    @Test
+    void rejectsValuesOutsidePackableRange() {
+        assertThrows(IllegalArgumentException.class,
+                () -> PackedRequest.encode(PackedRequest.MAX_REQUEST_ID + 1, 1, Direction.UP, 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> PackedRequest.encode(1, PackedRequest.MAX_FLOOR + 1, Direction.UP, 2));
+        assertThrows(IllegalArgumentException.class, () -> PackedRequest.encode(-1, 1, Direction.UP, 2));
+    }
+}
@@ -0,0 +1,69 @@
+package elevators;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestIdAllocatorTest {
+
+    @Test
+    void leasesConsecutiveIdsWithinABlock() {
+        RequestIdAllocator allocator = new RequestIdAllocator(4);
+
+        assertEquals(1, allocator.next());
+        assertEquals(2, allocator.next());
+        assertEquals(4, allocator.getAllocatedUpperBound());
+    }
+
+    @Test
+    void reservePastSkipsRecoveredIdsEvenWithAnOpenLease() {
+        RequestIdAllocator allocator = new RequestIdAllocator(8);
+        allocator.next();
+
+        allocator.reservePast(100);
+
+        assertTrue(allocator.next() > 100);
+    }
+
+    @Test
+    void wrapsBackToOneAfterMaxRequestId() {
+        RequestIdAllocator allocator = new RequestIdAllocator(1);
+        allocator.reservePast(PackedRequest.MAX_REQUEST_ID - 2);
+
+        assertEquals(PackedRequest.MAX_REQUEST_ID - 1, allocator.next());
+        assertEquals(PackedRequest.MAX_REQUEST_ID, allocator.next());
+        assertEquals(1, allocator.next());
+    }
+
+    @Test
+    void threadsNeverShareIds() throws InterruptedException {
+        RequestIdAllocator allocator = new RequestIdAllocator(16);
+        Set<Integer> ids = ConcurrentHashMap.newKeySet();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = Thread.ofPlatform().start(() -> {
+                Set<Integer> local = new HashSet<>();
+                for (int i = 0; i < 10_000; i++) {
+                    local.add(allocator.next());
+                }
+                ids.addAll(local);
+            });
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(40_000, ids.size());
+    }
+
+    @Test
+    void rejectsNonPositiveBlockSize() {
+        assertThrows(IllegalArgumentException.class, () -> new RequestIdAllocator(0));
+    }
+}
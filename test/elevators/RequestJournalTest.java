@@ -0,0 +1,168 @@
+package elevators;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestJournalTest {
+    private static final int SMALL_SEGMENT = RequestJournal.RECORD_SIZE * 16;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recoversOutstandingRequestsAndLastStops() throws IOException {
+        PassengerRequest assigned = new PassengerRequest(2, Direction.UP, 7, 1000);
+        PassengerRequest delivered = new PassengerRequest(5, Direction.DOWN, 1, 1100);
+        PassengerRequest waiting = new PassengerRequest(3, Direction.UP, 4, 1200);
+
+        try (RequestJournal journal = RequestJournal.open(directory)) {
+            journal.recordArrival(assigned);
+            journal.recordArrival(delivered);
+            journal.recordArrival(waiting);
+            assigned.markAssigned(1300, 2);
+            journal.recordAssignment(assigned, 2);
+            delivered.markDelivered(1400);
+            journal.recordDelivery(delivered, 1);
+            journal.recordStop(1, 6, 1500);
+        }
+
+        JournalRecovery recovery = RequestJournal.recover(directory);
+        Map<Integer, PassengerRequest> outstanding = byId(recovery.getOutstanding());
+
+        assertEquals(2, outstanding.size());
+        assertEquals(2, outstanding.get(assigned.getRequestId()).getAssignedElevatorId());
+        assertEquals(1300, outstanding.get(assigned.getRequestId()).getAssignedTime());
+        assertEquals(PassengerRequest.NOT_REACHED, outstanding.get(waiting.getRequestId()).getAssignedTime());
+        assertEquals(4, outstanding.get(waiting.getRequestId()).getTargetFloor());
+        assertEquals(Map.of(1, 6), recovery.getLastStops());
+        assertEquals(Math.max(assigned.getRequestId(), Math.max(delivered.getRequestId(), waiting.getRequestId())),
+                recovery.getMaxRequestId());
+        assertEquals(0, recovery.getTornRecords());
+    }
+
+    @Test
+    void cancelledRequestsAreNotRecovered() throws IOException {
+        PassengerRequest cancelled = new PassengerRequest(4, Direction.DOWN, 2, 1000);
+
+        try (RequestJournal journal = RequestJournal.open(directory)) {
+            journal.recordArrival(cancelled);
+            journal.recordCancellation(cancelled, 1100);
+        }
+
+        assertTrue(RequestJournal.recover(directory).getOutstanding().isEmpty());
+    }
+
+    @Test
+    void stopsReplayAtTornRecord() throws IOException {
+        PassengerRequest intact = new PassengerRequest(1, Direction.UP, 5, 1000);
+        PassengerRequest torn = new PassengerRequest(6, Direction.DOWN, 2, 1100);
+
+        try (RequestJournal journal = RequestJournal.open(directory)) {
+            journal.recordArrival(intact);
+            journal.recordArrival(torn);
+        }
+        corruptLastRecord(newestSegment());
+
+        JournalRecovery recovery = RequestJournal.recover(directory);
+        Map<Integer, PassengerRequest> outstanding = byId(recovery.getOutstanding());
+
+        assertEquals(1, recovery.getTornRecords());
+        assertEquals(1, outstanding.size());
+        assertTrue(outstanding.containsKey(intact.getRequestId()));
+    }
+
+    @Test
+    void recoversAcrossSegmentRolls() throws IOException {
+        List<PassengerRequest> open = new ArrayList<>();
+        try (RequestJournal journal = RequestJournal.open(directory, SMALL_SEGMENT, 1)) {
+            for (int i = 0; i < 40; i++) {
+                PassengerRequest request = new PassengerRequest(1 + i % 9, Direction.UP, 10, 1000 + i);
+                journal.recordArrival(request);
+                if (i % 4 == 0) {
+                    open.add(request);
+                } else {
+                    request.markDelivered(2000 + i);
+                    journal.recordDelivery(request, 1);
+                }
+            }
+            assertTrue(journal.getSegmentsRolled() > 0);
+        }
+
+        Map<Integer, PassengerRequest> outstanding = byId(RequestJournal.recover(directory).getOutstanding());
+        assertEquals(open.size(), outstanding.size());
+        for (PassengerRequest request : open) {
+            assertTrue(outstanding.containsKey(request.getRequestId()), "missing #" + request.getRequestId());
+        }
+    }
+
+    @Test
+    void reopenedJournalKeepsOutstandingRequests() throws IOException {
+        PassengerRequest request = new PassengerRequest(3, Direction.UP, 8, 1000);
+        try (RequestJournal journal = RequestJournal.open(directory)) {
+            journal.recordArrival(request);
+        }
+
+        try (RequestJournal journal = RequestJournal.open(directory)) {
+            assertEquals(1, journal.getOutstandingCount());
+            assertTrue(PassengerRequest.nextRequestId() > journal.getRecovery().getMaxRequestId());
+        }
+        assertEquals(1, RequestJournal.recover(directory).getOutstanding().size());
+    }
+
+    private Path newestSegment() throws IOException {
+        Path newest = null;
+        try (DirectoryStream<Path> segments = Files.newDirectoryStream(directory, "journal-*.seg")) {
+            for (Path segment : segments) {
+                if (newest == null || segment.getFileName().toString().compareTo(newest.getFileName().toString()) > 0) {
+                    newest = segment;
+                }
+            }
+        }
+        return newest;
+    }
+
+    private static void corruptLastRecord(Path segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer code = ByteBuffer.allocate(Integer.BYTES);
+            long last = -1;
+            for (long position = 0; position + RequestJournal.RECORD_SIZE <= channel.size();
+                 position += RequestJournal.RECORD_SIZE) {
+                code.clear();
+                channel.read(code, position);
+                if (code.getInt(0) == 0) {
+                    break;
+                }
+                last = position;
+            }
+
+            ByteBuffer header = ByteBuffer.allocate(Long.BYTES);
+            channel.read(header, last + 8);
+            header.putLong(0, header.getLong(0) ^ 1L);
+            header.rewind();
+            channel.write(header, last + 8);
+        }
+    }
+
+    private static Map<Integer, PassengerRequest> byId(List<PassengerRequest> requests) {
+        Map<Integer, PassengerRequest> byId = new HashMap<>();
+        for (PassengerRequest request : requests) {
+            byId.put(request.getRequestId(), request);
+        }
+        return byId;
+    }
+}
@@ -0,0 +1,66 @@
+package elevators;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RequestMetricsTest {
+
+    @Test
+    void recordsDeliveryPerCarAndPerFloor() {
+        RequestMetrics metrics = new RequestMetrics(1, 3, 10);
+        metrics.recordDelivery(delivered(4, 1_000, 3_000), 2);
+
+        assertEquals(1, metrics.getWaitTime().getCount());
+        assertEquals(1, metrics.getWaitTime(2).getCount());
+        assertEquals(1_000, metrics.getWaitTime(2).getMax());
+        assertEquals(3_000, metrics.getRideTime(2).getMax());
+        assertEquals(4_000, metrics.getJourneyTimeByFloor(4).getMax());
+    }
+
+    @Test
+    void untouchedCarsAndFloorsReadAsEmpty() {
+        RequestMetrics metrics = new RequestMetrics(1, 4096, 500);
+        metrics.recordDelivery(delivered(7, 500, 500), 1);
+
+        assertEquals(0, metrics.getWaitTime(4096).getCount());
+        assertEquals(0, metrics.getWaitTimeByFloor(500).getCount());
+        assertEquals(500, metrics.getMaxFloors());
+    }
+
+    @Test
+    void readingAnEmptySlotDoesNotAllocateIt() {
+        RequestMetrics metrics = new RequestMetrics(1, 2, 10);
+        metrics.getWaitTime(1).record(1_000);
+
+        assertEquals(0, metrics.getWaitTime(1).getCount());
+    }
+
+    @Test
+    void mergesShardsByElevatorId() {
+        RequestMetrics lower = new RequestMetrics(1, 2, 10);
+        RequestMetrics upper = new RequestMetrics(3, 2, 10);
+        lower.recordDelivery(delivered(2, 1_000, 1_000), 2);
+        upper.recordDelivery(delivered(2, 2_000, 1_000), 4);
+        upper.recordDelivery(delivered(9, 3_000, 1_000), 3);
+
+        RequestMetrics building = new RequestMetrics(1, 4, 10);
+        building.add(lower);
+        building.add(upper);
+
+        assertEquals(3, building.getJourneyTime().getCount());
+        assertEquals(1, building.getWaitTime(2).getCount());
+        assertEquals(1, building.getWaitTime(3).getCount());
+        assertEquals(2_000, building.getWaitTime(4).getMax());
+        assertEquals(0, building.getWaitTime(1).getCount());
+        assertEquals(2, building.getWaitTimeByFloor(2).getCount());
+    }
+
+    private static PassengerRequest delivered(int floor, long wait, long ride) {
+        PassengerRequest request = new PassengerRequest(floor, Direction.UP, floor + 1, 0);
+        request.markAssigned(0, 1);
+        request.markBoarded(wait);
+        request.markDelivered(wait + ride);
+        return request;
+    }
+}
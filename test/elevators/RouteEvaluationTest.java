@@ -0,0 +1,102 @@
+package elevators;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RouteEvaluationTest {
+    private static final long FLOOR_TIME = 1_000;
+    private static final long STOP_TIME = 100;
+
+    @Test
+    void emptyRouteTravelsStraightToTheFloor() {
+        RouteEvaluation route = route();
+
+        assertEquals(Direction.IDLE, route.sweepDirection(4, Direction.IDLE));
+        assertEquals(3_000, route.arrivalTime(7, 4, Direction.IDLE));
+        assertEquals(3_000, route.arrivalTime(1, Direction.UP, 4, Direction.IDLE));
+        assertEquals(0, route.insertionDelay(7, 4, Direction.IDLE));
+    }
+
+    @Test
+    void idleCarSweepsTowardsTheNearestStop() {
+        assertEquals(Direction.DOWN, route(2, 9).sweepDirection(4, Direction.IDLE));
+        assertEquals(Direction.UP, route(7).sweepDirection(4, Direction.IDLE));
+        assertEquals(Direction.DOWN, route(1).sweepDirection(4, Direction.IDLE));
+        assertEquals(Direction.UP, route(1).sweepDirection(4, Direction.UP));
+    }
+
+    @Test
+    void arrivalAheadCountsStopsOnTheWay() {
+        RouteEvaluation route = route(3, 6);
+
+        assertEquals(3 * FLOOR_TIME + STOP_TIME, route.arrivalTime(4, 1, Direction.UP));
+        assertEquals(7 * FLOOR_TIME + 2 * STOP_TIME, route.arrivalTime(8, 1, Direction.UP));
+        assertEquals(3 * FLOOR_TIME + STOP_TIME, route.arrivalTime(4, Direction.UP, 1, Direction.UP));
+    }
+
+    @Test
+    void arrivalBehindTurnsAtTheEndOfTheSweep() {
+        RouteEvaluation route = route(3, 6);
+
+        assertEquals((2 + 5) * FLOOR_TIME + 2 * STOP_TIME, route.arrivalTime(1, 4, Direction.UP));
+        assertEquals((4 + 2) * FLOOR_TIME + 2 * STOP_TIME, route.arrivalTime(5, Direction.UP, 7, Direction.DOWN));
+    }
+
+    @Test
+    void callAgainstTheSweepWaitsForTheTurn() {
+        RouteEvaluation route = route(3, 6);
+
+        assertEquals((5 + 2) * FLOOR_TIME + 2 * STOP_TIME, route.arrivalTime(4, Direction.DOWN, 1, Direction.UP));
+        assertEquals(3 * FLOOR_TIME + STOP_TIME, route.arrivalTime(4, 1, Direction.UP));
+    }
+
+    @Test
+    void callBehindInTheSweepDirectionWaitsForAFullCycle() {
+        RouteEvaluation route = route(2, 8);
+
+        assertEquals((3 + 6 + 1) * FLOOR_TIME + 2 * STOP_TIME, route.arrivalTime(3, Direction.UP, 5, Direction.UP));
+    }
+
+    @Test
+    void rideTimeCountsIntermediateStopsInBothDirections() {
+        RouteEvaluation route = route(3, 6);
+
+        assertEquals(5 * FLOOR_TIME + 2 * STOP_TIME, route.rideTime(2, 7));
+        assertEquals(5 * FLOOR_TIME + 2 * STOP_TIME, route.rideTime(7, 2));
+        assertEquals(3 * FLOOR_TIME, route.rideTime(3, 6));
+    }
+
+    @Test
+    void insertionDelaysOnlyTheStopsAfterTheNewOne() {
+        RouteEvaluation route = route(3, 6);
+
+        assertEquals(STOP_TIME, route.insertionDelay(4, 1, Direction.UP));
+        assertEquals(2 * STOP_TIME, route.insertionDelay(2, 1, Direction.UP));
+        assertEquals(0, route.insertionDelay(6, 1, Direction.UP));
+    }
+
+    @Test
+    void extendingTheSweepDelaysStopsBehindTheCar() {
+        RouteEvaluation route = route(2, 6);
+
+        assertEquals(STOP_TIME + 2 * 3 * FLOOR_TIME, route.insertionDelay(9, 4, Direction.UP));
+        assertEquals(STOP_TIME + 2 * FLOOR_TIME, route.insertionDelay(1, 4, Direction.DOWN));
+    }
+
+    @Test
+    void containsOnlyPlannedStops() {
+        RouteEvaluation route = route(3, 6, 9);
+
+        assertEquals(3, route.getStopCount());
+        assertTrue(route.contains(6));
+        assertFalse(route.contains(5));
+        assertFalse(route.contains(10));
+    }
+
+    private static RouteEvaluation route(int... stops) {
+        return new RouteEvaluation(stops, 0, FLOOR_TIME, STOP_TIME);
+    }
+}
@@ -0,0 +1,47 @@
+package elevators;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScenarioConfigTest {
+
+    @Test
+    void defaultsToClientGeneratorTraffic() {
+        ScenarioConfig config = ScenarioConfig.builder("Plain", 2, 5, 10).build();
+
+        assertFalse(config.usesTrafficProfile());
+        assertEquals(TrafficProfile.UNIFORM, config.getTrafficProfile());
+        assertArrayEquals(LoadGenerator.uniformWeights(5), config.getFloorWeights());
+    }
+
+    @Test
+    void tunedCopyKeepsTheBuildingProfile() {
+        double[] weights = {4, 1, 1, 1, 2};
+        ScenarioConfig profile = ScenarioConfig.builder("Office", 2, 5, 30)
+                .traffic(TrafficProfile.UP_PEAK, 0.25)
+                .floorWeights(weights)
+                .build();
+        weights[0] = 0;
+
+        ScenarioConfig tuned = profile.withScoringWeights("Tuned", ScoringWeights.DEFAULTS);
+
+        assertTrue(tuned.usesTrafficProfile());
+        assertEquals(TrafficProfile.UP_PEAK, tuned.getTrafficProfile());
+        assertEquals(0.25, tuned.getPeakRate());
+        assertArrayEquals(new double[] {4, 1, 1, 1, 2}, tuned.getFloorWeights());
+        assertEquals(120_000, tuned.getTrafficDurationMillis());
+    }
+
+    @Test
+    void rejectsInvalidTrafficSettings() {
+        assertThrows(IllegalArgumentException.class, () -> ScenarioConfig.builder("Bad", 2, 5, 10)
+                .traffic(TrafficProfile.UP_PEAK, 0).build());
+        assertThrows(IllegalArgumentException.class, () -> ScenarioConfig.builder("Bad", 2, 5, 10)
+                .floorWeights(new double[] {1, 1, 1}).build());
+    }
+}
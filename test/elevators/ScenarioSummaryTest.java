@@ -0,0 +1,71 @@
+package elevators;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ScenarioSummaryTest {
+    private static final ScenarioConfig CONFIG = ScenarioConfig.builder("Test", 2, 10, 1).build();
+    private static final long[] MAKESPANS = {10_000, 12_000, 17_000, 30_000, 31_000};
+
+    @Test
+    void mergedPartialsMatchASingleSummary() {
+        ScenarioSummary whole = new ScenarioSummary(CONFIG);
+        ScenarioSummary first = new ScenarioSummary(CONFIG);
+        ScenarioSummary second = new ScenarioSummary(CONFIG);
+        for (int i = 0; i < MAKESPANS.length; i++) {
+            ScenarioResult result = result(1_000 * (i + 1), MAKESPANS[i]);
+            whole.add(result);
+            (i < 2 ? first : second).add(result);
+        }
+
+        ScenarioSummary merged = first.merge(second);
+
+        assertEquals(whole.getRuns(), merged.getRuns());
+        assertEquals(whole.getRequestsDelivered(), merged.getRequestsDelivered());
+        assertEquals(whole.getProcessedEvents(), merged.getProcessedEvents());
+        for (ScenarioMetric metric : ScenarioMetric.values()) {
+            assertEquals(whole.getMean(metric), merged.getMean(metric), 1e-9);
+            assertEquals(whole.getStandardDeviation(metric), merged.getStandardDeviation(metric), 1e-9);
+        }
+    }
+
+    @Test
+    void reportsMeanDeviationAndConfidenceInterval() {
+        ScenarioSummary summary = new ScenarioSummary(CONFIG);
+        for (long makespan : MAKESPANS) {
+            summary.add(result(1_000, makespan));
+        }
+
+        double sd = Math.sqrt((100 + 64 + 9 + 100 + 121) / 4.0);
+        assertEquals(20.0, summary.getMean(ScenarioMetric.MAKESPAN), 1e-9);
+        assertEquals(sd, summary.getStandardDeviation(ScenarioMetric.MAKESPAN), 1e-9);
+        assertEquals(1.96 * sd / Math.sqrt(5), summary.getConfidenceHalfWidth(ScenarioMetric.MAKESPAN), 1e-9);
+        assertEquals(1.0, summary.getMean(ScenarioMetric.MEAN_WAIT), 1e-9);
+    }
+
+    @Test
+    void mergingWithAnEmptySummaryChangesNothing() {
+        ScenarioSummary summary = new ScenarioSummary(CONFIG);
+        summary.add(result(2_000, 10_000));
+
+        summary.merge(new ScenarioSummary(CONFIG));
+        ScenarioSummary copy = new ScenarioSummary(CONFIG).merge(summary);
+
+        assertEquals(1, summary.getRuns());
+        assertEquals(1, copy.getRuns());
+        assertEquals(2.0, copy.getMean(ScenarioMetric.MEAN_WAIT), 1e-9);
+        assertEquals(0.0, copy.getStandardDeviation(ScenarioMetric.MEAN_WAIT));
+        assertEquals(0.0, copy.getConfidenceHalfWidth(ScenarioMetric.MEAN_WAIT));
+    }
+
+    private static ScenarioResult result(long waitMillis, long makespanMillis) {
+        RequestMetrics metrics = new RequestMetrics(1, 2, 10);
+        PassengerRequest request = new PassengerRequest(1, Direction.UP, 5, 0);
+        request.markAssigned(0, 1);
+        request.markBoarded(waitMillis);
+        request.markDelivered(waitMillis + 4_000);
+        metrics.recordDelivery(request, 1);
+        return new ScenarioResult(0, 1, metrics, 2, makespanMillis, 10);
+    }
+}
@@ -0,0 +1,69 @@
+package elevators;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ShardedDispatcherTest {
+    private LogLevel previousLevel;
+
+    @BeforeEach
+    void silenceLogging() {
+        previousLevel = LoggerUtil.getThreadLevel();
+        LoggerUtil.setThreadLevel(LogLevel.OFF);
+    }
+
+    @AfterEach
+    void restoreLogging() {
+        LoggerUtil.setThreadLevel(previousLevel);
+    }
+
+    @Test
+    void evenZonesCoverEveryFloorAndCar() {
+        List<BuildingZone> zones = ShardedDispatcher.evenZones(20, 7, 3);
+
+        assertEquals(3, zones.size());
+        assertEquals(1, zones.get(0).getLowestFloor());
+        assertEquals(20, zones.get(2).getHighestFloor());
+        for (int i = 1; i < zones.size(); i++) {
+            assertEquals(zones.get(i - 1).getHighestFloor() + 1, zones.get(i).getLowestFloor());
+        }
+        assertEquals(List.of(3, 2, 2), zones.stream().map(BuildingZone::getElevatorCount).toList());
+    }
+
+    @Test
+    void singleZoneServesTheWholeBuilding() {
+        BuildingZone zone = ShardedDispatcher.evenZones(12, 3, 1).get(0);
+
+        assertEquals(1, zone.getLowestFloor());
+        assertEquals(12, zone.getHighestFloor());
+        assertEquals(3, zone.getElevatorCount());
+    }
+
+    @Test
+    void rejectsMoreZonesThanCars() {
+        assertThrows(IllegalArgumentException.class, () -> ShardedDispatcher.evenZones(20, 2, 3));
+        assertThrows(IllegalArgumentException.class, () -> ShardedDispatcher.evenZones(20, 2, 0));
+    }
+
+    @Test
+    void aggregatesCountersAcrossShards() {
+        ShardedDispatcher dispatcher = new ShardedDispatcher(12, ShardedDispatcher.evenZones(12, 4, 2),
+                new ElevatorRuntime());
+
+        assertEquals(AdmissionResult.ACCEPTED, dispatcher.addRequest(new PassengerRequest(2, Direction.UP, 5, 0)));
+        assertEquals(AdmissionResult.ACCEPTED, dispatcher.addRequest(new PassengerRequest(1, Direction.UP, 9, 0)));
+        assertEquals(AdmissionResult.REJECTED_UNROUTABLE,
+                dispatcher.addRequest(new PassengerRequest(3, Direction.UP, 10, 0)));
+
+        assertEquals(4, dispatcher.getNumberOfElevators());
+        assertEquals(2, dispatcher.getAdmittedRequests());
+        assertEquals(1, dispatcher.getRejectedRequests());
+        assertEquals(1, dispatcher.getUnroutableRequests());
+    }
+}
@@ -0,0 +1,116 @@
+package elevators;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SimulationEngineTest {
+    private LogLevel previousLevel;
+
+    @BeforeEach
+    void silenceLogging() {
+        previousLevel = LoggerUtil.getThreadLevel();
+        LoggerUtil.setThreadLevel(LogLevel.OFF);
+    }
+
+    @AfterEach
+    void restoreLogging() {
+        LoggerUtil.setThreadLevel(previousLevel);
+    }
+
+    @Test
+    void deliversASingleRequestInVirtualTime() {
+        SimulationEngine engine = new SimulationEngine(1, 10);
+        engine.scheduleRequest(1_000, 1, 5);
+
+        engine.run();
+
+        RequestMetrics metrics = engine.getDispatcher().getMetrics();
+        assertEquals(1, engine.getRequestsScheduled());
+        assertEquals(1, metrics.getJourneyTime().getCount());
+        assertTrue(metrics.getRideTime().getMax() >= 4 * Elevator.MOVEMENT_TIME_PER_FLOOR);
+        assertTrue(engine.getSimulatedTime() > 1_000);
+    }
+
+    @Test
+    void sameScheduleGivesTheSameRun() {
+        SimulationEngine first = busyEngine();
+        SimulationEngine second = busyEngine();
+
+        first.run();
+        second.run();
+
+        assertEquals(first.getSimulatedTime(), second.getSimulatedTime());
+        assertEquals(first.getProcessedEventCount(), second.getProcessedEventCount());
+        assertEquals(first.getDispatcher().getMetrics().getWaitTime().getMean(),
+                second.getDispatcher().getMetrics().getWaitTime().getMean());
+    }
+
+    @Test
+    void traceArrivalsAreRelativeToTheFirstRecord() {
+        SimulationEngine traced = new SimulationEngine(2, 10);
+        traced.scheduleTrace(List.of(new TraceRecord(5_000, 1, 6), new TraceRecord(7_000, 6, 2),
+                new TraceRecord(9_000, 2, 8)).iterator());
+        SimulationEngine scheduled = new SimulationEngine(2, 10);
+        scheduled.scheduleRequest(0, 1, 6);
+        scheduled.scheduleRequest(2_000, 6, 2);
+        scheduled.scheduleRequest(4_000, 2, 8);
+
+        traced.run();
+        scheduled.run();
+
+        assertEquals(3, traced.getRequestsScheduled());
+        assertEquals(3, traced.getDispatcher().getMetrics().getJourneyTime().getCount());
+        assertEquals(scheduled.getSimulatedTime(), traced.getSimulatedTime());
+    }
+
+    @Test
+    void rejectsRequestsOutsideTheBuilding() {
+        SimulationEngine engine = new SimulationEngine(1, 10);
+        engine.scheduleRequest(0, 1, 15);
+        engine.scheduleRequest(0, 2, 4);
+
+        engine.run();
+
+        assertEquals(1, engine.getDispatcher().getRejectedRequests());
+        assertEquals(1, engine.getDispatcher().getMetrics().getJourneyTime().getCount());
+    }
+
+    @Test
+    void passengersLeftBehindByAFullCarAreDeliveredLater() {
+        SimulationEngine engine = new SimulationEngine(1, 10);
+        engine.getDispatcher().setCarCapacity(1);
+        for (int target = 5; target <= 8; target++) {
+            engine.scheduleRequest(0, 1, target);
+        }
+
+        engine.run();
+
+        assertEquals(4, engine.getDispatcher().getMetrics().getJourneyTime().getCount());
+    }
+
+    @Test
+    void batchAssignmentDeliversEveryRequest() {
+        SimulationEngine engine = new SimulationEngine(3, 12);
+        engine.enableBatchAssignment(8, 500, 1_000);
+        for (int i = 0; i < 6; i++) {
+            engine.scheduleRequest(i * 100L, 1 + i, 12 - i);
+        }
+
+        engine.run();
+
+        assertEquals(6, engine.getDispatcher().getMetrics().getJourneyTime().getCount());
+        assertTrue(engine.getDispatcher().getTotalBatches() >= 1);
+    }
+
+    private static SimulationEngine busyEngine() {
+        SimulationEngine engine = new SimulationEngine(3, 15);
+        LoadGenerator.forSimulation(15, TrafficProfile.LUNCH, 1.0, 120_000, 42).scheduleRequests(engine);
+        return engine;
+    }
+}
@@ -0,0 +1,120 @@
+package elevators;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TraceReaderTest {
+    private Path trace;
+
+    @BeforeEach
+    void createTrace() throws IOException {
+        trace = Files.createTempFile("trace", ".txt");
+    }
+
+    @AfterEach
+    void deleteTrace() throws IOException {
+        Files.deleteIfExists(trace);
+    }
+
+    @Test
+    void readsCsvWithHeaderCommentsAndBlankLines() throws IOException {
+        Files.writeString(trace, "# recorded lobby traffic\n\ntime,floor,target\r\n0,1,5\r\n  250 , 7 ; 2\n");
+
+        List<String> records = readAll(1024);
+
+        assertEquals(List.of("0: 1->5", "250: 7->2"), records);
+    }
+
+    @Test
+    void readsJsonLinesInAnyFieldOrder() throws IOException {
+        Files.writeString(trace, "{\"floor\": 3, \"target\": 9, \"time\": 10}\n" +
+                "{\"timestamp\": \"20\", \"targetFloor\": 1, \"floor\": 4}\n" +
+                "{\"source\": \"lobby kiosk\", \"time\": 30, \"floor\": 1, \"target\": 6}");
+
+        assertEquals(List.of("10: 3->9", "20: 4->1", "30: 1->6"), readAll(1024));
+    }
+
+    @Test
+    void skipsTripsToTheSameFloor() throws IOException {
+        Files.writeString(trace, "0,2,2\n5,2,3\n");
+
+        try (TraceReader reader = new TraceReader(trace)) {
+            assertEquals("5: 2->3", reader.next().toString());
+            assertFalse(reader.hasNext());
+            assertEquals(1, reader.getSkippedLines());
+            assertEquals(2, reader.getLineNumber());
+        }
+    }
+
+    @Test
+    void keepsNegativeValuesForTheCallerToValidate() throws IOException {
+        Files.writeString(trace, "-5,-1,3\n");
+
+        assertEquals(List.of("-5: -1->3"), readAll(1024));
+    }
+
+    @Test
+    void readsAcrossWindowBoundaries() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            content.append(i * 100).append(',').append(1 + i % 9).append(",10\n");
+        }
+        Files.writeString(trace, content);
+
+        List<String> records = readAll(16);
+
+        assertEquals(50, records.size());
+        assertEquals("4900: 5->10", records.get(49));
+    }
+
+    @Test
+    void rejectsLinesLongerThanTheWindow() throws IOException {
+        Files.writeString(trace, "1000000,1,5\n");
+
+        assertThrows(UncheckedIOException.class, () -> readAll(4));
+    }
+
+    @Test
+    void headerIsOnlyAllowedOnTheFirstLine() throws IOException {
+        Files.writeString(trace, "0,1,5\ntime,floor,target\n");
+
+        try (TraceReader reader = new TraceReader(trace)) {
+            assertTrue(reader.hasNext());
+            reader.next();
+            UncheckedIOException e = assertThrows(UncheckedIOException.class, reader::hasNext);
+            assertTrue(e.getCause().getMessage().contains("line 2"));
+        }
+    }
+
+    @Test
+    void rejectsShortCsvAndIncompleteJson() throws IOException {
+        Files.writeString(trace, "0,1\n");
+        assertThrows(UncheckedIOException.class, () -> readAll(1024));
+
+        Files.writeString(trace, "{\"time\": 0, \"floor\": 1}\n");
+        assertThrows(UncheckedIOException.class, () -> readAll(1024));
+    }
+
+    private List<String> readAll(long windowSize) throws IOException {
+        List<String> records = new ArrayList<>();
+        try (TraceReader reader = new TraceReader(trace, windowSize)) {
+            while (reader.hasNext()) {
+                records.add(reader.next().toString());
+            }
+        }
+        return records;
+    }
+}
@@ -0,0 +1,64 @@
+package elevators;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TraceReplayerTest {
+    private LogLevel previousLevel;
+    private Path trace;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        previousLevel = LoggerUtil.getThreadLevel();
+        LoggerUtil.setThreadLevel(LogLevel.OFF);
+        trace = Files.createTempFile("trace", ".csv");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        LoggerUtil.setThreadLevel(previousLevel);
+        Files.deleteIfExists(trace);
+    }
+
+    @Test
+    void countsAcceptedAndRejectedSeparately() throws IOException {
+        Files.writeString(trace, "time,floor,target\n0,1,5\n10,2,6\n20,3,1\n30,12,1\n");
+        List<PassengerRequest> received = new ArrayList<>();
+        TraceReplayer replayer = new TraceReplayer(trace, request -> {
+            received.add(request);
+            return request.getFloor() == 2 ? AdmissionResult.REJECTED_FULL : AdmissionResult.ACCEPTED;
+        }, TraceReplayer.MAX_SPEED, 10);
+
+        replayer.run();
+
+        assertNull(replayer.getFailure());
+        assertEquals(3, received.size());
+        assertEquals(3, replayer.getReplayedCount());
+        assertEquals(2, replayer.getAcceptedCount());
+        assertEquals(1, replayer.getRejectedCount());
+        assertEquals(1, replayer.getInvalidCount());
+    }
+
+    @Test
+    void malformedLineIsReportedAsFailure() throws IOException {
+        Files.writeString(trace, "0,1,5\n10,x,6\n20,3,1\n");
+        TraceReplayer replayer = new TraceReplayer(trace, request -> AdmissionResult.ACCEPTED,
+                TraceReplayer.MAX_SPEED, 10);
+
+        replayer.run();
+
+        assertNotNull(replayer.getFailure());
+        assertEquals(1, replayer.getAcceptedCount());
+    }
+}
@@ -0,0 +1,84 @@
+package elevators;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TrafficForecastTest {
+    private static final long SLOT = 60_000;
+    private static final long DAY = 60 * SLOT;
+    private static final long HALF_LIFE = 60_000;
+
+    @Test
+    void rejectsInvalidWindows() {
+        assertThrows(IllegalArgumentException.class, () -> new TrafficForecast(10, 0, DAY, HALF_LIFE, 0.8, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> new TrafficForecast(10, DAY, SLOT, HALF_LIFE, 0.8, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> new TrafficForecast(10, SLOT, DAY, 0, 0.8, 0.5));
+    }
+
+    @Test
+    void ignoresFloorsOutsideTheBuilding() {
+        TrafficForecast forecast = forecast(0.5);
+        forecast.observe(0, 0);
+        forecast.observe(11, 0);
+
+        assertEquals(0, forecast.getObservations());
+        assertEquals(0.0, forecast.expectedRate(11, 0));
+        assertEquals(60, forecast.getSlotsPerDay());
+    }
+
+    @Test
+    void freshForecastExpectsNothing() {
+        TrafficForecast forecast = forecast(0.5);
+
+        assertEquals(0.0, forecast.expectedRate(3, 5_000));
+        assertEquals(0, forecast.busiestFloors(5_000, 3, 0.001).length);
+    }
+
+    @Test
+    void recentDemandHalvesEveryHalfLife() {
+        TrafficForecast forecast = forecast(0.0);
+        forecast.observe(3, 0);
+
+        double now = forecast.expectedRate(3, 0);
+        double later = forecast.expectedRate(3, HALF_LIFE);
+
+        assertEquals(2.0, now / later, 1e-9);
+    }
+
+    @Test
+    void historyPredictsTheSameSlotOnTheNextDay() {
+        TrafficForecast forecast = forecast(1.0);
+        for (int i = 0; i < 10; i++) {
+            forecast.observe(5, 2 * SLOT + i * 1_000);
+        }
+
+        assertEquals(10.0, forecast.expectedRate(5, DAY + 2 * SLOT), 1e-9);
+        assertEquals(0.0, forecast.expectedRate(5, DAY + 20 * SLOT), 1e-9);
+        assertEquals(10, forecast.getObservations());
+    }
+
+    @Test
+    void busiestFloorsAreOrderedByDemandAboveTheMinimum() {
+        TrafficForecast forecast = forecast(0.0);
+        observe(forecast, 2, 3);
+        observe(forecast, 7, 1);
+        observe(forecast, 4, 5);
+
+        assertArrayEquals(new int[] {4, 2}, forecast.busiestFloors(0, 2, 0.001));
+        assertArrayEquals(new int[] {4, 2, 7}, forecast.busiestFloors(0, 5, 0.001));
+        assertArrayEquals(new int[] {4}, forecast.busiestFloors(0, 5, forecast.expectedRate(2, 0) + 0.001));
+    }
+
+    private static TrafficForecast forecast(double historyWeight) {
+        return new TrafficForecast(10, SLOT, DAY, HALF_LIFE, 0.8, historyWeight);
+    }
+
+    private static void observe(TrafficForecast forecast, int floor, int times) {
+        for (int i = 0; i < times; i++) {
+            forecast.observe(floor, 0);
+        }
+    }
+}
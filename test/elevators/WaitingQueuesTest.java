@@ -0,0 +1,91 @@
+package elevators;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WaitingQueuesTest {
+
+    @Test
+    void queuesPerFloorAndDirectionInArrivalOrder() {
+        WaitingQueues queues = new WaitingQueues(10);
+        PassengerRequest first = new PassengerRequest(3, Direction.UP, 7, 0);
+        PassengerRequest second = new PassengerRequest(3, Direction.UP, 5, 0);
+        PassengerRequest down = new PassengerRequest(3, Direction.DOWN, 1, 0);
+        queues.add(first);
+        queues.add(down);
+        queues.add(second);
+
+        assertEquals(2, queues.size(3, Direction.UP));
+        assertEquals(1, queues.size(3, Direction.DOWN));
+        assertEquals(3, queues.getWaitingCount());
+        assertSame(first, queues.poll(3, Direction.UP));
+        assertSame(second, queues.poll(3, Direction.UP));
+        assertNull(queues.poll(3, Direction.UP));
+        assertEquals(1, queues.getWaitingCount());
+    }
+
+    @Test
+    void priorityCallsGoToTheFrontOfTheirQueue() {
+        WaitingQueues queues = new WaitingQueues(10);
+        queues.add(new PassengerRequest(2, Direction.UP, 6, 0));
+        PassengerRequest medical = new PassengerRequest(2, Direction.UP, 9, 0, CallPriority.MEDICAL);
+        queues.add(medical);
+
+        assertSame(medical, queues.peek(2, Direction.UP));
+        assertTrue(queues.hasPreemptive(2, Direction.UP));
+        assertEquals(Direction.UP, queues.preemptiveDirection(2));
+        assertNull(queues.preemptiveDirection(3));
+    }
+
+    @Test
+    void preemptiveCallIsFoundBehindAnotherPriorityCall() {
+        WaitingQueues queues = new WaitingQueues(10);
+        queues.add(new PassengerRequest(4, Direction.DOWN, 1, 0, CallPriority.MEDICAL));
+        queues.add(new PassengerRequest(4, Direction.DOWN, 2, 0, CallPriority.VIP));
+
+        assertTrue(queues.hasPreemptive(4, Direction.DOWN));
+        assertEquals(Direction.DOWN, queues.preemptiveDirection(4));
+    }
+
+    @Test
+    void drainEmptiesOnlyOneDirection() {
+        WaitingQueues queues = new WaitingQueues(10);
+        queues.add(new PassengerRequest(5, Direction.UP, 8, 0));
+        queues.add(new PassengerRequest(5, Direction.UP, 9, 0));
+        queues.add(new PassengerRequest(5, Direction.DOWN, 2, 0));
+
+        assertEquals(2, queues.drain(5, Direction.UP).size());
+        assertEquals(List.of(), queues.drain(5, Direction.UP));
+        assertEquals(1, queues.size(5, Direction.DOWN));
+        assertEquals(1, queues.getWaitingCount());
+        assertFalse(queues.isEmpty());
+    }
+
+    @Test
+    void headsListsTheFrontOfEveryNonEmptyQueue() {
+        WaitingQueues queues = new WaitingQueues(10);
+        PassengerRequest up = new PassengerRequest(1, Direction.UP, 4, 0);
+        PassengerRequest down = new PassengerRequest(7, Direction.DOWN, 3, 0);
+        queues.add(up);
+        queues.add(new PassengerRequest(1, Direction.UP, 5, 0));
+        queues.add(down);
+
+        assertEquals(List.of(up, down), queues.heads());
+    }
+
+    @Test
+    void ignoresFloorsOutsideTheBuilding() {
+        WaitingQueues queues = new WaitingQueues(10);
+
+        assertEquals(0, queues.size(11, Direction.UP));
+        assertNull(queues.poll(-1, Direction.DOWN));
+        assertTrue(queues.isEmpty());
+    }
+}